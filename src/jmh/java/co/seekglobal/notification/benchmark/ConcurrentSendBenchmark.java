@@ -0,0 +1,70 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.application.usecase.SendNotificationUseCase;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.metrics.InMemoryNotificationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one shared use case (with in-memory metrics) as callers are added. Scaling below linear from 1 to 8
+ * threads points at shared state on the send path; 64 threads shows behaviour once callers outnumber cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentSendBenchmark {
+
+    private SendNotificationUseCase useCase;
+    private SendNotificationRequest request;
+
+    @Setup
+    public void setUp() {
+        Set<NotificationSenderProvider> providers = Set.of(new NoopSenderProvider(NotificationChannel.SMS, "SMS_PROVIDER_1"));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, providers))
+                .metrics(new InMemoryNotificationMetrics())
+                .build();
+        request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("Your verification code is 123456")
+                .build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object threads1() {
+        return useCase.send(request);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object threads8() {
+        return useCase.send(request);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object threads64() {
+        return useCase.send(request);
+    }
+}
@@ -0,0 +1,122 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.application.usecase.SendNotificationUseCase;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Messages per millisecond when bursts of {@value #BURST} sends go through {@link SendNotificationUseCase#deliverAsync}
+ * to a provider that blocks for {@code providerMicros}, on a fixed platform pool sized to the cores versus one virtual
+ * thread per send. The {@code virtual} variant needs JDK 21 or later and fails its setup on older runtimes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorSendBenchmark {
+
+    private static final int BURST = 64;
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"0", "200"})
+    public long providerMicros;
+
+    private ExecutorService executorService;
+    private SendNotificationUseCase useCase;
+    private Notification notification;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        executorService = switch (executor) {
+            case "platform" -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            case "virtual" -> virtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown executor " + executor);
+        };
+        Set<NotificationSenderProvider> providers = Set.of(new BlockingSenderProvider(providerMicros));
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.PUSH, providers));
+        notification = Notification.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token-123")
+                .body("Hello")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Object burst() {
+        var results = new CompletableFuture<?>[BURST];
+        for (var i = 0; i < BURST; i++) {
+            results[i] = useCase.deliverAsync(notification, executorService).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(results).join();
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require JDK 21 or later, running on "
+                    + Runtime.version(), e);
+        }
+    }
+
+    private static final class BlockingSenderProvider implements NotificationSenderProvider {
+
+        private final long latencyNanos;
+
+        private BlockingSenderProvider(long latencyMicros) {
+            this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        }
+
+        @Override
+        public NotificationResult send(Notification notification) {
+            if (latencyNanos > 0) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+            return NotificationResult.success(notification.getId(), notification.getId(), getChannel(), getProviderName());
+        }
+
+        @Override
+        public NotificationChannel getChannel() {
+            return NotificationChannel.PUSH;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "PUSH_PROVIDER_1";
+        }
+    }
+}
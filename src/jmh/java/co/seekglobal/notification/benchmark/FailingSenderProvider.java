@@ -0,0 +1,37 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+
+/**
+ * Provider that always fails immediately, used to build fallback chains of a given depth.
+ */
+public final class FailingSenderProvider implements NotificationSenderProvider {
+
+    private final NotificationChannel channel;
+    private final String providerName;
+
+    public FailingSenderProvider(NotificationChannel channel, String providerName) {
+        this.channel = channel;
+        this.providerName = providerName;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        return NotificationResult.failure(notification.getId(), channel, providerName, ErrorCode.UNKNOWN_ERROR,
+                "Provider unavailable");
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+}
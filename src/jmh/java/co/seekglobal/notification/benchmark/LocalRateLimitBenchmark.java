@@ -0,0 +1,67 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.ratelimit.LocalRateLimitConfig;
+import co.seekglobal.notification.infrastructure.ratelimit.LocalRateLimitSenderProviderDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.api.RateIntervalUnit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-send overhead of the in-process rate limiter. The limit is high enough that no call ever waits, so the
+ * difference between both benchmarks is the cost of taking a permit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalRateLimitBenchmark {
+
+    private NotificationSenderProvider direct;
+    private NotificationSenderProvider rateLimited;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        direct = new NoopSenderProvider(NotificationChannel.PUSH, "PUSH_PROVIDER_1");
+        rateLimited = LocalRateLimitSenderProviderDecorator.factory()
+                .delegate(direct)
+                .config(LocalRateLimitConfig.builder()
+                        .maxRequestsPerWindow(Integer.MAX_VALUE)
+                        .rate(1)
+                        .rateIntervalUnit(RateIntervalUnit.SECONDS)
+                        .maxWait(Duration.ZERO)
+                        .build())
+                .build();
+        notification = Notification.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token-123")
+                .body("Hello")
+                .build();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return direct.send(notification);
+    }
+
+    @Benchmark
+    public Object rateLimited() {
+        return rateLimited.send(notification);
+    }
+}
@@ -0,0 +1,69 @@
+package co.seekglobal.notification.benchmark;
+
+import org.redisson.api.RFuture;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Offline stand-in for Redis: an {@link RRateLimiter} that always grants permits and counts the round-trips it
+ * would have cost, exposed through a {@link RedissonClient} proxy.
+ */
+public final class LocalRedisStandIn {
+
+    private final LongAdder calls = new LongAdder();
+    private final RRateLimiter rateLimiter = proxy(RRateLimiter.class, this::rateLimiterCall);
+    private final RedissonClient client = proxy(RedissonClient.class, this::clientCall);
+
+    public RedissonClient client() {
+        return client;
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    private Object clientCall(Method method, Object[] args) {
+        if (method.getName().equals("getRateLimiter")) {
+            return rateLimiter;
+        }
+        throw new UnsupportedOperationException(method.getName());
+    }
+
+    private Object rateLimiterCall(Method method, Object[] args) {
+        calls.increment();
+        var returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return true;
+        }
+        if (returnType == RFuture.class) {
+            return method.getName().startsWith("try")
+                    ? new CompletableFutureWrapper<>(Boolean.TRUE)
+                    : new CompletableFutureWrapper<>((Void) null);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "StandIn";
+                };
+            }
+            return handler.invoke(method, args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args);
+    }
+}
@@ -0,0 +1,68 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.metrics.InMemoryNotificationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics recorded by the use case for one successful send (send, provider call, outcome). Run with {@code -prof gc}
+ * to check that {@code gc.alloc.rate.norm} stays at zero bytes per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    private static final String PROVIDER = "SMS_PROVIDER_1";
+
+    private NotificationMetrics noop;
+    private NotificationMetrics inMemory;
+    private long latency;
+
+    @Setup
+    public void setUp() {
+        noop = NotificationMetrics.NOOP;
+        inMemory = new InMemoryNotificationMetrics();
+        inMemory.recordProviderCall(NotificationChannel.SMS, PROVIDER, 0, null);
+    }
+
+    @Benchmark
+    public void noop() {
+        record(noop);
+    }
+
+    @Benchmark
+    public void inMemory() {
+        record(inMemory);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void inMemoryContended() {
+        record(inMemory);
+    }
+
+    private void record(NotificationMetrics metrics) {
+        latency = (latency + 7_919) & 0xFFFFFF;
+        metrics.recordSend(NotificationChannel.SMS);
+        metrics.recordProviderCall(NotificationChannel.SMS, PROVIDER, latency, null);
+        metrics.recordOutcome(NotificationChannel.SMS, (ErrorCode) null, 0);
+    }
+}
@@ -0,0 +1,35 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+
+/**
+ * Provider that succeeds immediately without logging, so benchmarks measure the pipeline and not the console.
+ */
+public final class NoopSenderProvider implements NotificationSenderProvider {
+
+    private final NotificationChannel channel;
+    private final String providerName;
+
+    public NoopSenderProvider(NotificationChannel channel, String providerName) {
+        this.channel = channel;
+        this.providerName = providerName;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        return NotificationResult.success(notification.getId(), notification.getId(), channel, providerName);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+}
@@ -0,0 +1,76 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message allocation of the domain objects every send creates: the {@link SendNotificationRequest} to
+ * notification conversion and the provider's {@link NotificationResult}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotificationModelBenchmark {
+
+    private SendNotificationRequest request;
+    private SendNotificationRequest templatedRequest;
+
+    @Setup
+    public void setUp() {
+        request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe@example.com")
+                .subject("Your order has shipped")
+                .body("Order 1234 is on its way")
+                .build();
+        templatedRequest = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe@example.com")
+                .templateId("order-shipped")
+                .templateVariables(Map.of("orderId", "1234", "carrier", "DHL"))
+                .metadata(Map.of("tenant", "acme"))
+                .priority(Priority.HIGH)
+                .ttlSeconds(3_600)
+                .build();
+    }
+
+    @Benchmark
+    public Object toNotification() {
+        return request.toNotification();
+    }
+
+    @Benchmark
+    public Object toNotificationTemplated() {
+        return templatedRequest.toNotification();
+    }
+
+    @Benchmark
+    public Object successResult() {
+        return NotificationResult.success("notification-1", "message-1", NotificationChannel.EMAIL, "EMAIL_PROVIDER_1");
+    }
+
+    @Benchmark
+    public Object failureResult() {
+        return NotificationResult.failure("notification-1", NotificationChannel.EMAIL, "EMAIL_PROVIDER_1",
+                ErrorCode.UNKNOWN_ERROR, "Provider unavailable");
+    }
+}
@@ -0,0 +1,89 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.infrastructure.outbox.MappedOutbox;
+import co.seekglobal.notification.infrastructure.outbox.MappedOutboxConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state outbox cost: each operation appends an accepted notification and then completes it, so segments are
+ * rolled and deleted as they would be in production. Set {@code java.io.tmpdir} to the disk under test.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutboxBenchmark {
+
+    private Path directory;
+    private MappedOutbox outbox;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("outbox-bench");
+        outbox = new MappedOutbox(MappedOutboxConfig.builder().directory(directory).build());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        outbox.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sends {
+
+        Notification notification;
+        NotificationResult result;
+
+        @Setup
+        public void setUp() {
+            notification = Notification.builder()
+                    .channel(NotificationChannel.EMAIL)
+                    .recipient("jane.doe@example.com")
+                    .subject("Your order has shipped")
+                    .templateId("order-shipped")
+                    .templateVariables(Map.of("name", "Jane", "order", "A-10293", "items", 3))
+                    .metadata(Map.of("tenant", "cl"))
+                    .build();
+            result = NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.EMAIL, "EMAIL_1");
+        }
+    }
+
+    @Benchmark
+    public void appendAndComplete(Sends sends) {
+        outbox.append(sends.notification);
+        outbox.complete(sends.result);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void appendAndCompleteContended(Sends sends) {
+        outbox.append(sends.notification);
+        outbox.complete(sends.result);
+    }
+}
@@ -0,0 +1,85 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.ratelimit.DistributedRateLimitConfig;
+import co.seekglobal.notification.infrastructure.ratelimit.RedissonRateLimitSenderProviderDecorator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis round-trips per sent message through the rate limit decorator, with and without permit leasing.
+ * Compare the {@code redisCalls} and {@code messages} secondary results of each run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PermitLeaseBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int leaseSize;
+
+    private LocalRedisStandIn redis;
+    private RedissonRateLimitSenderProviderDecorator decorator;
+    private Notification notification;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new LocalRedisStandIn();
+        decorator = RedissonRateLimitSenderProviderDecorator.factory()
+                .delegate(new NoopSenderProvider(NotificationChannel.SMS, "SMS_PROVIDER_1"))
+                .config(DistributedRateLimitConfig.builder()
+                        .maxRequestsPerWindow(1_000)
+                        .maxWait(Duration.ZERO)
+                        .leaseSize(leaseSize)
+                        .maxLeaseHold(Duration.ofSeconds(5))
+                        .build())
+                .redissonClient(redis.client())
+                .build();
+        notification = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("OTP 1234")
+                .build();
+    }
+
+    @Benchmark
+    public Object send(Counters counters) {
+        var before = redis.calls();
+        var result = decorator.send(notification);
+        counters.messages++;
+        counters.redisCalls += redis.calls() - before;
+        return result;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        public long messages;
+        public long redisCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+            redisCalls = 0;
+        }
+    }
+}
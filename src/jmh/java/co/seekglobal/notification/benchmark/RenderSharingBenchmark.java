@@ -0,0 +1,61 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.adapters.email.EmailContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider-side rendering cost of an email that fails over from the primary to the secondary provider. Both
+ * benchmarks start from a fresh notification; {@code shared} goes through {@link Notification#rendered}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderSharingBenchmark {
+
+    private Notification template;
+
+    @Setup
+    public void setUp() {
+        template = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe@example.com")
+                .subject("Your weekly summary is ready & waiting")
+                .body("Hi Jane,\n<b>Here is</b> what happened this week: \"orders\" & 'returns'.\n".repeat(30))
+                .build();
+    }
+
+    @Benchmark
+    public void unshared(Blackhole blackhole) {
+        var notification = template.toBuilder().build();
+        for (var maxSubject : new int[]{998, 255}) {
+            blackhole.consume(EmailContent.HTML_BODY.render(notification));
+            blackhole.consume(EmailContent.subject(notification, maxSubject));
+        }
+    }
+
+    @Benchmark
+    public void shared(Blackhole blackhole) {
+        var notification = template.toBuilder().build();
+        for (var maxSubject : new int[]{998, 255}) {
+            blackhole.consume(notification.rendered(EmailContent.HTML_BODY));
+            blackhole.consume(EmailContent.subject(notification, maxSubject));
+        }
+    }
+}
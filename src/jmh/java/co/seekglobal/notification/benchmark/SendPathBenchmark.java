@@ -0,0 +1,67 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.application.usecase.SendNotificationUseCase;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.adapters.sms.MockSmsSenderProvider;
+import co.seekglobal.notification.infrastructure.logging.SendEventLogConfig;
+import co.seekglobal.notification.infrastructure.logging.SendEventLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SendNotificationUseCase#send} for an SMS that reaches the successful provider after
+ * {@code depth - 1} failing ones; {@code depth = 1} is a plain single send. The successful provider is the SMS
+ * adapter with its send events sampled out, so validation and segmenting are measured but console output is not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SendPathBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int depth;
+
+    private SendNotificationUseCase useCase;
+    private SendNotificationRequest request;
+
+    @Setup
+    public void setUp() {
+        Set<NotificationSenderProvider> providers = new LinkedHashSet<>();
+        for (var i = 1; i < depth; i++) {
+            providers.add(new FailingSenderProvider(NotificationChannel.SMS, "SMS_FAILING_" + i));
+        }
+        providers.add(MockSmsSenderProvider.factory()
+                .eventLogger(new SendEventLogger(SendEventLogConfig.builder().sampleRate(0).build()))
+                .build());
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.SMS, providers));
+        request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("Your verification code is 123456")
+                .build();
+    }
+
+    @Benchmark
+    public Object send() {
+        return useCase.send(request);
+    }
+}
@@ -0,0 +1,118 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.Priority;
+import co.seekglobal.notification.infrastructure.serialization.NotificationCodec;
+import co.seekglobal.notification.infrastructure.serialization.NotificationJacksonModule;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a templated notification with {@link NotificationCodec}, the tuned
+ * {@link NotificationJacksonModule} and a default reflective {@link ObjectMapper} (builder mix-in plus
+ * {@link JavaTimeModule}, the minimum needed for it to round-trip). Encoded sizes are printed on setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private Notification notification;
+    private ObjectMapper tuned;
+    private ObjectMapper reflective;
+    private ByteBuffer binaryTarget;
+    private byte[] binary;
+    private byte[] tunedJson;
+    private byte[] reflectiveJson;
+
+    @JsonDeserialize(builder = Notification.NotificationBuilder.class)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    interface NotificationMixIn {
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    interface NotificationBuilderMixIn {
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        notification = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe@example.com")
+                .subject("Your order has shipped")
+                .templateId("order-shipped")
+                .templateVariables(Map.of("name", "Jane", "order", "A-10293", "items", 3, "total", 59.9))
+                .metadata(Map.of("tenant", "cl", "campaign", "spring-sale"))
+                .priority(Priority.HIGH)
+                .scheduledAt(OffsetDateTime.now().plusMinutes(5))
+                .ttlSeconds(3600)
+                .from("noreply@seek.co")
+                .build();
+
+        tuned = new ObjectMapper().registerModule(new NotificationJacksonModule());
+        reflective = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .addMixIn(Notification.class, NotificationMixIn.class)
+                .addMixIn(Notification.NotificationBuilder.class, NotificationBuilderMixIn.class);
+
+        binaryTarget = ByteBuffer.allocate(4096);
+        binary = NotificationCodec.encode(notification);
+        tunedJson = tuned.writeValueAsBytes(notification);
+        reflectiveJson = reflective.writeValueAsBytes(notification);
+        System.out.printf("%nEncoded sizes: binary=%d B, tuned JSON=%d B, default JSON=%d B%n",
+                binary.length, tunedJson.length, reflectiveJson.length);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        NotificationCodec.encode(notification, binaryTarget.clear());
+        return binaryTarget;
+    }
+
+    @Benchmark
+    public Notification binaryDecode() {
+        return NotificationCodec.decodeNotification(ByteBuffer.wrap(binary));
+    }
+
+    @Benchmark
+    public byte[] tunedJsonEncode() throws Exception {
+        return tuned.writeValueAsBytes(notification);
+    }
+
+    @Benchmark
+    public Notification tunedJsonDecode() throws Exception {
+        return tuned.readValue(tunedJson, Notification.class);
+    }
+
+    @Benchmark
+    public byte[] defaultJsonEncode() throws Exception {
+        return reflective.writeValueAsBytes(notification);
+    }
+
+    @Benchmark
+    public Notification defaultJsonDecode() throws Exception {
+        return reflective.readValue(reflectiveJson, Notification.class);
+    }
+}
@@ -0,0 +1,168 @@
+package co.seekglobal.notification.benchmark;
+
+import co.seekglobal.notification.application.outbound.ValidableSender;
+import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.application.validation.RecipientMatchers;
+import co.seekglobal.notification.application.validation.RecipientVerdictCache;
+import co.seekglobal.notification.application.validation.ValidationRules;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.adapters.email.MockEmailSenderProvider;
+import co.seekglobal.notification.infrastructure.adapters.push.MockPushSenderProvider;
+import co.seekglobal.notification.infrastructure.adapters.sms.MockSmsSenderProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validation cost per message when the primary provider fails and the fallback validates again. The {@code legacy}
+ * benchmarks reproduce the former regex and per-call list implementation of the email and SMS adapters. The
+ * {@code hotRecipient} benchmarks validate one recipient arriving as distinct string instances, so the per-send memo
+ * misses and only the verdict cache can help.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[1-9]\\d{6,14}$");
+    private static final int MAX_SMS_LENGTH = 1600;
+
+    private ValidableSender email;
+    private ValidableSender sms;
+    private ValidableSender push;
+    private Notification emailNotification;
+    private Notification smsNotification;
+    private Notification pushNotification;
+    private ValidationRules cachedRules;
+    private ValidationRules uncachedRules;
+    private Notification[] hotRecipients;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        email = MockEmailSenderProvider.factory().build();
+        sms = MockSmsSenderProvider.factory().build();
+        push = MockPushSenderProvider.factory().build();
+        emailNotification = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe+alerts@notifications.example.com")
+                .body("Hello")
+                .build();
+        smsNotification = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 123456")
+                .build();
+        pushNotification = Notification.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("f".repeat(152))
+                .subject("Order shipped")
+                .body("Order 1234 is on its way")
+                .build();
+        cachedRules = emailRules().verdictCache(new RecipientVerdictCache(10_000, Duration.ofMinutes(10))).build();
+        uncachedRules = emailRules().verdictCache(null).build();
+        hotRecipients = new Notification[64];
+        for (var i = 0; i < hotRecipients.length; i++) {
+            hotRecipients[i] = Notification.builder()
+                    .channel(NotificationChannel.EMAIL)
+                    .recipient(new String("jane.doe+alerts@notifications.example.com"))
+                    .body("Hello")
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void legacyEmail(Blackhole blackhole) {
+        blackhole.consume(legacyEmailValidate(emailNotification));
+        blackhole.consume(legacyEmailValidate(emailNotification));
+    }
+
+    @Benchmark
+    public void compiledEmail(Blackhole blackhole) {
+        blackhole.consume(email.validate(emailNotification));
+        blackhole.consume(email.validate(emailNotification));
+    }
+
+    @Benchmark
+    public void legacySms(Blackhole blackhole) {
+        blackhole.consume(legacySmsValidate(smsNotification));
+        blackhole.consume(legacySmsValidate(smsNotification));
+    }
+
+    @Benchmark
+    public void compiledSms(Blackhole blackhole) {
+        blackhole.consume(sms.validate(smsNotification));
+        blackhole.consume(sms.validate(smsNotification));
+    }
+
+    @Benchmark
+    public void compiledPush(Blackhole blackhole) {
+        blackhole.consume(push.validate(pushNotification));
+        blackhole.consume(push.validate(pushNotification));
+    }
+
+    @Benchmark
+    public Object hotRecipientCached() {
+        return cachedRules.validate(hotRecipients[next++ & 63]);
+    }
+
+    @Benchmark
+    public Object hotRecipientUncached() {
+        return uncachedRules.validate(hotRecipients[next++ & 63]);
+    }
+
+    private static ValidationRules.Builder emailRules() {
+        return ValidationRules.builder()
+                .recipient(RecipientMatchers.EMAIL, "Email recipient is required",
+                        recipient -> ValidationError.of("recipient", "Invalid email format: " + recipient, "INVALID_EMAIL_FORMAT"))
+                .bodyOrTemplate("Email body or template is required");
+    }
+
+    private static List<ValidationError> legacyEmailValidate(Notification notification) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (notification.getRecipient() == null || notification.getRecipient().isBlank()) {
+            errors.add(ValidationError.of("recipient", "Email recipient is required"));
+        } else if (!EMAIL_PATTERN.matcher(notification.getRecipient()).matches()) {
+            errors.add(ValidationError.of("recipient", "Invalid email format: " + notification.getRecipient(), "INVALID_EMAIL_FORMAT"));
+        }
+        if ((notification.getBody() == null || notification.getBody().isBlank()) && (notification.getTemplateId() == null || notification.getTemplateId().isBlank())) {
+            errors.add(ValidationError.of("body", "Email body or template is required"));
+        }
+        return errors;
+    }
+
+    private static List<ValidationError> legacySmsValidate(Notification notification) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (notification.getRecipient() == null || notification.getRecipient().isBlank()) {
+            errors.add(ValidationError.of("recipient", "Phone number is required"));
+        } else if (!PHONE_PATTERN.matcher(notification.getRecipient()).matches()) {
+            errors.add(ValidationError.of("recipient", "Invalid phone number format: " + notification.getRecipient(), "INVALID_PHONE_FORMAT"));
+        }
+        if ((notification.getBody() == null || notification.getBody().isBlank())
+                && (notification.getTemplateId() == null || notification.getTemplateId().isBlank())) {
+            errors.add(ValidationError.of("body", "SMS body or template is required"));
+        } else if (notification.getBody() != null && notification.getBody().length() > MAX_SMS_LENGTH) {
+            errors.add(ValidationError.of("body", String.format("SMS body exceeds maximum length of %d characters", MAX_SMS_LENGTH), "SMS_BODY_TOO_LONG"));
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,146 @@
+package co.example.load;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.infrastructure.metrics.LatencyHistogram;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop load generator: requests are issued on a fixed schedule of {@code ratePerSecond}, whether or not earlier
+ * ones have completed, and handed to a pool of {@code concurrency} workers. Response time is measured from the
+ * scheduled start rather than from when a worker picked the request up, so queueing behind a slow provider shows up in
+ * the percentiles instead of being hidden by a stalled generator (coordinated omission). Requests still unfinished
+ * {@code drainTimeout} after the last one was issued are reported as timed out, with their response time so far.
+ */
+public final class LoadGenerator {
+
+    private static final int DEFAULT_CONCURRENCY = 256;
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    private final SendNotificationCommand command;
+    private final Supplier<SendNotificationRequest> requests;
+    private final double ratePerSecond;
+    private final Duration duration;
+    private final int concurrency;
+    private final Duration drainTimeout;
+
+    @Builder(builderMethodName = "factory")
+    public LoadGenerator(SendNotificationCommand command,
+                         Supplier<SendNotificationRequest> requests,
+                         double ratePerSecond,
+                         Duration duration,
+                         Integer concurrency,
+                         Duration drainTimeout) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive: " + ratePerSecond);
+        }
+        this.command = command;
+        this.requests = requests;
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+        this.concurrency = concurrency != null ? concurrency : DEFAULT_CONCURRENCY;
+        this.drainTimeout = drainTimeout != null ? drainTimeout : DEFAULT_DRAIN_TIMEOUT;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        var responseTime = new LatencyHistogram();
+        var serviceTime = new LatencyHistogram();
+        var succeeded = new LongAdder();
+        var errors = new LongAdder();
+        var failures = new EnumMap<ErrorCode, LongAdder>(ErrorCode.class);
+        for (var code : ErrorCode.values()) {
+            failures.put(code, new LongAdder());
+        }
+        var lastCompletion = new AtomicLong();
+        Set<Long> unfinished = ConcurrentHashMap.newKeySet();
+
+        var intervalNanos = 1e9 / ratePerSecond;
+        var total = (long) (duration.toNanos() / intervalNanos);
+        var workers = Executors.newFixedThreadPool(concurrency, workerThreads());
+        var start = System.nanoTime();
+        try {
+            for (var i = 0L; i < total; i++) {
+                var intended = start + (long) (i * intervalNanos);
+                waitUntil(intended);
+                var request = requests.get();
+                unfinished.add(intended);
+                workers.execute(() -> {
+                    var begin = System.nanoTime();
+                    try {
+                        var result = command.send(request);
+                        if (result.isSuccess()) {
+                            succeeded.increment();
+                        } else if (result.getErrorCode() != null) {
+                            failures.get(result.getErrorCode()).increment();
+                        } else {
+                            errors.increment();
+                        }
+                    } catch (RuntimeException e) {
+                        errors.increment();
+                    }
+                    var end = System.nanoTime();
+                    if (unfinished.remove(intended)) {
+                        serviceTime.record(end - begin);
+                        responseTime.record(end - intended);
+                        lastCompletion.accumulateAndGet(end, Math::max);
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        var timedOut = 0L;
+        if (!workers.awaitTermination(drainTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            var now = System.nanoTime();
+            for (var intended : unfinished) {
+                if (unfinished.remove(intended)) {
+                    responseTime.record(now - intended);
+                    timedOut++;
+                }
+            }
+            if (timedOut > 0) {
+                lastCompletion.accumulateAndGet(now, Math::max);
+            }
+            workers.shutdownNow();
+        }
+
+        Map<ErrorCode, Long> failureCounts = new EnumMap<>(ErrorCode.class);
+        failures.forEach((code, count) -> {
+            if (count.sum() > 0) {
+                failureCounts.put(code, count.sum());
+            }
+        });
+        return new LoadReport(ratePerSecond, total, succeeded.sum(), failureCounts, errors.sum(), timedOut,
+                Duration.ofNanos(Math.max(0, lastCompletion.get() - start)), responseTime, serviceTime);
+    }
+
+    private static void waitUntil(long deadline) {
+        for (var remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        var counter = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, "load-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package co.example.load;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.infrastructure.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link LoadGenerator} run.
+ *
+ * @param responseTime time from each request's intended start to its completion, including any time it waited for a
+ *                     worker; this is the latency callers would see
+ * @param serviceTime  time spent inside {@code send} only
+ * @param errors       sends that threw instead of returning a result
+ * @param timedOut     sends still running when the run gave up waiting; their response time counts up to that point
+ */
+public record LoadReport(double targetRatePerSecond,
+                         long sent,
+                         long succeeded,
+                         Map<ErrorCode, Long> failures,
+                         long errors,
+                         long timedOut,
+                         Duration elapsed,
+                         LatencyHistogram responseTime,
+                         LatencyHistogram serviceTime) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public double throughputPerSecond() {
+        return elapsed.isZero() ? 0 : sent * 1e9 / elapsed.toNanos();
+    }
+
+    public String summary() {
+        var summary = new StringBuilder()
+                .append(String.format("Target rate: %.0f/s, achieved: %.1f/s over %.1fs%n", targetRatePerSecond,
+                        throughputPerSecond(), elapsed.toNanos() / 1e9))
+                .append(String.format("Sent: %d, succeeded: %d, failed: %s, errors: %d, timed out: %d%n", sent, succeeded,
+                        failures, errors, timedOut))
+                .append(line("Response time (ms)", responseTime))
+                .append(line("Service time (ms) ", serviceTime));
+        return summary.toString();
+    }
+
+    private static String line(String label, LatencyHistogram histogram) {
+        var line = new StringBuilder(label).append(':');
+        for (var percentile : PERCENTILES) {
+            var name = percentile == (long) percentile ? String.valueOf((long) percentile) : String.valueOf(percentile);
+            line.append(String.format(" p%s=%.2f", name, histogram.valueAtPercentile(percentile, TimeUnit.MILLISECONDS)));
+        }
+        return line.append(String.format(" max=%.2f%n", histogram.max() / 1e6)).toString();
+    }
+}
@@ -0,0 +1,113 @@
+package co.example.load;
+
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.adapters.fake.FakeSenderProvider;
+import co.seekglobal.notification.infrastructure.adapters.fake.LatencyDistribution;
+import co.seekglobal.notification.infrastructure.config.SeekNotificationBuilder;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the library against fake providers, with no external services:
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadArgs="--rate=2000 --duration=30s --latency=lognormal:20ms:250ms --failure-rate=0.02"
+ * java -cp build/libs/seek-notifications-example.jar co.example.load.LoadTestRunner --rate=2000
+ * </pre>
+ *
+ * Options: {@code --rate} (sends per second), {@code --duration}, {@code --concurrency}, {@code --channel},
+ * {@code --latency} ({@code fixed:20ms}, {@code uniform:5ms:50ms}, {@code exponential:20ms} or
+ * {@code lognormal:<median>:<p99>}), {@code --spikes} ({@code <probability>:<extra latency>}), {@code --failure-rate},
+ * {@code --throttle-rate} and {@code --fallback=true} to register a healthy second provider behind the faulty one.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws InterruptedException {
+        var options = parse(args);
+        var channel = NotificationChannel.valueOf(options.getOrDefault("channel", "SMS"));
+        var latency = latency(options.getOrDefault("latency", "lognormal:20ms:200ms"));
+        if (options.containsKey("spikes")) {
+            var spikes = options.get("spikes").split(":");
+            latency = latency.withSpikes(Double.parseDouble(spikes[0]), duration(spikes[1]));
+        }
+
+        var builder = SeekNotificationBuilder.builder()
+                .provider(FakeSenderProvider.factory()
+                        .channel(channel)
+                        .latency(latency)
+                        .failureRate(Double.parseDouble(options.getOrDefault("failure-rate", "0")))
+                        .throttleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")))
+                        .build());
+        if (Boolean.parseBoolean(options.getOrDefault("fallback", "false"))) {
+            builder.provider(FakeSenderProvider.factory()
+                    .channel(channel)
+                    .providerName("FAKE_" + channel.name() + "_FALLBACK")
+                    .latency(latency)
+                    .build());
+        }
+        var command = builder.build();
+
+        var sequence = new AtomicLong();
+        var report = LoadGenerator.factory()
+                .command(command)
+                .requests(() -> SendNotificationRequest.builder()
+                        .channel(channel)
+                        .recipient("load-recipient-" + sequence.incrementAndGet() % 10_000)
+                        .subject("Load test")
+                        .body("Load test notification")
+                        .build())
+                .ratePerSecond(Double.parseDouble(options.getOrDefault("rate", "500")))
+                .duration(duration(options.getOrDefault("duration", "30s")))
+                .concurrency(Integer.parseInt(options.getOrDefault("concurrency", "256")))
+                .build()
+                .run();
+
+        System.out.print(report.summary());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value but got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    static LatencyDistribution latency(String spec) {
+        var parts = spec.split(":");
+        return switch (parts[0]) {
+            case "none" -> LatencyDistribution.NONE;
+            case "fixed" -> LatencyDistribution.fixed(duration(parts[1]));
+            case "uniform" -> LatencyDistribution.uniform(duration(parts[1]), duration(parts[2]));
+            case "exponential" -> LatencyDistribution.exponential(duration(parts[1]));
+            case "lognormal" -> LatencyDistribution.logNormal(duration(parts[1]), duration(parts[2]));
+            default -> throw new IllegalArgumentException("Unknown latency distribution " + spec);
+        };
+    }
+
+    static Duration duration(String value) {
+        var unitStart = 0;
+        while (unitStart < value.length() && (Character.isDigit(value.charAt(unitStart)) || value.charAt(unitStart) == '.')) {
+            unitStart++;
+        }
+        var amount = Double.parseDouble(value.substring(0, unitStart));
+        var unit = switch (value.substring(unitStart)) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            default -> throw new IllegalArgumentException("Unknown duration unit in " + value);
+        };
+        return Duration.ofNanos((long) (amount * unit.getDuration().toNanos()));
+    }
+}
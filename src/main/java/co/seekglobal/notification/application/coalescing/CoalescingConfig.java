@@ -0,0 +1,42 @@
+package co.seekglobal.notification.application.coalescing;
+
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.Priority;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@Builder
+public class CoalescingConfig {
+
+    @Builder.Default
+    private final Duration window = Duration.ofSeconds(30);
+
+    /**
+     * Subjects listed in a digest body; the rest are summarised as a count.
+     */
+    @Builder.Default
+    private final int maxSubjects = 5;
+
+    /**
+     * Buffered notifications per recipient that force an early digest.
+     */
+    @Builder.Default
+    private final int maxBuffered = 1_000;
+
+    @Builder.Default
+    private final Set<NotificationChannel> channels = EnumSet.allOf(NotificationChannel.class);
+
+    @Builder.Default
+    private final Set<Priority> bypassPriorities = EnumSet.of(Priority.CRITICAL);
+
+    /**
+     * How long {@code close()} waits for digests already handed to the delegate.
+     */
+    @Builder.Default
+    private final Duration drainTimeout = Duration.ofSeconds(10);
+}
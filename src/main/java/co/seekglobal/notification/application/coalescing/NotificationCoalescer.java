@@ -0,0 +1,387 @@
+package co.seekglobal.notification.application.coalescing;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.usecase.SendNotificationUseCase;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges bursts to the same recipient and channel into digests. The first notification of a burst goes straight
+ * through and opens a window; anything arriving while it is open is buffered and answered with a {@code COALESCED}
+ * result. When the window ends a single buffered notification is sent as is, several are merged into one digest
+ * (count plus the first subjects), and the window stays open for another period while traffic keeps coming.
+ * <p>
+ * Bypass priorities (CRITICAL by default) and channels that are not configured are never held back, and neither are
+ * templated notifications (the digest would only see the template id) or notifications with an idempotency key (a
+ * digest cannot answer for it). Digests list the ids they replace, comma separated, under
+ * {@link #COALESCED_IDS_METADATA} so the outbox can close them once the digest is delivered, and expire with the
+ * earliest TTL of the group.
+ * <p>
+ * Digests are sent on {@code executor}, by default a cached pool of daemon threads owned by the coalescer. Buffered
+ * notifications were already answered, so {@link #close()} must run before the delegate stops.
+ */
+@Slf4j
+public final class NotificationCoalescer implements SendNotificationCommand, AutoCloseable {
+
+    public static final String COALESCED_COUNT_METADATA = "coalescedCount";
+    public static final String COALESCED_IDS_METADATA = "coalescedIds";
+
+    private final SendNotificationCommand delegate;
+    private final CoalescingConfig config;
+    private final Executor executor;
+    private final Clock clock;
+    private final long windowNanos;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final Set<CompletableFuture<NotificationResult>> sending = ConcurrentHashMap.newKeySet();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder digests = new LongAdder();
+    private final NotificationMetrics metrics;
+    private volatile boolean closed;
+
+    @Builder(builderMethodName = "factory")
+    public NotificationCoalescer(SendNotificationCommand delegate, CoalescingConfig config, Executor executor, Clock clock,
+                                 NotificationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.config = config != null ? config : CoalescingConfig.builder().build();
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-coalescing-worker"));
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.windowNanos = this.config.getWindow().toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(daemon("seek-coalescing-flush"));
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest command) {
+        return deliver(command.toNotification());
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest command, Executor executor) {
+        submit(command, executor)
+                .exceptionally(ex -> {
+                    log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        return deliverAsync(command.toNotification(), executor);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return deliverBatch(commands.stream().map(SendNotificationRequest::toNotification).toList());
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        var result = coalesce(notification);
+        return result != null ? result : delegate.deliver(notification);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        var result = coalesce(notification);
+        return result != null ? CompletableFuture.completedFuture(result) : delegate.deliverAsync(notification, executor);
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        var results = new NotificationResult[notifications.size()];
+        var immediateIndexes = new ArrayList<Integer>();
+        var immediate = new ArrayList<Notification>();
+
+        for (var i = 0; i < notifications.size(); i++) {
+            var notification = notifications.get(i);
+            results[i] = coalesce(notification);
+            if (results[i] == null) {
+                immediateIndexes.add(i);
+                immediate.add(notification);
+            }
+        }
+
+        if (!immediate.isEmpty()) {
+            var immediateResults = delegate.deliverBatch(immediate);
+            for (var i = 0; i < immediateIndexes.size(); i++) {
+                results[immediateIndexes.get(i)] = immediateResults.get(i);
+            }
+        }
+        return List.of(results);
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getDigestCount() {
+        return digests.sum();
+    }
+
+    public int getOpenWindowCount() {
+        return windows.size();
+    }
+
+    /**
+     * Stops the timer, sends whatever is still buffered synchronously and waits up to {@code drainTimeout} for digests
+     * already on their way. Later sends go straight through.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdownNow();
+        for (var window : windows.values()) {
+            var batch = window.drain(true);
+            windows.remove(window.key, window);
+            if (!batch.isEmpty()) {
+                delegate.deliver(merge(batch));
+            }
+        }
+        awaitSending();
+    }
+
+    private void awaitSending() {
+        if (sending.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(sending.toArray(CompletableFuture[]::new))
+                    .get(config.getDrainTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[Coalescing] Closed with {} digests still being sent", sending.size());
+        } catch (ExecutionException e) {
+            // Already logged by send()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the {@code COALESCED} result when the notification was buffered, or {@code null} when it must be sent
+     * now.
+     */
+    private NotificationResult coalesce(Notification notification) {
+        if (bypasses(notification)) {
+            return null;
+        }
+        var key = new Key(notification.getChannel(), notification.getRecipient());
+        while (true) {
+            var window = windows.get(key);
+            if (window == null) {
+                var opened = new Window(key, nextFlush());
+                if (windows.putIfAbsent(key, opened) == null) {
+                    arm(opened);
+                    return null;
+                }
+                continue;
+            }
+            var buffered = window.offer(notification);
+            if (buffered < 0) {
+                continue;
+            }
+            coalesced.increment();
+            metrics.recordEvent(notification.getChannel(), PipelineEvent.COALESCED);
+            if (buffered >= config.getMaxBuffered()) {
+                send(window.drain(false));
+            }
+            return NotificationResult.coalesced(notification.getId(), notification.getChannel(), window.flushAt);
+        }
+    }
+
+    private boolean bypasses(Notification notification) {
+        return closed
+                || !config.getChannels().contains(notification.getChannel())
+                || config.getBypassPriorities().contains(notification.getPriority())
+                || isTemplated(notification)
+                || hasIdempotencyKey(notification);
+    }
+
+    private static boolean isTemplated(Notification notification) {
+        return notification.getTemplateId() != null && (notification.getBody() == null || notification.getBody().isBlank());
+    }
+
+    private static boolean hasIdempotencyKey(Notification notification) {
+        return notification.getIdempotencyKey() != null || notification.getMetadata() != null
+                && notification.getMetadata().containsKey(SendNotificationUseCase.IDEMPOTENCY_KEY_METADATA);
+    }
+
+    private OffsetDateTime nextFlush() {
+        return OffsetDateTime.now(clock).plusNanos(windowNanos);
+    }
+
+    private void arm(Window window) {
+        try {
+            flusher.schedule(() -> flush(window), windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed: close() drains the window
+        }
+    }
+
+    /**
+     * Closes an idle window, or sends what it buffered and keeps it open for another period.
+     */
+    private void flush(Window window) {
+        var batch = window.drain(false);
+        if (batch.isEmpty() && window.closeIfEmpty()) {
+            windows.remove(window.key, window);
+            return;
+        }
+        window.flushAt = nextFlush();
+        arm(window);
+        send(batch);
+    }
+
+    private void send(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        var notification = merge(batch);
+        var digest = delegate.deliverAsync(notification, executor).toCompletableFuture();
+        sending.add(digest);
+        digest.whenComplete((result, ex) -> {
+            sending.remove(digest);
+            if (ex != null) {
+                log.error("[Coalescing] Failed to send digest {}: {}", notification.getId(), ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private Notification merge(List<Notification> batch) {
+        if (batch.size() == 1) {
+            return batch.get(0);
+        }
+        digests.increment();
+        var first = batch.get(0);
+        metrics.recordEvent(first.getChannel(), PipelineEvent.DIGEST_SENT);
+        var priority = Priority.LOW;
+        var ids = new ArrayList<String>(batch.size());
+        var body = new StringBuilder();
+        var expiresAtMillis = Long.MAX_VALUE;
+        for (var i = 0; i < batch.size(); i++) {
+            var notification = batch.get(i);
+            ids.add(notification.getId());
+            expiresAtMillis = Math.min(expiresAtMillis, expiresAtMillis(notification));
+            if (notification.getPriority().compareTo(priority) > 0) {
+                priority = notification.getPriority();
+            }
+            if (i < config.getMaxSubjects()) {
+                body.append("- ").append(summaryOf(notification)).append('\n');
+            }
+        }
+        if (batch.size() > config.getMaxSubjects()) {
+            body.append("+").append(batch.size() - config.getMaxSubjects()).append(" more");
+        }
+
+        log.debug("[Coalescing] Merged {} notifications for {} on {}", batch.size(), first.getRecipient(),
+                first.getChannel());
+        var now = clock.millis();
+        return Notification.builder()
+                .createdAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone()))
+                .ttlSeconds(expiresAtMillis == Long.MAX_VALUE ? null : (int) Math.max(0, (expiresAtMillis - now) / 1_000))
+                .channel(first.getChannel())
+                .recipient(first.getRecipient())
+                .subject(batch.size() + " new notifications")
+                .body(body.toString().strip())
+                .metadata(Map.of(COALESCED_COUNT_METADATA, batch.size(), COALESCED_IDS_METADATA, String.join(",", ids)))
+                .priority(priority)
+                .from(first.getFrom())
+                .replyTo(first.getReplyTo())
+                .build();
+    }
+
+    private static long expiresAtMillis(Notification notification) {
+        if (notification.getTtlSeconds() == null) {
+            return Long.MAX_VALUE;
+        }
+        var base = notification.getScheduledAt() != null ? notification.getScheduledAt() : notification.getCreatedAt();
+        return base.toInstant().toEpochMilli() + notification.getTtlSeconds() * 1_000L;
+    }
+
+    private static String summaryOf(Notification notification) {
+        if (notification.getSubject() != null && !notification.getSubject().isBlank()) {
+            return notification.getSubject();
+        }
+        return notification.getBody();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Key(NotificationChannel channel, String recipient) {
+    }
+
+    private static final class Window {
+
+        final Key key;
+        final List<Notification> buffered = new ArrayList<>();
+        volatile OffsetDateTime flushAt;
+        boolean closed;
+
+        Window(Key key, OffsetDateTime flushAt) {
+            this.key = key;
+            this.flushAt = flushAt;
+        }
+
+        /**
+         * Returns the buffered count, or -1 when the window already closed and the caller must open a new one.
+         */
+        synchronized int offer(Notification notification) {
+            if (closed) {
+                return -1;
+            }
+            buffered.add(notification);
+            return buffered.size();
+        }
+
+        synchronized List<Notification> drain(boolean close) {
+            closed |= close;
+            if (buffered.isEmpty()) {
+                return List.of();
+            }
+            var batch = List.copyOf(buffered);
+            buffered.clear();
+            return batch;
+        }
+
+        synchronized boolean closeIfEmpty() {
+            closed = buffered.isEmpty();
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package co.seekglobal.notification.application.dispatch;
+
+import co.seekglobal.notification.domain.Priority;
+
+import java.time.Duration;
+
+public record DispatchStats(Priority priority,
+                            int queueDepth,
+                            long dispatched,
+                            long rejected,
+                            Duration averageWait,
+                            Duration maxWait) {
+}
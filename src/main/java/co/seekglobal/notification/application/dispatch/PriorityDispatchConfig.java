@@ -0,0 +1,36 @@
+package co.seekglobal.notification.application.dispatch;
+
+import co.seekglobal.notification.domain.Priority;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Getter
+@Builder
+public class PriorityDispatchConfig {
+
+    @Builder.Default
+    private final int queueCapacity = 10_000;
+
+    @Builder.Default
+    private final int maxInFlight = 64;
+
+    @Builder.Default
+    private final Map<Priority, Integer> weights = Map.of(
+            Priority.CRITICAL, 8,
+            Priority.HIGH, 4,
+            Priority.NORMAL, 2,
+            Priority.LOW, 1);
+
+    /**
+     * How long {@code close()} lets queued and in-flight sends finish before rejecting what is left.
+     */
+    @Builder.Default
+    private final Duration drainTimeout = Duration.ofSeconds(10);
+
+    public int weightOf(Priority priority) {
+        return Math.max(1, weights.getOrDefault(priority, 1));
+    }
+}
@@ -0,0 +1,356 @@
+package co.seekglobal.notification.application.dispatch;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Queues sends per {@link Priority} and releases them to the delegate with smooth weighted round-robin, only when one
+ * of the {@code maxInFlight} slots is free. Rate-limited providers therefore spend their permits on the highest
+ * priority work waiting.
+ */
+@Slf4j
+public final class PriorityDispatcher implements SendNotificationCommand, AutoCloseable {
+
+    private static final long DRAIN_POLL_NANOS = Duration.ofMillis(5).toNanos();
+
+    private final SendNotificationCommand delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Map<Priority, Lane> lanes = new EnumMap<>(Priority.class);
+    private final Semaphore queued = new Semaphore(0);
+    private final Semaphore inFlight;
+    private final Thread dispatcherThread;
+    private final AtomicInteger active = new AtomicInteger();
+    private final NotificationMetrics metrics;
+    private final Duration drainTimeout;
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+
+    @Builder(builderMethodName = "factory")
+    public PriorityDispatcher(SendNotificationCommand delegate, PriorityDispatchConfig config, Executor executor,
+                              NotificationMetrics metrics) {
+        var dispatchConfig = config != null ? config : PriorityDispatchConfig.builder().build();
+        this.delegate = delegate;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.ownedExecutor = executor == null ? Executors.newFixedThreadPool(dispatchConfig.getMaxInFlight(), daemon("seek-dispatch-worker")) : null;
+        this.executor = executor != null ? executor : ownedExecutor;
+        this.inFlight = new Semaphore(dispatchConfig.getMaxInFlight());
+        this.drainTimeout = dispatchConfig.getDrainTimeout();
+        for (var priority : Priority.values()) {
+            lanes.put(priority, new Lane(priority, dispatchConfig.weightOf(priority), dispatchConfig.getQueueCapacity()));
+        }
+        this.dispatcherThread = daemon("seek-priority-dispatcher").newThread(this::dispatchLoop);
+        this.dispatcherThread.start();
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest command) {
+        return submit(command, executor).toCompletableFuture().join();
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest command, Executor executor) {
+        submit(command, executor)
+                .exceptionally(ex -> {
+                    log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        return deliverAsync(command.toNotification(), executor);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return dispatchBatch(new ArrayList<>(commands), this::priorityOf, delegate::sendBatch, this::queueFull);
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        return deliverAsync(notification, executor).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        return enqueue(priorityOf(notification), sendExecutor -> delegate.deliverAsync(notification, sendExecutor), executor,
+                () -> queueFull(notification));
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        return dispatchBatch(notifications, this::priorityOf, delegate::deliverBatch, this::queueFull);
+    }
+
+    public Map<Priority, DispatchStats> stats() {
+        Map<Priority, DispatchStats> stats = new EnumMap<>(Priority.class);
+        lanes.forEach((priority, lane) -> stats.put(priority, lane.stats()));
+        return stats;
+    }
+
+    public int getQueueDepth(Priority priority) {
+        return lanes.get(priority).queue.size();
+    }
+
+    /**
+     * Stops accepting sends and waits up to {@code drainTimeout} for the queued and in-flight ones to finish; sends
+     * still queued after that complete with their rejected result instead of being left waiting.
+     */
+    @Override
+    public synchronized void close() {
+        if (!accepting) {
+            return;
+        }
+        accepting = false;
+        awaitDrained();
+        running = false;
+        dispatcherThread.interrupt();
+        for (var lane : lanes.values()) {
+            for (var task = lane.queue.poll(); task != null; task = lane.queue.poll()) {
+                lane.rejected.increment();
+                task.reject();
+            }
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private <T> CompletionStage<T> enqueue(Priority priority,
+                                           Function<Executor, CompletionStage<T>> send,
+                                           Executor sendExecutor,
+                                           Supplier<T> rejected) {
+        var lane = lanes.get(priority);
+        var task = new DispatchTask<>(send, sendExecutor != null ? sendExecutor : executor, rejected, System.nanoTime());
+        if (!accepting || !lane.queue.offer(task)) {
+            lane.rejected.increment();
+            return CompletableFuture.completedFuture(rejected.get());
+        }
+        if (!running && lane.queue.remove(task)) {
+            // close() drained the lanes between the running check and the offer
+            lane.rejected.increment();
+            task.reject();
+            return task.result;
+        }
+        queued.release();
+        return task.result;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                inFlight.acquire();
+                queued.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            active.incrementAndGet();
+            var task = nextTask();
+            if (task == null) {
+                active.decrementAndGet();
+                inFlight.release();
+                continue;
+            }
+            task.start().whenComplete((result, ex) -> {
+                active.decrementAndGet();
+                inFlight.release();
+            });
+        }
+    }
+
+    private void awaitDrained() {
+        var deadline = System.nanoTime() + drainTimeout.toNanos();
+        while ((active.get() > 0 || lanes.values().stream().anyMatch(lane -> !lane.queue.isEmpty()))
+                && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(DRAIN_POLL_NANOS);
+        }
+    }
+
+    private DispatchTask<?> nextTask() {
+        Lane selected = null;
+        var totalWeight = 0;
+        for (var lane : lanes.values()) {
+            if (lane.queue.isEmpty()) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.currentWeight -= totalWeight;
+        var task = selected.queue.poll();
+        if (task == null) {
+            return null;
+        }
+        selected.recordDispatch(System.nanoTime() - task.enqueuedAtNanos);
+        return task;
+    }
+
+    private <T> List<NotificationResult> dispatchBatch(List<T> items,
+                                                      Function<T, Priority> priorityOf,
+                                                      Function<List<T>, List<NotificationResult>> sendGroup,
+                                                      Function<T, NotificationResult> rejected) {
+        Map<Priority, List<Integer>> indexesByPriority = new LinkedHashMap<>();
+        for (var i = 0; i < items.size(); i++) {
+            indexesByPriority.computeIfAbsent(priorityOf.apply(items.get(i)), k -> new ArrayList<>()).add(i);
+        }
+
+        var results = new NotificationResult[items.size()];
+        var pending = new ArrayList<CompletableFuture<Void>>();
+        indexesByPriority.forEach((priority, indexes) -> {
+            var group = indexes.stream().map(items::get).toList();
+            var stage = enqueue(priority,
+                    ignored -> CompletableFuture.supplyAsync(() -> sendGroup.apply(group), executor),
+                    executor,
+                    () -> group.stream().map(rejected).toList());
+            pending.add(stage.thenAccept(groupResults -> {
+                for (var i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = groupResults.get(i);
+                }
+            }).toCompletableFuture());
+        });
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return List.of(results);
+    }
+
+    private Priority priorityOf(SendNotificationRequest request) {
+        return request.priority() != null ? request.priority() : Priority.NORMAL;
+    }
+
+    private Priority priorityOf(Notification notification) {
+        return notification.getPriority() != null ? notification.getPriority() : Priority.NORMAL;
+    }
+
+    private NotificationResult queueFull(Notification notification) {
+        metrics.recordEvent(notification.getChannel(), PipelineEvent.QUEUE_FULL);
+        log.warn("[PriorityDispatch] Queue full for priority {}, notification {}", priorityOf(notification), notification.getId());
+        return NotificationResult.failure(notification.getId(), notification.getChannel(), null,
+                ErrorCode.QUEUE_FULL, "Dispatch queue full for priority " + priorityOf(notification));
+    }
+
+    private NotificationResult queueFull(SendNotificationRequest request) {
+        metrics.recordEvent(request.channel(), PipelineEvent.QUEUE_FULL);
+        log.warn("[PriorityDispatch] Queue full for priority {}, channel {}", priorityOf(request), request.channel());
+        return NotificationResult.failure(null, request.channel(), null,
+                ErrorCode.QUEUE_FULL, "Dispatch queue full for priority " + priorityOf(request));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class DispatchTask<T> {
+
+        private final Function<Executor, CompletionStage<T>> send;
+        private final Executor executor;
+        private final Supplier<T> rejected;
+        private final long enqueuedAtNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private DispatchTask(Function<Executor, CompletionStage<T>> send, Executor executor, Supplier<T> rejected,
+                             long enqueuedAtNanos) {
+            this.send = send;
+            this.executor = executor;
+            this.rejected = rejected;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+
+        private void reject() {
+            try {
+                result.complete(rejected.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private CompletableFuture<T> start() {
+            try {
+                send.apply(executor).whenComplete((value, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+    }
+
+    private static final class Lane {
+
+        private final Priority priority;
+        private final int weight;
+        private final BlockingQueue<DispatchTask<?>> queue;
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private int currentWeight;
+
+        private Lane(Priority priority, int weight, int capacity) {
+            this.priority = priority;
+            this.weight = weight;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void recordDispatch(long waitNanos) {
+            dispatched.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        private DispatchStats stats() {
+            var count = dispatched.sum();
+            var average = count == 0 ? 0 : totalWaitNanos.sum() / count;
+            return new DispatchStats(priority, queue.size(), count, rejected.sum(),
+                    Duration.ofNanos(average), Duration.ofNanos(maxWaitNanos.get()));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package co.seekglobal.notification.application.inbound;
 
+import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationResult;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 
@@ -10,4 +15,36 @@ public interface SendNotificationCommand {
     NotificationResult send(SendNotificationRequest command);
 
     void sendAsync(SendNotificationRequest command, Executor executor);
+
+    /**
+     * Like {@link #sendAsync} but exposes the result. Implementations written against the original two methods get a
+     * default that runs {@link #send} on {@code executor}.
+     */
+    default CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> send(command), executor);
+    }
+
+    default List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return commands.stream().map(this::send).toList();
+    }
+
+    /**
+     * Sends an already built notification, e.g. one released by the scheduler or recovered from the outbox. The
+     * default goes through {@link #send}, so the result carries a new notification id; stages that must keep the id
+     * override it.
+     */
+    default NotificationResult deliver(Notification notification) {
+        return send(SendNotificationRequest.from(notification));
+    }
+
+    default CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> deliver(notification), executor);
+    }
+
+    /**
+     * Batch counterpart of {@link #deliver}; stages without a batch path deliver one by one.
+     */
+    default List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        return notifications.stream().map(this::deliver).toList();
+    }
 }
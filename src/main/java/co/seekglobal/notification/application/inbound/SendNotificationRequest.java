@@ -1,5 +1,6 @@
 package co.seekglobal.notification.application.inbound;
 
+import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.Priority;
 import jakarta.validation.constraints.NotBlank;
@@ -24,6 +25,43 @@ public record SendNotificationRequest(
         OffsetDateTime scheduledAt,
         Integer ttlSeconds,
         String from,
-        String replyTo
+        String replyTo,
+        String idempotencyKey
 ) {
+
+    public static SendNotificationRequest from(Notification notification) {
+        return SendNotificationRequest.builder()
+                .channel(notification.getChannel())
+                .recipient(notification.getRecipient())
+                .subject(notification.getSubject())
+                .body(notification.getBody())
+                .templateId(notification.getTemplateId())
+                .templateVariables(notification.getTemplateVariables())
+                .metadata(notification.getMetadata())
+                .priority(notification.getPriority())
+                .scheduledAt(notification.getScheduledAt())
+                .ttlSeconds(notification.getTtlSeconds())
+                .from(notification.getFrom())
+                .replyTo(notification.getReplyTo())
+                .idempotencyKey(notification.getIdempotencyKey())
+                .build();
+    }
+
+    public Notification toNotification() {
+        return Notification.builder()
+                .channel(channel)
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .templateId(templateId)
+                .templateVariables(templateVariables)
+                .metadata(metadata)
+                .priority(priority != null ? priority : Priority.NORMAL)
+                .scheduledAt(scheduledAt)
+                .ttlSeconds(ttlSeconds)
+                .from(from)
+                .replyTo(replyTo)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
 }
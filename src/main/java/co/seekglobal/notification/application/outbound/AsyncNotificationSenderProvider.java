@@ -0,0 +1,15 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+
+import java.util.concurrent.CompletionStage;
+
+public interface AsyncNotificationSenderProvider extends NotificationSenderProvider {
+
+    /**
+     * Non-blocking sibling of {@link #send(Notification)}. Implementations must not park the calling
+     * thread; the returned stage completes once the provider has answered.
+     */
+    CompletionStage<NotificationResult> sendAsync(Notification notification);
+}
@@ -0,0 +1,21 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+
+import java.util.List;
+
+public interface BatchNotificationSenderProvider extends NotificationSenderProvider {
+
+    int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * Sends a chunk of notifications in a single provider call. The returned list must contain one
+     * result per notification, in the same order as the input.
+     */
+    List<NotificationResult> sendBatch(List<Notification> notifications);
+
+    default int getMaxBatchSize() {
+        return DEFAULT_MAX_BATCH_SIZE;
+    }
+}
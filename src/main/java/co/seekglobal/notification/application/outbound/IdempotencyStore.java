@@ -0,0 +1,61 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.NotificationResult;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Results of completed sends keyed by the caller's idempotency key, so retried requests can be answered without
+ * reaching a provider.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Result recorded for {@code key}, or {@code null} if none is known.
+     */
+    NotificationResult find(String key);
+
+    /**
+     * Results for the given keys; keys without a result are absent from the map.
+     */
+    default Map<String, NotificationResult> findAll(Collection<String> keys) {
+        var found = new HashMap<String, NotificationResult>();
+        for (var key : keys) {
+            var result = find(key);
+            if (result != null) {
+                found.put(key, result);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reserves {@code key} for a send about to be dispatched, so instances sharing the store do not send it as well.
+     * Returns {@code null} once reserved, or the result recorded for it meanwhile. The default only looks the key up:
+     * within one process the caller already lets a single send per key through.
+     */
+    default NotificationResult claim(String key) {
+        return find(key);
+    }
+
+    /**
+     * Batch counterpart of {@link #claim}; keys absent from the map are reserved for the caller.
+     */
+    default Map<String, NotificationResult> claimAll(Collection<String> keys) {
+        return findAll(keys);
+    }
+
+    /**
+     * Gives up a claim whose send failed, so the key can be sent again.
+     */
+    default void release(String key) {
+    }
+
+    void save(String key, NotificationResult result);
+
+    default void saveAll(Map<String, NotificationResult> results) {
+        results.forEach(this::save);
+    }
+}
@@ -0,0 +1,55 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+
+/**
+ * Instrumentation port the use case and every pipeline stage report to. Calls happen on the send path, so
+ * implementations must not block and should not allocate; provider names are passed as the same interned instance on
+ * every call, which makes them cheap map keys.
+ */
+public interface NotificationMetrics {
+
+    NotificationMetrics NOOP = new NotificationMetrics() {
+    };
+
+    /**
+     * A notification reached the providers of its channel.
+     */
+    default void recordSend(NotificationChannel channel) {
+    }
+
+    /**
+     * Final outcome of a send; {@code errorCode} is {@code null} on success. {@code fallbackDepth} counts the providers
+     * that rejected or failed the notification before this outcome.
+     */
+    default void recordOutcome(NotificationChannel channel, ErrorCode errorCode, int fallbackDepth) {
+    }
+
+    default void recordValidationRejection(NotificationChannel channel, String provider) {
+    }
+
+    /**
+     * One provider call; {@code errorCode} is {@code null} on success.
+     */
+    default void recordProviderCall(NotificationChannel channel, String provider, long latencyNanos, ErrorCode errorCode) {
+    }
+
+    default void recordRateLimitWait(NotificationChannel channel, String provider, long waitNanos) {
+    }
+
+    default void recordEvent(NotificationChannel channel, PipelineEvent event) {
+    }
+
+    enum PipelineEvent {
+        SCHEDULED,
+        COALESCED,
+        DIGEST_SENT,
+        DUPLICATE,
+        QUEUE_FULL,
+        HEDGED,
+        RETRIED,
+        RATE_LIMITED,
+        CIRCUIT_OPEN
+    }
+}
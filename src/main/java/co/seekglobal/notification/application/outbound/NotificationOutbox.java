@@ -0,0 +1,25 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+
+import java.util.List;
+
+/**
+ * Durable record of accepted notifications and their final results; anything accepted but not completed is
+ * re-dispatched after a restart.
+ */
+public interface NotificationOutbox extends AutoCloseable {
+
+    void append(Notification notification);
+
+    void complete(NotificationResult result);
+
+    /**
+     * Accepted notifications without a final result, in acceptance order.
+     */
+    List<Notification> pending();
+
+    @Override
+    void close();
+}
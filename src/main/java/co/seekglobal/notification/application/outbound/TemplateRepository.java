@@ -0,0 +1,13 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.NotificationTemplate;
+
+import java.util.Optional;
+
+/**
+ * Looked up on every templated send to check the version, so implementations should answer from memory.
+ */
+public interface TemplateRepository {
+
+    Optional<NotificationTemplate> findById(String templateId);
+}
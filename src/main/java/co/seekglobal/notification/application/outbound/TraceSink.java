@@ -0,0 +1,12 @@
+package co.seekglobal.notification.application.outbound;
+
+import co.seekglobal.notification.domain.SendTrace;
+
+/**
+ * Receives every finished, sampled {@link SendTrace}. Called on the thread that completed the send, so
+ * implementations should hand off anything slow.
+ */
+public interface TraceSink {
+
+    void export(SendTrace trace);
+}
@@ -0,0 +1,96 @@
+package co.seekglobal.notification.application.outbox;
+
+import co.seekglobal.notification.application.coalescing.NotificationCoalescer;
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Wraps the use case and records every final result in the outbox, closing the entry {@link OutboxRecorder} opened.
+ * A delivered digest also closes the notifications it was merged from.
+ */
+@Slf4j
+public final class OutboxAcknowledger implements SendNotificationCommand {
+
+    private final SendNotificationCommand delegate;
+    private final NotificationOutbox outbox;
+
+    @Builder(builderMethodName = "factory")
+    public OutboxAcknowledger(SendNotificationCommand delegate, NotificationOutbox outbox) {
+        this.delegate = delegate;
+        this.outbox = outbox;
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest command) {
+        return deliver(command.toNotification());
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest command, Executor executor) {
+        submit(command, executor)
+                .exceptionally(ex -> {
+                    log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        return deliverAsync(command.toNotification(), executor);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return deliverBatch(commands.stream().map(SendNotificationRequest::toNotification).toList());
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        return acknowledge(notification, delegate.deliver(notification));
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        return delegate.deliverAsync(notification, executor).thenApply(result -> acknowledge(notification, result));
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        var results = delegate.deliverBatch(notifications);
+        for (var i = 0; i < results.size(); i++) {
+            acknowledge(notifications.get(i), results.get(i));
+        }
+        return results;
+    }
+
+    private NotificationResult acknowledge(Notification notification, NotificationResult result) {
+        outbox.complete(result);
+        var metadata = notification.getMetadata();
+        if (result.isSuccess() && metadata != null
+                && metadata.get(NotificationCoalescer.COALESCED_IDS_METADATA) instanceof String ids) {
+            for (var id : ids.split(",")) {
+                outbox.complete(NotificationResult.builder()
+                        .success(true)
+                        .notificationId(id)
+                        .providerMessageId(result.getProviderMessageId())
+                        .channel(result.getChannel())
+                        .providerName(result.getProviderName())
+                        .processedAt(result.getProcessedAt())
+                        .providerResponse(Map.of("status", "COALESCED", "digestId", result.getNotificationId()))
+                        .build());
+            }
+        }
+        return result;
+    }
+}
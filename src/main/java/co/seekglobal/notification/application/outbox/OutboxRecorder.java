@@ -0,0 +1,123 @@
+package co.seekglobal.notification.application.outbox;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Outermost stage: builds the notification once, appends it to the outbox and hands it down the chain with the same
+ * id, so {@link OutboxAcknowledger} in front of the use case can complete it whatever queues or timers sit between.
+ */
+@Slf4j
+public final class OutboxRecorder implements SendNotificationCommand {
+
+    private final SendNotificationCommand delegate;
+    private final NotificationOutbox outbox;
+
+    @Builder(builderMethodName = "factory")
+    public OutboxRecorder(SendNotificationCommand delegate, NotificationOutbox outbox) {
+        this.delegate = delegate;
+        this.outbox = outbox;
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest command) {
+        return deliver(command.toNotification());
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest command, Executor executor) {
+        submit(command, executor)
+                .exceptionally(ex -> {
+                    log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        return deliverAsync(command.toNotification(), executor);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return deliverBatch(commands.stream().map(SendNotificationRequest::toNotification).toList());
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        outbox.append(notification);
+        return completeRejected(delegate.deliver(notification));
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        outbox.append(notification);
+        return delegate.deliverAsync(notification, executor).thenApply(this::completeRejected);
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        notifications.forEach(outbox::append);
+        var results = delegate.deliverBatch(notifications);
+        results.forEach(this::completeRejected);
+        return results;
+    }
+
+    /**
+     * Re-dispatches every notification the outbox has no final result for, typically once on startup. At most
+     * {@code maxInFlight} are outstanding at a time so a bounded dispatch queue is not flooded, and rejected results
+     * are completed as for live sends. The stage fails if any re-dispatch failed; those entries stay pending.
+     */
+    public CompletionStage<Void> recover(Executor executor, int maxInFlight) {
+        var pending = outbox.pending();
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.info("[Outbox] Recovering {} unacknowledged notifications", pending.size());
+        var permits = new Semaphore(maxInFlight);
+        return CompletableFuture.runAsync(() -> {
+            var stages = new ArrayList<CompletableFuture<NotificationResult>>(pending.size());
+            for (var notification : pending) {
+                permits.acquireUninterruptibly();
+                stages.add(redeliver(notification, executor).whenComplete((result, ex) -> permits.release()));
+            }
+            CompletableFuture.allOf(stages.toArray(CompletableFuture[]::new)).join();
+        }, executor).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                log.error("[Outbox] Recovery failed, unacknowledged notifications stay pending: {}", ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private CompletableFuture<NotificationResult> redeliver(Notification notification, Executor executor) {
+        try {
+            return delegate.deliverAsync(notification, executor).thenApply(this::completeRejected).toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Failures raised above the acknowledger (e.g. a full dispatch queue) never reach it; completing them here is a
+     * no-op for results it already recorded.
+     */
+    private NotificationResult completeRejected(NotificationResult result) {
+        if (!result.isSuccess()) {
+            outbox.complete(result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power of two choices over an exponentially weighted moving average of latency, scaled by in-flight calls.
+ * Failures are recorded as {@code failurePenalty} so a provider that errors fast does not attract traffic.
+ */
+public final class EwmaLatencyRouting implements RoutingStrategy {
+
+    private final double alpha;
+    private final long failurePenaltyNanos;
+    private final Map<NotificationSenderProvider, Stats> stats = new ConcurrentHashMap<>();
+
+    public EwmaLatencyRouting() {
+        this(0.3, Duration.ofSeconds(1));
+    }
+
+    public EwmaLatencyRouting(double alpha, Duration failurePenalty) {
+        this.alpha = alpha;
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+    }
+
+    @Override
+    public int select(List<NotificationSenderProvider> providers) {
+        var size = providers.size();
+        if (size == 2) {
+            return score(providers.get(1)) < score(providers.get(0)) ? 1 : 0;
+        }
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(size);
+        var second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        return score(providers.get(second)) < score(providers.get(first)) ? second : first;
+    }
+
+    @Override
+    public void onDispatch(NotificationSenderProvider provider) {
+        stats(provider).dispatched();
+    }
+
+    @Override
+    public void onComplete(NotificationSenderProvider provider, long latencyNanos, boolean success) {
+        stats(provider).completed(success ? latencyNanos : Math.max(latencyNanos, failurePenaltyNanos), alpha);
+    }
+
+    @Override
+    public void onCancel(NotificationSenderProvider provider) {
+        stats(provider).cancelled();
+    }
+
+    public Duration getLatencyEstimate(NotificationSenderProvider provider) {
+        return Duration.ofNanos((long) stats(provider).ewmaNanos);
+    }
+
+    private double score(NotificationSenderProvider provider) {
+        var s = stats(provider);
+        return s.ewmaNanos * (s.outstanding + 1);
+    }
+
+    private Stats stats(NotificationSenderProvider provider) {
+        return stats.computeIfAbsent(provider, k -> new Stats());
+    }
+
+    private static final class Stats {
+
+        private volatile double ewmaNanos;
+        private volatile int outstanding;
+
+        synchronized void dispatched() {
+            outstanding++;
+        }
+
+        synchronized void cancelled() {
+            outstanding--;
+        }
+
+        synchronized void completed(long latencyNanos, double alpha) {
+            outstanding--;
+            ewmaNanos = ewmaNanos == 0 ? latencyNanos : ewmaNanos + alpha * (latencyNanos - ewmaNanos);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends to the provider with the fewest in-flight calls, ties going to the earliest registered.
+ */
+public final class LeastOutstandingRouting implements RoutingStrategy {
+
+    private final Map<NotificationSenderProvider, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+
+    @Override
+    public int select(List<NotificationSenderProvider> providers) {
+        var best = 0;
+        var fewest = Integer.MAX_VALUE;
+        for (var i = 0; i < providers.size(); i++) {
+            var inFlight = outstanding(providers.get(i)).get();
+            if (inFlight < fewest) {
+                fewest = inFlight;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void onDispatch(NotificationSenderProvider provider) {
+        outstanding(provider).incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(NotificationSenderProvider provider, long latencyNanos, boolean success) {
+        outstanding(provider).decrementAndGet();
+    }
+
+    @Override
+    public void onCancel(NotificationSenderProvider provider) {
+        outstanding(provider).decrementAndGet();
+    }
+
+    public int getOutstanding(NotificationSenderProvider provider) {
+        return outstanding(provider).get();
+    }
+
+    private AtomicInteger outstanding(NotificationSenderProvider provider) {
+        return outstanding.computeIfAbsent(provider, k -> new AtomicInteger());
+    }
+}
@@ -0,0 +1,31 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+
+import java.util.List;
+
+/**
+ * Chooses which of a channel's providers is tried first; the others remain as fallbacks in registration order
+ * after it. Implementations get dispatch and completion callbacks for every provider call on their channel.
+ */
+public interface RoutingStrategy {
+
+    RoutingStrategy REGISTRATION_ORDER = providers -> 0;
+
+    /**
+     * @return index into {@code providers} of the provider to try first
+     */
+    int select(List<NotificationSenderProvider> providers);
+
+    default void onDispatch(NotificationSenderProvider provider) {
+    }
+
+    default void onComplete(NotificationSenderProvider provider, long latencyNanos, boolean success) {
+    }
+
+    /**
+     * The call was abandoned before answering, e.g. the losing side of a hedge: release it without scoring the provider.
+     */
+    default void onCancel(NotificationSenderProvider provider) {
+    }
+}
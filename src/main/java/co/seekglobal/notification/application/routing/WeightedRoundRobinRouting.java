@@ -0,0 +1,43 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smooth weighted round-robin over provider names; providers without an explicit weight get {@code 1}.
+ */
+public final class WeightedRoundRobinRouting implements RoutingStrategy {
+
+    private final Map<String, Integer> weights;
+    private final Map<NotificationSenderProvider, Long> current = new HashMap<>();
+
+    public WeightedRoundRobinRouting(Map<String, Integer> weights) {
+        this.weights = Map.copyOf(weights);
+    }
+
+    @Override
+    public synchronized int select(List<NotificationSenderProvider> providers) {
+        var total = 0L;
+        var best = 0;
+        var bestWeight = Long.MIN_VALUE;
+        for (var i = 0; i < providers.size(); i++) {
+            var provider = providers.get(i);
+            var weight = weightOf(provider);
+            total += weight;
+            var updated = current.merge(provider, (long) weight, Long::sum);
+            if (updated > bestWeight) {
+                bestWeight = updated;
+                best = i;
+            }
+        }
+        current.merge(providers.get(best), -total, Long::sum);
+        return best;
+    }
+
+    private int weightOf(NotificationSenderProvider provider) {
+        return weights.getOrDefault(provider.getProviderName(), 1);
+    }
+}
@@ -0,0 +1,176 @@
+package co.seekglobal.notification.application.scheduling;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical hashed timing wheel. Insert, cancel and expiry are O(1) per entry: each level has {@code wheelSize}
+ * buckets, every bucket on level {@code n} spans {@code wheelSize^n} ticks, and entries cascade to a finer level when
+ * their bucket comes due. Deadlines beyond the top level are parked in it and re-inserted until they fit.
+ * <p>
+ * Not thread-safe; callers serialize access.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final int bits;
+    private final int mask;
+    private final Bucket<T>[][] levels;
+    private long currentTick;
+    private long size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levelCount, long startNanos) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.startNanos = startNanos;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = (Bucket<T>[][]) new Bucket<?>[levelCount][wheelSize];
+        for (var level = 0; level < levelCount; level++) {
+            for (var slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    public Timeout<T> schedule(T value, long deadlineNanos) {
+        var timeout = new Timeout<>(value, deadlineTick(deadlineNanos));
+        place(timeout, 1);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to {@code nowNanos}, handing every expired value to {@code expired} in deadline order.
+     */
+    public void advanceTo(long nowNanos, Consumer<T> expired) {
+        var targetTick = (nowNanos - startNanos) / tickNanos;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            var bucket = levels[0][(int) (currentTick & mask)];
+            for (var timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                size--;
+                expired.accept(timeout.value);
+            }
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (var level = 1; level < levels.length; level++) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) {
+                return;
+            }
+            var timeout = levels[level][(int) ((currentTick >>> (bits * level)) & mask)].detach();
+            while (timeout != null) {
+                var next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                place(timeout, 0);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout, long minDelta) {
+        var delta = Math.max(minDelta, timeout.deadlineTick - currentTick);
+        var deadlineTick = currentTick + delta;
+        var level = 0;
+        while (level < levels.length - 1 && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        levels[level][(int) ((deadlineTick >>> (bits * level)) & mask)].add(timeout);
+    }
+
+    private long deadlineTick(long deadlineNanos) {
+        var elapsed = Math.max(0, deadlineNanos - startNanos);
+        return (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T value() {
+            return value;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> detach() {
+            var first = head;
+            for (var timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+
+        private Timeout<T> poll() {
+            var timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
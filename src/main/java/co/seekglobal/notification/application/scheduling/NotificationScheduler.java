@@ -0,0 +1,281 @@
+package co.seekglobal.notification.application.scheduling;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.scheduling.HierarchicalTimingWheel.Timeout;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Holds notifications whose {@code scheduledAt} is in the future in a {@link HierarchicalTimingWheel} and hands them
+ * to the delegate's send path once due. Everything else, including notifications without a channel, goes straight
+ * through.
+ * <p>
+ * The caller only gets the {@code SCHEDULED} result; the outcome of the delayed send is reported by the delegate's
+ * {@link NotificationMetrics#recordOutcome} and failures are logged here as warnings. Due notifications are handed
+ * over on {@code executor}, by default a cached pool of daemon threads owned by the scheduler.
+ */
+@Slf4j
+public final class NotificationScheduler implements SendNotificationCommand, AutoCloseable {
+
+    private final SendNotificationCommand delegate;
+    private final Executor executor;
+    private final Clock clock;
+    private final long tickNanos;
+    private final HierarchicalTimingWheel<Notification> wheel;
+    private final Map<String, Timeout<Notification>> pending = new ConcurrentHashMap<>();
+    private final Map<NotificationChannel, LongAdder> pendingByChannel = new EnumMap<>(NotificationChannel.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NotificationMetrics metrics;
+    private Thread ticker;
+    private volatile boolean running = true;
+
+    @Builder(builderMethodName = "factory")
+    public NotificationScheduler(SendNotificationCommand delegate, SchedulerConfig config, Executor executor, Clock clock,
+                                 NotificationMetrics metrics) {
+        var schedulerConfig = config != null ? config : SchedulerConfig.builder().build();
+        this.delegate = delegate;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-scheduler-worker"));
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.tickNanos = schedulerConfig.getTick().toNanos();
+        this.wheel = new HierarchicalTimingWheel<>(schedulerConfig.getTick(), schedulerConfig.getWheelSize(),
+                schedulerConfig.getLevels(), System.nanoTime());
+        for (var channel : NotificationChannel.values()) {
+            pendingByChannel.put(channel, new LongAdder());
+        }
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest command) {
+        if (!isSchedulable(command.channel(), command.scheduledAt())) {
+            return delegate.send(command);
+        }
+        return schedule(command.toNotification());
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest command, Executor executor) {
+        submit(command, executor)
+                .exceptionally(ex -> {
+                    log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest command, Executor executor) {
+        if (!isSchedulable(command.channel(), command.scheduledAt())) {
+            return delegate.submit(command, executor);
+        }
+        return CompletableFuture.completedFuture(schedule(command.toNotification()));
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> commands) {
+        return scheduleBatch(new ArrayList<>(commands),
+                command -> isSchedulable(command.channel(), command.scheduledAt()),
+                SendNotificationRequest::toNotification, delegate::sendBatch);
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        return scheduleBatch(notifications,
+                notification -> isSchedulable(notification.getChannel(), notification.getScheduledAt()),
+                Function.identity(), delegate::deliverBatch);
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        if (!isSchedulable(notification.getChannel(), notification.getScheduledAt())) {
+            return delegate.deliver(notification);
+        }
+        return schedule(notification);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        if (!isSchedulable(notification.getChannel(), notification.getScheduledAt())) {
+            return delegate.deliverAsync(notification, executor);
+        }
+        return CompletableFuture.completedFuture(schedule(notification));
+    }
+
+    public boolean cancel(String notificationId) {
+        lock.lock();
+        try {
+            var timeout = pending.remove(notificationId);
+            if (timeout == null || !wheel.cancel(timeout)) {
+                return false;
+            }
+            pendingByChannel.get(timeout.value().getChannel()).decrement();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPendingCount(NotificationChannel channel) {
+        return pendingByChannel.get(channel).sum();
+    }
+
+    public long getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops the ticker. Notifications still waiting are not sent; each is logged as a warning (with an outbox they are
+     * re-dispatched, and scheduled again, on the next start).
+     */
+    @Override
+    public void close() {
+        var dropped = new ArrayList<Notification>();
+        lock.lock();
+        try {
+            running = false;
+            if (ticker != null) {
+                ticker.interrupt();
+            }
+            for (var timeout : pending.values()) {
+                if (wheel.cancel(timeout)) {
+                    pendingByChannel.get(timeout.value().getChannel()).decrement();
+                    dropped.add(timeout.value());
+                }
+            }
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("[Scheduler] Closed with {} notifications still scheduled, they will not be sent", dropped.size());
+            dropped.forEach(notification -> log.warn("[Scheduler] Scheduled notification {} for {} at {} dropped on close",
+                    notification.getId(), notification.getChannel(), notification.getScheduledAt()));
+        }
+    }
+
+    private <T> List<NotificationResult> scheduleBatch(List<T> items,
+                                                       Predicate<T> schedulable,
+                                                       Function<T, Notification> toNotification,
+                                                       Function<List<T>, List<NotificationResult>> sendImmediate) {
+        var results = new NotificationResult[items.size()];
+        var immediateIndexes = new ArrayList<Integer>();
+        var immediate = new ArrayList<T>();
+
+        for (var i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            if (schedulable.test(item)) {
+                results[i] = schedule(toNotification.apply(item));
+            } else {
+                immediateIndexes.add(i);
+                immediate.add(item);
+            }
+        }
+
+        if (!immediate.isEmpty()) {
+            var immediateResults = sendImmediate.apply(immediate);
+            for (var i = 0; i < immediateIndexes.size(); i++) {
+                results[immediateIndexes.get(i)] = immediateResults.get(i);
+            }
+        }
+        return List.of(results);
+    }
+
+    private boolean isSchedulable(NotificationChannel channel, OffsetDateTime scheduledAt) {
+        return channel != null && scheduledAt != null && scheduledAt.toInstant().isAfter(clock.instant());
+    }
+
+    private NotificationResult schedule(Notification notification) {
+        var delay = Duration.between(clock.instant(), notification.getScheduledAt().toInstant());
+        var deadlineNanos = System.nanoTime() + delay.toNanos();
+
+        lock.lock();
+        try {
+            pending.put(notification.getId(), wheel.schedule(notification, deadlineNanos));
+            pendingByChannel.get(notification.getChannel()).increment();
+            startTicker();
+        } finally {
+            lock.unlock();
+        }
+
+        metrics.recordEvent(notification.getChannel(), PipelineEvent.SCHEDULED);
+        log.debug("[Scheduler] Notification {} scheduled for {}", notification.getId(), notification.getScheduledAt());
+        return NotificationResult.scheduled(notification.getId(), notification.getChannel(), notification.getScheduledAt());
+    }
+
+    private void startTicker() {
+        if (ticker != null || !running) {
+            return;
+        }
+        ticker = new Thread(this::tickLoop, "seek-notification-scheduler");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    private void tickLoop() {
+        var due = new ArrayList<Notification>();
+        while (running && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(tickNanos);
+
+            lock.lock();
+            try {
+                wheel.advanceTo(System.nanoTime(), notification -> {
+                    pending.remove(notification.getId());
+                    pendingByChannel.get(notification.getChannel()).decrement();
+                    due.add(notification);
+                });
+            } finally {
+                lock.unlock();
+            }
+
+            due.forEach(this::release);
+            due.clear();
+        }
+    }
+
+    private void release(Notification notification) {
+        delegate.deliverAsync(notification, executor)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[Scheduler] Failed to deliver scheduled notification {}: {}", notification.getId(), ex.getMessage(), ex);
+                    } else if (!result.isSuccess()) {
+                        log.warn("[Scheduler] Scheduled notification {} was not delivered: {} {}", notification.getId(),
+                                result.getErrorCode(), result.getErrorMessage());
+                    }
+                });
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
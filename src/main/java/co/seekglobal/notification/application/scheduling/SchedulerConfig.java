@@ -0,0 +1,20 @@
+package co.seekglobal.notification.application.scheduling;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class SchedulerConfig {
+
+    @Builder.Default
+    private final Duration tick = Duration.ofMillis(10);
+
+    @Builder.Default
+    private final int wheelSize = 512;
+
+    @Builder.Default
+    private final int levels = 4;
+}
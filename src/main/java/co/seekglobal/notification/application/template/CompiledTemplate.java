@@ -0,0 +1,72 @@
+package co.seekglobal.notification.application.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Render plan for one template string: literal segments interleaved with variable names, so rendering is a
+ * sequence of appends. Unknown variables render as empty, and a placeholder that is never closed stays literal text.
+ */
+final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        var length = 0;
+        for (var literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static CompiledTemplate compile(String source) {
+        if (source == null) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        var from = 0;
+        while (true) {
+            var open = source.indexOf(OPEN, from);
+            var close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(from));
+                break;
+            }
+            literals.add(source.substring(from, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            from = close + CLOSE.length();
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    void renderTo(StringBuilder buffer, Map<String, Object> values) {
+        buffer.ensureCapacity(buffer.length() + literalLength + variables.length * 16);
+        buffer.append(literals[0]);
+        for (var i = 0; i < variables.length; i++) {
+            var value = values != null ? values.get(variables[i]) : null;
+            if (value instanceof CharSequence text) {
+                buffer.append(text);
+            } else if (value != null) {
+                buffer.append(value);
+            }
+            buffer.append(literals[i + 1]);
+        }
+    }
+
+    boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    String constant() {
+        return literals[0];
+    }
+}
@@ -0,0 +1,8 @@
+package co.seekglobal.notification.application.template;
+
+public class TemplateException extends RuntimeException {
+
+    public TemplateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,110 @@
+package co.seekglobal.notification.application.template;
+
+import co.seekglobal.notification.application.outbound.TemplateRepository;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationTemplate;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renders {@code templateId} notifications from a {@link TemplateRepository}. Each template version is compiled once
+ * and kept in an LRU cache; rendering appends into a per-thread buffer that is reused across sends.
+ */
+@Slf4j
+public final class TemplateRenderer {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final TemplateRepository repository;
+    private final Map<String, Compiled> compiled;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(512));
+    private final LongAdder compilations = new LongAdder();
+
+    @Builder(builderMethodName = "factory")
+    public TemplateRenderer(TemplateRepository repository, Integer cacheSize) {
+        var maxEntries = cacheSize != null ? cacheSize : 1_000;
+        this.repository = repository;
+        this.compiled = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Compiled> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Templated notifications without a body still need rendering; a caller-supplied body always wins.
+     */
+    public boolean needsRendering(Notification notification) {
+        return notification.getTemplateId() != null && !notification.getTemplateId().isBlank()
+                && (notification.getBody() == null || notification.getBody().isBlank());
+    }
+
+    public Notification render(Notification notification) {
+        var template = compiled(notification.getTemplateId());
+        var variables = notification.getTemplateVariables();
+        return notification.toBuilder()
+                .subject(template.subject != null ? render(template.subject, variables) : notification.getSubject())
+                .body(render(template.body, variables))
+                .build();
+    }
+
+    public long getCompilationCount() {
+        return compilations.sum();
+    }
+
+    public void invalidate(String templateId) {
+        synchronized (compiled) {
+            compiled.remove(templateId);
+        }
+    }
+
+    private Compiled compiled(String templateId) {
+        var template = repository.findById(templateId)
+                .orElseThrow(() -> new TemplateException("Template not found: " + templateId));
+        Compiled cached;
+        synchronized (compiled) {
+            cached = compiled.get(templateId);
+        }
+        if (cached != null && cached.version == template.version()) {
+            return cached;
+        }
+        var fresh = compile(template);
+        synchronized (compiled) {
+            compiled.put(templateId, fresh);
+        }
+        return fresh;
+    }
+
+    private Compiled compile(NotificationTemplate template) {
+        if (template.body() == null) {
+            throw new TemplateException("Template " + template.id() + " has no body");
+        }
+        compilations.increment();
+        log.debug("Compiling template {} version {}", template.id(), template.version());
+        return new Compiled(template.version(),
+                CompiledTemplate.compile(template.subject()),
+                CompiledTemplate.compile(template.body()));
+    }
+
+    private String render(CompiledTemplate template, Map<String, Object> variables) {
+        if (template.isConstant()) {
+            return template.constant();
+        }
+        var buffer = buffers.get();
+        buffer.setLength(0);
+        template.renderTo(buffer, variables);
+        var rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.set(new StringBuilder(512));
+        }
+        return rendered;
+    }
+
+    private record Compiled(long version, CompiledTemplate subject, CompiledTemplate body) {
+    }
+}
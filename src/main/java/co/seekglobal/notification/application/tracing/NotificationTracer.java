@@ -0,0 +1,60 @@
+package co.seekglobal.notification.application.tracing;
+
+import co.seekglobal.notification.application.outbound.TraceSink;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which sends are traced and exports their traces once the use case has a final result. A notification that
+ * is sampled out carries no trace, so every stage along the send path only pays a {@code null} check.
+ */
+@Slf4j
+public final class NotificationTracer {
+
+    private final double sampleRate;
+    private final TraceSink sink;
+    private final Clock clock;
+
+    public static final double DEFAULT_SAMPLE_RATE = 0.01;
+
+    /**
+     * @param sampleRate fraction of sends traced, from 0 to 1; {@value #DEFAULT_SAMPLE_RATE} when not set
+     */
+    @Builder(builderMethodName = "factory")
+    public NotificationTracer(Double sampleRate, TraceSink sink, Clock clock) {
+        var rate = sampleRate != null ? sampleRate : DEFAULT_SAMPLE_RATE;
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + rate);
+        }
+        this.sampleRate = rate;
+        this.sink = sink;
+        this.clock = clock != null ? clock : Clock.systemUTC();
+    }
+
+    /**
+     * @return a new trace for the notification, or {@code null} when it is not sampled
+     */
+    public SendTrace start(Notification notification) {
+        if (sampleRate == 0 || sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        return new SendTrace(notification.getId(), notification.getChannel(), clock.millis(), System.nanoTime());
+    }
+
+    public void finish(SendTrace trace, NotificationResult result) {
+        if (!trace.finish(result)) {
+            return;
+        }
+        try {
+            sink.export(trace);
+        } catch (RuntimeException e) {
+            log.warn("[Tracing] Failed to export trace of notification {}: {}", trace.getNotificationId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package co.seekglobal.notification.application.usecase;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-channel hedging state: a ring of recent successful latencies whose percentile is recomputed every
+ * {@link #RECOMPUTE_EVERY} samples, and a token bucket capping hedges at {@code maxHedgeRatio} of sends.
+ */
+final class ChannelHedging {
+
+    private static final int SAMPLES = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final long TOKEN = 1_000;
+
+    private final HedgingPolicy policy;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long thresholdNanos;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong tokens;
+    private final LongAdder hedges = new LongAdder();
+
+    ChannelHedging(HedgingPolicy policy) {
+        if (policy.getMaxHedgeRatio() < 0 || policy.getMaxHedgeRatio() > 1) {
+            throw new IllegalArgumentException("maxHedgeRatio must be between 0 and 1, got " + policy.getMaxHedgeRatio());
+        }
+        this.policy = policy;
+        this.thresholdNanos = policy.getInitialDelay().toNanos();
+        this.deposit = Math.round(policy.getMaxHedgeRatio() * TOKEN);
+        this.capacity = policy.getHedgeBurst() * TOKEN;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    HedgingPolicy policy() {
+        return policy;
+    }
+
+    void onRequest() {
+        tokens.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        hedges.increment();
+        return true;
+    }
+
+    void recordLatency(long nanos) {
+        var count = sampleCount.getAndIncrement() + 1;
+        samples.lazySet((int) ((count - 1) & (SAMPLES - 1)), nanos);
+        if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+            recompute((int) Math.min(count, SAMPLES));
+        }
+    }
+
+    long delayNanos() {
+        return Math.max(policy.getMinDelay().toNanos(), thresholdNanos);
+    }
+
+    long hedgeCount() {
+        return hedges.sum();
+    }
+
+    private void recompute(int size) {
+        var snapshot = new long[size];
+        for (var i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        var index = (int) Math.min(size - 1, Math.ceil(policy.getPercentile() * size) - 1);
+        thresholdNanos = snapshot[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,57 @@
+package co.seekglobal.notification.application.usecase;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in per channel: if the current provider has not answered within the channel's {@code percentile} latency,
+ * the next provider is fired with the same notification and {@code idempotencyKey} (the notification id when the caller
+ * gave none), so providers can drop the duplicate.
+ */
+@Getter
+@Builder
+public class HedgingPolicy {
+
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    /**
+     * Hedge delay used until enough latency samples have been observed.
+     */
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(50);
+
+    @Builder.Default
+    private final Duration minDelay = Duration.ofMillis(5);
+
+    /**
+     * Hedges allowed per original send, at most {@code 1.0} so hedging can never more than double provider load.
+     */
+    @Builder.Default
+    private final double maxHedgeRatio = 0.2;
+
+    @Builder.Default
+    private final int hedgeBurst = 10;
+
+    /**
+     * Runs blocking providers, hedge timers and synchronous {@code send} calls on hedged channels. Defaults to a
+     * cached pool of daemon threads owned by the policy, since those tasks block.
+     */
+    @Builder.Default
+    private final Executor executor = Executors.newCachedThreadPool(daemon("seek-hedge-worker"));
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -2,36 +2,173 @@ package co.seekglobal.notification.application.usecase;
 
 import co.seekglobal.notification.application.inbound.SendNotificationCommand;
 import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.BatchNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.IdempotencyStore;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
 import co.seekglobal.notification.application.outbound.ValidableSender;
 import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.application.routing.RoutingStrategy;
+import co.seekglobal.notification.application.template.TemplateException;
+import co.seekglobal.notification.application.template.TemplateRenderer;
+import co.seekglobal.notification.application.tracing.NotificationTracer;
 import co.seekglobal.notification.domain.ErrorCode;
 import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.NotificationResult;
-import lombok.RequiredArgsConstructor;
+import co.seekglobal.notification.domain.SendTrace.Phase;
+import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Slf4j
 public class SendNotificationUseCase implements SendNotificationCommand {
 
-    private final Map<NotificationChannel, Set<NotificationSenderProvider>> senders;
+    /**
+     * Metadata entry read as the idempotency key when the notification has none of its own.
+     */
+    public static final String IDEMPOTENCY_KEY_METADATA = "idempotencyKey";
+
+    private final Map<NotificationChannel, List<NotificationSenderProvider>> senders = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, RoutingStrategy> routing = new EnumMap<>(NotificationChannel.class);
+    private final Clock clock;
+    private final TemplateRenderer templateRenderer;
+    private final Map<NotificationChannel, LongAdder> expired = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, ChannelHedging> hedging = new EnumMap<>(NotificationChannel.class);
+    private final IdempotencyStore idempotency;
+    private final Map<String, CompletableFuture<NotificationResult>> pendingKeys = new ConcurrentHashMap<>();
+    private final LongAdder duplicates = new LongAdder();
+    private final NotificationMetrics metrics;
+    private final NotificationTracer tracer;
+    private final Map<NotificationSenderProvider, String> providerNames = new IdentityHashMap<>();
+
+    public SendNotificationUseCase(Map<NotificationChannel, Set<NotificationSenderProvider>> senders) {
+        this(senders, Clock.systemUTC());
+    }
+
+    public SendNotificationUseCase(Map<NotificationChannel, Set<NotificationSenderProvider>> senders, Clock clock) {
+        this(senders, clock, null, null, null, null, null, null);
+    }
+
+    @Builder(builderMethodName = "factory")
+    public SendNotificationUseCase(Map<NotificationChannel, Set<NotificationSenderProvider>> senders,
+                                   Clock clock,
+                                   Map<NotificationChannel, HedgingPolicy> hedging,
+                                   Map<NotificationChannel, RoutingStrategy> routing,
+                                   TemplateRenderer templateRenderer,
+                                   IdempotencyStore idempotency,
+                                   NotificationMetrics metrics,
+                                   NotificationTracer tracer) {
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.templateRenderer = templateRenderer;
+        this.idempotency = idempotency;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.tracer = tracer;
+        senders.forEach((channel, channelSenders) -> {
+            this.senders.put(channel, List.copyOf(channelSenders));
+            channelSenders.forEach(sender -> providerNames.put(sender, sender.getProviderName()));
+        });
+        for (var channel : NotificationChannel.values()) {
+            expired.put(channel, new LongAdder());
+            this.routing.put(channel, routing != null
+                    ? routing.getOrDefault(channel, RoutingStrategy.REGISTRATION_ORDER)
+                    : RoutingStrategy.REGISTRATION_ORDER);
+        }
+        if (hedging != null) {
+            hedging.forEach((channel, policy) -> this.hedging.put(channel, new ChannelHedging(policy)));
+        }
+    }
 
     @Override
     public NotificationResult send(SendNotificationRequest request) {
-        var notification = toNotification(request);
-        var channel = request.channel();
-        var channelSenders = getSenders(channel);
+        return deliver(request.toNotification());
+    }
+
+    /**
+     * With an {@link IdempotencyStore}, a notification whose key already has a successful result, or is being sent
+     * right now and succeeds, gets that result back as {@link NotificationResult#duplicate} instead of reaching a
+     * provider. If the send it waited on fails, it is sent again under a fresh claim.
+     */
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        var key = idempotencyKey(notification);
+        if (key == null) {
+            return dispatch(notification);
+        }
+        while (true) {
+            var recorded = idempotency.find(key);
+            if (recorded != null) {
+                return duplicate(notification, recorded);
+            }
+            var claim = new CompletableFuture<NotificationResult>();
+            var pending = pendingKeys.putIfAbsent(key, claim);
+            if (pending != null) {
+                var first = successOrNull(pending).join();
+                if (first != null) {
+                    return duplicate(notification, first);
+                }
+                continue;
+            }
+            try {
+                recorded = idempotency.claim(key);
+            } catch (RuntimeException e) {
+                release(key, claim, null, e);
+                throw e;
+            }
+            if (recorded != null) {
+                release(key, claim, recorded, null);
+                return duplicate(notification, recorded);
+            }
+            try {
+                var result = dispatch(notification);
+                remember(key, result);
+                release(key, claim, result, null);
+                return result;
+            } catch (RuntimeException e) {
+                idempotency.release(key);
+                release(key, claim, null, e);
+                throw e;
+            }
+        }
+    }
+
+    private NotificationResult dispatch(Notification notification) {
+        notification = traced(notification);
+        var channel = notification.getChannel();
+        var channelSenders = route(channel);
+        metrics.recordSend(channel);
 
         if (channelSenders.isEmpty()) {
-            return noSenderConfigured(channel);
+            return completed(notification, noSenderConfigured(notification), 0);
+        }
+
+        var channelHedging = hedging.get(channel);
+        if (channelHedging != null) {
+            return new HedgedDelivery(notification, channelSenders, channelHedging,
+                    channelHedging.policy().getExecutor()).start().toCompletableFuture().join();
         }
 
         return trySend(notification, channelSenders);
@@ -39,36 +176,640 @@ public class SendNotificationUseCase implements SendNotificationCommand {
 
     @Override
     public void sendAsync(SendNotificationRequest command, Executor executor) {
-        CompletableFuture.runAsync(() -> send(command), executor)
+        submit(command, executor)
                 .exceptionally(ex -> {
                     log.error("Failed to send notification asynchronously: {}", ex.getMessage(), ex);
                     return null;
                 });
     }
 
-    private Set<NotificationSenderProvider> getSenders(NotificationChannel channel) {
-        return senders.getOrDefault(channel, Set.of());
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest request, Executor executor) {
+        return deliverAsync(request.toNotification(), executor);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        var key = idempotencyKey(notification);
+        if (key == null) {
+            return dispatchAsync(notification, executor);
+        }
+        var recorded = idempotency.find(key);
+        if (recorded != null) {
+            return CompletableFuture.completedFuture(duplicate(notification, recorded));
+        }
+        var claim = new CompletableFuture<NotificationResult>();
+        var pending = pendingKeys.putIfAbsent(key, claim);
+        if (pending != null) {
+            return successOrNull(pending).thenCompose(first -> first != null
+                    ? CompletableFuture.completedFuture(duplicate(notification, first))
+                    : deliverAsync(notification, executor));
+        }
+        try {
+            recorded = idempotency.claim(key);
+        } catch (RuntimeException e) {
+            release(key, claim, null, e);
+            throw e;
+        }
+        if (recorded != null) {
+            release(key, claim, recorded, null);
+            return CompletableFuture.completedFuture(duplicate(notification, recorded));
+        }
+        dispatchAsync(notification, executor).whenComplete((result, ex) -> {
+            if (ex == null) {
+                remember(key, result);
+            } else {
+                idempotency.release(key);
+            }
+            release(key, claim, result, ex);
+        });
+        return claim;
+    }
+
+    /**
+     * The claimed send's result when it succeeded, {@code null} when it failed or threw so the waiter sends again.
+     */
+    private static CompletableFuture<NotificationResult> successOrNull(CompletableFuture<NotificationResult> pending) {
+        return pending.handle((result, ex) -> ex == null && result.isSuccess() ? result : null);
+    }
+
+    private void release(String key, CompletableFuture<NotificationResult> claim, NotificationResult result, Throwable ex) {
+        pendingKeys.remove(key, claim);
+        if (ex != null) {
+            claim.completeExceptionally(ex);
+        } else {
+            claim.complete(result);
+        }
+    }
+
+    private CompletionStage<NotificationResult> dispatchAsync(Notification notification, Executor executor) {
+        notification = traced(notification);
+        var channel = notification.getChannel();
+        var channelSenders = route(channel);
+        metrics.recordSend(channel);
+
+        if (channelSenders.isEmpty()) {
+            return CompletableFuture.completedFuture(completed(notification, noSenderConfigured(notification), 0));
+        }
+
+        var channelHedging = hedging.get(channel);
+        if (channelHedging != null) {
+            return new HedgedDelivery(notification, channelSenders, channelHedging, executor).start();
+        }
+
+        return trySendAsync(notification, channelSenders.iterator(), executor, 0);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> requests) {
+        return deliverBatch(requests.stream().map(SendNotificationRequest::toNotification).toList());
+    }
+
+    /**
+     * Keys are claimed like in {@link #deliver}, then recorded results are looked up for the whole batch at once.
+     * Repeated keys within the batch are sent once; keys being sent elsewhere are waited for after the batch is sent.
+     */
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        if (idempotency == null) {
+            return dispatchBatch(notifications);
+        }
+        var keys = new String[notifications.size()];
+        var firstIndexByKey = new HashMap<String, Integer>();
+        var claims = new HashMap<String, CompletableFuture<NotificationResult>>();
+        var inFlight = new HashMap<String, CompletableFuture<NotificationResult>>();
+        for (var i = 0; i < keys.length; i++) {
+            keys[i] = idempotencyKey(notifications.get(i));
+            if (keys[i] != null && firstIndexByKey.putIfAbsent(keys[i], i) == null) {
+                var claim = new CompletableFuture<NotificationResult>();
+                var pending = pendingKeys.putIfAbsent(keys[i], claim);
+                if (pending != null) {
+                    inFlight.put(keys[i], pending);
+                } else {
+                    claims.put(keys[i], claim);
+                }
+            }
+        }
+
+        var results = new NotificationResult[notifications.size()];
+        var claimed = new HashMap<String, NotificationResult>();
+        var reserved = new ArrayList<String>();
+        try {
+            var recorded = claims.isEmpty()
+                    ? Map.<String, NotificationResult>of()
+                    : idempotency.claimAll(List.copyOf(claims.keySet()));
+            claims.keySet().stream().filter(key -> !recorded.containsKey(key)).forEach(reserved::add);
+            var toSend = new ArrayList<Notification>();
+            var sentIndexes = new ArrayList<Integer>();
+            for (var i = 0; i < keys.length; i++) {
+                var notification = notifications.get(i);
+                if (keys[i] == null) {
+                    toSend.add(notification);
+                    sentIndexes.add(i);
+                } else if (firstIndexByKey.get(keys[i]) == i && claims.containsKey(keys[i])) {
+                    if (recorded.containsKey(keys[i])) {
+                        results[i] = duplicate(notification, recorded.get(keys[i]));
+                        claimed.put(keys[i], recorded.get(keys[i]));
+                    } else {
+                        toSend.add(notification);
+                        sentIndexes.add(i);
+                    }
+                }
+            }
+
+            var sent = dispatchBatch(toSend);
+            var successes = new HashMap<String, NotificationResult>();
+            for (var i = 0; i < sent.size(); i++) {
+                var index = sentIndexes.get(i);
+                results[index] = sent.get(i);
+                if (keys[index] != null) {
+                    claimed.put(keys[index], sent.get(i));
+                    if (sent.get(i).isSuccess()) {
+                        successes.put(keys[index], sent.get(i));
+                    } else {
+                        idempotency.release(keys[index]);
+                    }
+                }
+            }
+            if (!successes.isEmpty()) {
+                idempotency.saveAll(successes);
+            }
+        } catch (RuntimeException e) {
+            reserved.forEach(idempotency::release);
+            claims.forEach((key, claim) -> release(key, claim, null, e));
+            throw e;
+        }
+        claims.forEach((key, claim) -> release(key, claim, claimed.get(key), null));
+
+        inFlight.forEach((key, pending) -> {
+            var index = firstIndexByKey.get(key);
+            var first = successOrNull(pending).join();
+            results[index] = first != null ? duplicate(notifications.get(index), first) : deliver(notifications.get(index));
+        });
+        for (var i = 0; i < keys.length; i++) {
+            if (results[i] == null) {
+                var first = results[firstIndexByKey.get(keys[i])];
+                results[i] = first.isSuccess() ? duplicate(notifications.get(i), first) : deliver(notifications.get(i));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<NotificationResult> dispatchBatch(List<Notification> notifications) {
+        var results = new NotificationResult[notifications.size()];
+        Map<NotificationChannel, List<BatchEntry>> byChannel = new LinkedHashMap<>();
+
+        var index = 0;
+        for (var notification : notifications) {
+            byChannel.computeIfAbsent(notification.getChannel(), k -> new ArrayList<>())
+                    .add(new BatchEntry(index++, traced(notification)));
+        }
+
+        byChannel.forEach((channel, entries) -> sendChannelBatch(channel, entries, results));
+        return Arrays.asList(results);
+    }
+
+    public long getExpiredCount(NotificationChannel channel) {
+        return expired.get(channel).sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long getHedgeCount(NotificationChannel channel) {
+        var channelHedging = hedging.get(channel);
+        return channelHedging != null ? channelHedging.hedgeCount() : 0;
+    }
+
+    private void sendChannelBatch(NotificationChannel channel, List<BatchEntry> entries, NotificationResult[] results) {
+        var channelSenders = route(channel);
+        for (var i = 0; i < entries.size(); i++) {
+            metrics.recordSend(channel);
+        }
+
+        if (channelSenders.isEmpty()) {
+            entries.forEach(entry -> results[entry.index()] = completed(entry.notification(),
+                    noSenderConfigured(entry.notification()), 0));
+            return;
+        }
+
+        var pending = entries;
+        var depth = 0;
+        for (var sender : channelSenders) {
+            if (pending.isEmpty()) {
+                break;
+            }
+            var remaining = sendWithProvider(sender, pending, results);
+            for (var entry : pending) {
+                if (results[entry.index()] != null) {
+                    completed(entry.notification(), results[entry.index()], depth);
+                }
+            }
+            pending = remaining;
+            depth++;
+        }
+
+        for (var entry : pending) {
+            results[entry.index()] = completed(entry.notification(), notifyFailure(entry.notification()), depth);
+        }
+    }
+
+    private List<BatchEntry> sendWithProvider(NotificationSenderProvider sender, List<BatchEntry> pending,
+                                              NotificationResult[] results) {
+        var remaining = new ArrayList<BatchEntry>();
+        var accepted = new ArrayList<BatchEntry>();
+        for (var entry : pending) {
+            if (isExpired(entry.notification())) {
+                results[entry.index()] = expired(entry.notification());
+                continue;
+            }
+            if (!isValidRequest(sender, entry.notification())) {
+                remaining.add(entry);
+                continue;
+            }
+            Notification rendered;
+            try {
+                rendered = render(entry.notification());
+            } catch (TemplateException e) {
+                results[entry.index()] = templateError(entry.notification(), e);
+                continue;
+            }
+            if (isValidRendering(sender, entry.notification(), rendered)) {
+                accepted.add(new BatchEntry(entry.index(), rendered));
+            } else {
+                remaining.add(new BatchEntry(entry.index(), rendered));
+            }
+        }
+
+        var providerResults = deliver(sender, accepted.stream().map(BatchEntry::notification).toList());
+        for (var i = 0; i < accepted.size(); i++) {
+            var entry = accepted.get(i);
+            var result = providerResults.get(i);
+            if (result.isSuccess()) {
+                results[entry.index()] = result;
+            } else if (isExpiredResult(result)) {
+                results[entry.index()] = countExpired(result);
+            } else {
+                remaining.add(entry);
+            }
+        }
+        return remaining;
+    }
+
+    private List<NotificationResult> deliver(NotificationSenderProvider sender, List<Notification> notifications) {
+        if (!(sender instanceof BatchNotificationSenderProvider batchSender)) {
+            return notifications.stream().map(notification -> send(sender, notification)).toList();
+        }
+
+        var chunkSize = Math.max(1, batchSender.getMaxBatchSize());
+        var results = new ArrayList<NotificationResult>(notifications.size());
+        for (var from = 0; from < notifications.size(); from += chunkSize) {
+            var chunk = notifications.subList(from, Math.min(from + chunkSize, notifications.size()));
+            var chunkResults = sendBatch(batchSender, chunk);
+            if (chunkResults.size() != chunk.size()) {
+                throw new IllegalStateException("Provider " + sender.getProviderName() + " returned "
+                        + chunkResults.size() + " results for a batch of " + chunk.size());
+            }
+            results.addAll(chunkResults);
+        }
+        return results;
+    }
+
+    private List<NotificationResult> sendBatch(BatchNotificationSenderProvider sender, List<Notification> chunk) {
+        var strategy = routing.get(chunk.get(0).getChannel());
+        strategy.onDispatch(sender);
+        var start = System.nanoTime();
+        List<NotificationResult> results = null;
+        try {
+            results = sender.sendBatch(chunk);
+            return results;
+        } catch (RuntimeException e) {
+            return chunk.stream().map(notification -> providerError(notification, sender, e)).toList();
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            var success = false;
+            var providerName = providerName(sender);
+            for (var i = 0; i < chunk.size(); i++) {
+                var notification = chunk.get(i);
+                var errorCode = errorCodeOf(results != null && i < results.size() ? results.get(i) : null);
+                success |= errorCode == null;
+                metrics.recordProviderCall(notification.getChannel(), providerName, elapsed, errorCode);
+                if (notification.getTrace() != null) {
+                    notification.getTrace().record(Phase.PROVIDER, providerName, start, elapsed, errorCode);
+                }
+            }
+            strategy.onComplete(sender, elapsed, success);
+        }
+    }
+
+    private List<NotificationSenderProvider> route(NotificationChannel channel) {
+        var channelSenders = senders.getOrDefault(channel, List.of());
+        if (channelSenders.size() < 2) {
+            return channelSenders;
+        }
+        var first = routing.get(channel).select(channelSenders);
+        if (first == 0) {
+            return channelSenders;
+        }
+        var routed = new ArrayList<NotificationSenderProvider>(channelSenders.size());
+        routed.add(channelSenders.get(first));
+        for (var i = 0; i < channelSenders.size(); i++) {
+            if (i != first) {
+                routed.add(channelSenders.get(i));
+            }
+        }
+        return routed;
+    }
+
+    /**
+     * The caller's key scoped by channel, so one upstream key can cover e.g. the email and the SMS of the same event.
+     */
+    private String idempotencyKey(Notification notification) {
+        if (idempotency == null) {
+            return null;
+        }
+        var key = callerKey(notification);
+        return key != null ? notification.getChannel() + ":" + key : null;
+    }
+
+    private static String callerKey(Notification notification) {
+        var key = notification.getIdempotencyKey();
+        if (key == null && notification.getMetadata() != null
+                && notification.getMetadata().get(IDEMPOTENCY_KEY_METADATA) instanceof String metadataKey) {
+            key = metadataKey;
+        }
+        return key;
+    }
+
+    /**
+     * Records a success for later retries; a failure gives the key's claim back so it can be sent again.
+     */
+    private void remember(String key, NotificationResult result) {
+        if (result.isSuccess()) {
+            idempotency.save(key, result);
+        } else {
+            idempotency.release(key);
+        }
     }
 
-    private NotificationResult noSenderConfigured(NotificationChannel channel) {
-        return NotificationResult.failure(null, channel, null,
+    private NotificationResult duplicate(Notification notification, NotificationResult original) {
+        duplicates.increment();
+        metrics.recordEvent(notification.getChannel(), PipelineEvent.DUPLICATE);
+        log.info("[Idempotency] Notification {} repeats {}, returning its result", notification.getId(),
+                original.getNotificationId());
+        return NotificationResult.duplicate(notification.getId(), original);
+    }
+
+    private NotificationResult noSenderConfigured(Notification notification) {
+        var channel = notification.getChannel();
+        return NotificationResult.failure(notification.getId(), channel, null,
                 ErrorCode.CHANNEL_NOT_CONFIGURED,
                 "No sender configured for channel: " + channel);
     }
 
-    private NotificationResult trySend(Notification notification, Set<NotificationSenderProvider> channelSenders) {
-        return channelSenders.stream()
-                .filter(sender -> isValidRequest(sender, notification))
-                .map(sender -> sender.send(notification))
-                .filter(NotificationResult::isSuccess)
-                .findFirst()
-                .orElseGet(() -> notifyFailure(notification));
+    private NotificationResult trySend(Notification notification, List<NotificationSenderProvider> channelSenders) {
+        var depth = 0;
+        for (var sender : channelSenders) {
+            if (isExpired(notification)) {
+                return completed(notification, expired(notification), depth);
+            }
+            if (!isValidRequest(sender, notification)) {
+                depth++;
+                continue;
+            }
+            Notification rendered;
+            try {
+                rendered = render(notification);
+            } catch (TemplateException e) {
+                return completed(notification, templateError(notification, e), depth);
+            }
+            var accepted = isValidRendering(sender, notification, rendered);
+            notification = rendered;
+            if (!accepted) {
+                depth++;
+                continue;
+            }
+            var result = send(sender, notification);
+            if (result.isSuccess()) {
+                return completed(notification, result, depth);
+            }
+            if (isExpiredResult(result)) {
+                return completed(notification, countExpired(result), depth);
+            }
+            depth++;
+        }
+        return completed(notification, notifyFailure(notification), depth);
+    }
+
+    private CompletionStage<NotificationResult> trySendAsync(Notification notification,
+                                                             Iterator<NotificationSenderProvider> remaining,
+                                                             Executor executor,
+                                                             int depth) {
+        while (remaining.hasNext()) {
+            if (isExpired(notification)) {
+                return CompletableFuture.completedFuture(completed(notification, expired(notification), depth));
+            }
+            var sender = remaining.next();
+            if (isValidRequest(sender, notification)) {
+                Notification prepared;
+                try {
+                    prepared = render(notification);
+                } catch (TemplateException e) {
+                    return CompletableFuture.completedFuture(completed(notification, templateError(notification, e), depth));
+                }
+                var accepted = isValidRendering(sender, notification, prepared);
+                notification = prepared;
+                if (!accepted) {
+                    depth++;
+                    continue;
+                }
+                var attemptDepth = depth;
+                return sendAsync(sender, prepared, executor)
+                        .exceptionally(ex -> providerError(prepared, sender, ex))
+                        .thenCompose(result -> {
+                            if (result.isSuccess()) {
+                                return CompletableFuture.completedFuture(completed(prepared, result, attemptDepth));
+                            }
+                            if (isExpiredResult(result)) {
+                                return CompletableFuture.completedFuture(completed(prepared, countExpired(result), attemptDepth));
+                            }
+                            return trySendAsync(prepared, remaining, executor, attemptDepth + 1);
+                        });
+            }
+            depth++;
+        }
+        return CompletableFuture.completedFuture(completed(notification, notifyFailure(notification), depth));
+    }
+
+    /**
+     * Renders templated notifications once a provider has accepted them, so rejected messages never pay for it.
+     * The rendered copy keeps the id and is reused by fallback attempts.
+     */
+    private Notification render(Notification notification) {
+        if (templateRenderer == null || !templateRenderer.needsRendering(notification)) {
+            return notification;
+        }
+        var trace = notification.getTrace();
+        if (trace == null) {
+            return templateRenderer.render(notification);
+        }
+        var start = System.nanoTime();
+        try {
+            return templateRenderer.render(notification);
+        } finally {
+            trace.record(Phase.RENDER, null, start, null);
+        }
+    }
+
+    /**
+     * Validation before rendering only saw the template id, so the rendered copy goes through the provider's checks
+     * again and its content limits (body and subject length) apply to what would actually be sent.
+     */
+    private boolean isValidRendering(NotificationSenderProvider sender, Notification original, Notification rendered) {
+        return rendered == original || isValidRequest(sender, rendered);
+    }
+
+    private NotificationResult templateError(Notification notification, TemplateException e) {
+        log.error("Notification: {}, Template: {}, Rendering failed: {}", notification.getId(), notification.getTemplateId(), e.getMessage());
+        return NotificationResult.failure(notification.getId(), notification.getChannel(), null,
+                ErrorCode.TEMPLATE_ERROR, e.getMessage());
+    }
+
+    private NotificationResult send(NotificationSenderProvider sender, Notification notification) {
+        var strategy = routing.get(notification.getChannel());
+        strategy.onDispatch(sender);
+        var start = System.nanoTime();
+        NotificationResult result;
+        try {
+            result = sender.send(notification);
+        } catch (RuntimeException e) {
+            result = providerError(notification, sender, e);
+        }
+        onProviderComplete(strategy, sender, notification, start, errorCodeOf(result));
+        return result;
+    }
+
+    private CompletionStage<NotificationResult> sendAsync(NotificationSenderProvider sender, Notification notification,
+                                                          Executor executor) {
+        if (sender instanceof AsyncNotificationSenderProvider asyncSender) {
+            var strategy = routing.get(notification.getChannel());
+            strategy.onDispatch(sender);
+            var start = System.nanoTime();
+            CompletionStage<NotificationResult> stage;
+            try {
+                stage = asyncSender.sendAsync(notification);
+            } catch (RuntimeException e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            stage.whenComplete((result, ex) -> {
+                if (isCancellation(ex)) {
+                    strategy.onCancel(sender);
+                    return;
+                }
+                onProviderComplete(strategy, sender, notification, start,
+                        ex == null ? errorCodeOf(result) : ErrorCode.UNKNOWN_ERROR);
+            });
+            return stage;
+        }
+        return CompletableFuture.supplyAsync(() -> send(sender, notification), executor);
+    }
+
+    private void onProviderComplete(RoutingStrategy strategy, NotificationSenderProvider sender,
+                                    Notification notification, long startNanos, ErrorCode errorCode) {
+        var elapsedNanos = System.nanoTime() - startNanos;
+        strategy.onComplete(sender, elapsedNanos, errorCode == null);
+        metrics.recordProviderCall(notification.getChannel(), providerName(sender), elapsedNanos, errorCode);
+        if (notification.getTrace() != null) {
+            notification.getTrace().record(Phase.PROVIDER, providerName(sender), startNanos, elapsedNanos, errorCode);
+        }
+    }
+
+    /**
+     * A cancelled call is a hedge loser, not a provider failure: it must not count in routing or metrics.
+     */
+    private static boolean isCancellation(Throwable ex) {
+        return ex instanceof CancellationException
+                || ex instanceof CompletionException && ex.getCause() instanceof CancellationException;
+    }
+
+    private String providerName(NotificationSenderProvider sender) {
+        var name = providerNames.get(sender);
+        return name != null ? name : sender.getProviderName();
+    }
+
+    /**
+     * {@code null} for a success; a missing result (the provider threw) counts as {@link ErrorCode#UNKNOWN_ERROR}.
+     */
+    private static ErrorCode errorCodeOf(NotificationResult result) {
+        if (result != null && result.isSuccess()) {
+            return null;
+        }
+        return result != null && result.getErrorCode() != null ? result.getErrorCode() : ErrorCode.UNKNOWN_ERROR;
+    }
+
+    private NotificationResult completed(Notification notification, NotificationResult result, int fallbackDepth) {
+        metrics.recordOutcome(notification.getChannel(), errorCodeOf(result), fallbackDepth);
+        if (tracer != null && notification.getTrace() != null) {
+            tracer.finish(notification.getTrace(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Attaches a trace when the send is sampled; otherwise the notification is returned untouched.
+     */
+    private Notification traced(Notification notification) {
+        if (tracer == null) {
+            return notification;
+        }
+        var trace = tracer.start(notification);
+        return trace != null ? notification.toBuilder().trace(trace).build() : notification;
+    }
+
+    private NotificationResult providerError(Notification notification, NotificationSenderProvider sender, Throwable ex) {
+        var cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        log.error("Provider: {}, Notification: {}, Send failed: {}", sender.getProviderName(), notification.getId(),
+                cause.getMessage());
+        return NotificationResult.failure(notification.getId(), notification.getChannel(), sender.getProviderName(),
+                ErrorCode.UNKNOWN_ERROR, cause.getMessage());
+    }
+
+    private boolean isExpired(Notification notification) {
+        return notification.isExpired(clock.millis());
+    }
+
+    private NotificationResult expired(Notification notification) {
+        var channel = notification.getChannel();
+        if (channel != null) {
+            expired.get(channel).increment();
+        }
+        log.warn("Notification: {}, Channel: {}, dropped after TTL of {}s", notification.getId(), channel, notification.getTtlSeconds());
+        return NotificationResult.failure(notification.getId(), channel, null,
+                ErrorCode.EXPIRED, "Notification expired after " + notification.getTtlSeconds() + "s");
+    }
+
+    private boolean isExpiredResult(NotificationResult result) {
+        return result.getErrorCode() == ErrorCode.EXPIRED;
+    }
+
+    private NotificationResult countExpired(NotificationResult result) {
+        if (result.getChannel() != null) {
+            expired.get(result.getChannel()).increment();
+        }
+        return result;
     }
 
     private boolean isValidRequest(NotificationSenderProvider sender, Notification notification) {
         if (sender instanceof ValidableSender validator) {
+            var trace = notification.getTrace();
+            var start = trace != null ? System.nanoTime() : 0L;
             var e = validator.validate(notification);
+            if (trace != null) {
+                trace.record(Phase.VALIDATION, providerName(sender), start, e.isEmpty() ? null : ErrorCode.VALIDATION_ERROR);
+            }
             if (!e.isEmpty()) {
+                metrics.recordValidationRejection(notification.getChannel(), providerName(sender));
                 log.error("Provider: {}, Notification: {}, Validation error: {}", sender.getClass(), notification.getId(),
                         e.stream().map(ValidationError::message).collect(Collectors.joining()));
                 return false;
@@ -83,19 +824,179 @@ public class SendNotificationUseCase implements SendNotificationCommand {
                 ErrorCode.PROVIDER_NOT_FOUND, "All senders failed");
     }
 
-    private Notification toNotification(SendNotificationRequest request) {
-        return Notification.builder()
-                .recipient(request.recipient())
-                .subject(request.subject())
-                .body(request.body())
-                .templateId(request.templateId())
-                .templateVariables(request.templateVariables())
-                .metadata(request.metadata())
-                .priority(request.priority())
-                .scheduledAt(request.scheduledAt())
-                .ttlSeconds(request.ttlSeconds())
-                .from(request.from())
-                .replyTo(request.replyTo())
-                .build();
+    private record BatchEntry(int index, Notification notification) {
+    }
+
+    /**
+     * Walks the channel's providers like {@link #trySendAsync}, but also fires the next provider when the current
+     * one is slower than the channel's latency percentile. The first success wins; the rest are cancelled.
+     */
+    private final class HedgedDelivery {
+
+        private volatile Notification notification;
+        private final Iterator<NotificationSenderProvider> remaining;
+        private final ChannelHedging channelHedging;
+        private final Executor executor;
+        private final CompletableFuture<NotificationResult> outcome = new CompletableFuture<>();
+        private final List<CompletableFuture<NotificationResult>> inFlight = new ArrayList<>(2);
+        private int outstanding;
+        private boolean hedged;
+        private int failed;
+
+        private HedgedDelivery(Notification notification, List<NotificationSenderProvider> channelSenders,
+                               ChannelHedging channelHedging, Executor executor) {
+            this.notification = withProviderKey(notification);
+            this.remaining = channelSenders.iterator();
+            this.channelHedging = channelHedging;
+            this.executor = executor;
+        }
+
+        CompletionStage<NotificationResult> start() {
+            channelHedging.onRequest();
+            launchNext();
+            return outcome;
+        }
+
+        private void launchNext() {
+            NotificationSenderProvider sender;
+            synchronized (this) {
+                if (outcome.isDone()) {
+                    return;
+                }
+                if (isExpired(notification)) {
+                    complete(expired(notification));
+                    return;
+                }
+                sender = nextValidSender();
+                if (sender == null) {
+                    if (outstanding == 0 && outcome.complete(notifyFailure(notification))) {
+                        completed(notification, outcome.join(), failed);
+                    }
+                    return;
+                }
+                outstanding++;
+            }
+
+            Notification prepared;
+            try {
+                prepared = prepared(sender);
+            } catch (TemplateException e) {
+                complete(templateError(notification, e));
+                return;
+            }
+            if (prepared == null) {
+                synchronized (this) {
+                    outstanding--;
+                    failed++;
+                }
+                launchNext();
+                return;
+            }
+
+            var start = System.nanoTime();
+            CompletableFuture<NotificationResult> future;
+            try {
+                future = sendAsync(sender, prepared, executor).toCompletableFuture();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                inFlight.add(future);
+            }
+            future.whenComplete((result, ex) -> onComplete(sender, result, ex, start));
+            scheduleHedge();
+        }
+
+        /**
+         * Both providers of a hedged send receive the same {@code idempotencyKey} so they can drop the duplicate;
+         * without a caller key the notification id is used.
+         */
+        private static Notification withProviderKey(Notification notification) {
+            var key = callerKey(notification);
+            if (key != null && key.equals(notification.getIdempotencyKey())) {
+                return notification;
+            }
+            return notification.toBuilder().idempotencyKey(key != null ? key : notification.getId()).build();
+        }
+
+        /**
+         * @return the rendered notification, or {@code null} when the rendered content fails {@code sender}'s checks
+         */
+        private synchronized Notification prepared(NotificationSenderProvider sender) {
+            var rendered = render(notification);
+            var accepted = isValidRendering(sender, notification, rendered);
+            notification = rendered;
+            return accepted ? rendered : null;
+        }
+
+        private NotificationSenderProvider nextValidSender() {
+            while (remaining.hasNext()) {
+                var sender = remaining.next();
+                if (isValidRequest(sender, notification)) {
+                    return sender;
+                }
+                failed++;
+            }
+            return null;
+        }
+
+        private void scheduleHedge() {
+            synchronized (this) {
+                if (hedged || !remaining.hasNext()) {
+                    return;
+                }
+                hedged = true;
+            }
+            CompletableFuture.delayedExecutor(channelHedging.delayNanos(), TimeUnit.NANOSECONDS, executor)
+                    .execute(this::hedge);
+        }
+
+        private void hedge() {
+            if (outcome.isDone() || !channelHedging.tryAcquireHedge()) {
+                return;
+            }
+            metrics.recordEvent(notification.getChannel(), PipelineEvent.HEDGED);
+            log.debug("Notification: {}, Channel: {}, hedging to next provider", notification.getId(), notification.getChannel());
+            launchNext();
+        }
+
+        private void onComplete(NotificationSenderProvider sender, NotificationResult result, Throwable ex, long start) {
+            if (outcome.isDone() || isCancellation(ex)) {
+                return;
+            }
+            var effective = ex != null ? providerError(notification, sender, ex) : result;
+            if (effective.isSuccess()) {
+                channelHedging.recordLatency(System.nanoTime() - start);
+                complete(effective);
+                return;
+            }
+            if (isExpiredResult(effective)) {
+                complete(countExpired(effective));
+                return;
+            }
+            synchronized (this) {
+                outstanding--;
+                failed++;
+            }
+            launchNext();
+        }
+
+        private void complete(NotificationResult result) {
+            if (outcome.isDone()) {
+                return;
+            }
+            List<CompletableFuture<NotificationResult>> losers;
+            synchronized (this) {
+                losers = List.copyOf(inFlight);
+            }
+            losers.forEach(future -> future.cancel(false));
+            if (outcome.complete(result)) {
+                int depth;
+                synchronized (this) {
+                    depth = failed;
+                }
+                completed(notification, result, depth);
+            }
+        }
     }
 }
@@ -0,0 +1,10 @@
+package co.seekglobal.notification.application.validation;
+
+/**
+ * Pure, allocation-free check of a non-blank recipient. Verdicts may be memoized by recipient.
+ */
+@FunctionalInterface
+public interface RecipientMatcher {
+
+    boolean matches(String recipient);
+}
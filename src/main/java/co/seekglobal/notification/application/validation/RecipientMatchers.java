@@ -0,0 +1,80 @@
+package co.seekglobal.notification.application.validation;
+
+/**
+ * Hand-written equivalents of the adapters' former regular expressions, scanning the recipient once without
+ * backtracking.
+ */
+public final class RecipientMatchers {
+
+    /**
+     * Same language as {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}.
+     */
+    public static final RecipientMatcher EMAIL = RecipientMatchers::isEmail;
+
+    /**
+     * Same language as {@code ^\+?[1-9]\d{6,14}$}.
+     */
+    public static final RecipientMatcher PHONE = RecipientMatchers::isPhone;
+
+    private RecipientMatchers() {
+    }
+
+    public static RecipientMatcher minLength(int length) {
+        return recipient -> recipient.length() >= length;
+    }
+
+    private static boolean isEmail(String value) {
+        var at = -1;
+        var lastDot = -1;
+        var length = value.length();
+        for (var i = 0; i < length; i++) {
+            var c = value.charAt(i);
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == 0) {
+                        return false;
+                    }
+                    at = i;
+                } else if (!isAlphanumeric(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+        if (at < 0 || lastDot <= at + 1 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (var i = lastDot + 1; i < length; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPhone(String value) {
+        var start = !value.isEmpty() && value.charAt(0) == '+' ? 1 : 0;
+        var digits = value.length() - start;
+        if (digits < 7 || digits > 15 || value.charAt(start) == '0') {
+            return false;
+        }
+        for (var i = start; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+}
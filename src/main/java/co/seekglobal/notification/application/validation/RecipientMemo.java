@@ -0,0 +1,34 @@
+package co.seekglobal.notification.application.validation;
+
+/**
+ * Per-thread memo of the last few recipient verdicts, keyed by matcher and recipient identity. A fallback attempt
+ * validates the same {@code Notification}, so its recipient instance hits here instead of being scanned again.
+ */
+final class RecipientMemo {
+
+    private static final int SLOTS = 4;
+    private static final ThreadLocal<RecipientMemo> CURRENT = ThreadLocal.withInitial(RecipientMemo::new);
+
+    private final String[] recipients = new String[SLOTS];
+    private final RecipientMatcher[] matchers = new RecipientMatcher[SLOTS];
+    private final boolean[] verdicts = new boolean[SLOTS];
+    private int next;
+
+    static boolean matches(RecipientMatcher matcher, String recipient, RecipientVerdictCache cache) {
+        return CURRENT.get().lookup(matcher, recipient, cache);
+    }
+
+    private boolean lookup(RecipientMatcher matcher, String recipient, RecipientVerdictCache cache) {
+        for (var i = 0; i < SLOTS; i++) {
+            if (recipients[i] == recipient && matchers[i] == matcher) {
+                return verdicts[i];
+            }
+        }
+        var verdict = cache != null ? cache.matches(matcher, recipient) : matcher.matches(recipient);
+        recipients[next] = recipient;
+        matchers[next] = matcher;
+        verdicts[next] = verdict;
+        next = (next + 1) & (SLOTS - 1);
+        return verdict;
+    }
+}
@@ -0,0 +1,131 @@
+package co.seekglobal.notification.application.validation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, concurrent cache of recipient verdicts keyed by matcher and recipient, so every provider validating with
+ * the same {@link RecipientMatcher} shares verdicts. Entries expire after {@code ttl}. The cache is split into
+ * segments, each an access-ordered map that drops its least recently used entry once full, so eviction is O(1) per
+ * miss and never scans the cache.
+ */
+public final class RecipientVerdictCache {
+
+    private static final RecipientVerdictCache SHARED = new RecipientVerdictCache(10_000, Duration.ofMinutes(10));
+    private static final int MAX_SEGMENTS = 16;
+
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public RecipientVerdictCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    RecipientVerdictCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        var segmentCount = Math.min(MAX_SEGMENTS, maxSize);
+        this.segments = new Segment[segmentCount];
+        for (var i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0), evictions);
+        }
+    }
+
+    /**
+     * Process-wide instance, for adapters that want to share verdicts without wiring a cache through.
+     */
+    public static RecipientVerdictCache shared() {
+        return SHARED;
+    }
+
+    public boolean matches(RecipientMatcher matcher, String recipient) {
+        var key = new Key(matcher, recipient);
+        var segment = segmentFor(key);
+        var now = nanoTime.getAsLong();
+        synchronized (segment) {
+            var cached = segment.get(key);
+            if (cached != null && cached.expiresAt - now > 0) {
+                hits.increment();
+                return cached.valid;
+            }
+        }
+        misses.increment();
+        var valid = matcher.matches(recipient);
+        synchronized (segment) {
+            segment.put(key, new Verdict(valid, now + ttlNanos));
+        }
+        return valid;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (var segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private Segment segmentFor(Key key) {
+        var hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, Verdict> {
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Verdict> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record Key(RecipientMatcher matcher, String recipient) {
+    }
+
+    private record Verdict(boolean valid, long expiresAt) {
+    }
+}
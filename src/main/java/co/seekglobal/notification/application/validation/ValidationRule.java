@@ -0,0 +1,13 @@
+package co.seekglobal.notification.application.validation;
+
+import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.domain.Notification;
+
+@FunctionalInterface
+public interface ValidationRule {
+
+    /**
+     * @return the violation, or {@code null} when the notification passes; passing must not allocate
+     */
+    ValidationError check(Notification notification);
+}
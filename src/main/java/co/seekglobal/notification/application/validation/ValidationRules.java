@@ -0,0 +1,105 @@
+package co.seekglobal.notification.application.validation;
+
+import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.domain.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A provider's validation rules, declared once and evaluated in order. A passing notification costs no allocation:
+ * constant errors are built up front and {@link #validate} returns the shared empty list.
+ */
+public final class ValidationRules {
+
+    private final ValidationRule[] rules;
+
+    private ValidationRules(List<ValidationRule> rules) {
+        this.rules = rules.toArray(ValidationRule[]::new);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<ValidationError> validate(Notification notification) {
+        List<ValidationError> errors = List.of();
+        for (var rule : rules) {
+            var error = rule.check(notification);
+            if (error != null) {
+                if (errors.isEmpty()) {
+                    errors = new ArrayList<>(rules.length);
+                }
+                errors.add(error);
+            }
+        }
+        return errors;
+    }
+
+    public static final class Builder {
+
+        private final List<Function<RecipientVerdictCache, ValidationRule>> rules = new ArrayList<>();
+        private RecipientVerdictCache verdictCache;
+
+        private Builder() {
+        }
+
+        public Builder recipient(RecipientMatcher matcher, String requiredMessage,
+                                 Function<String, ValidationError> invalid) {
+            var required = ValidationError.of("recipient", requiredMessage);
+            rules.add(cache -> notification -> {
+                var recipient = notification.getRecipient();
+                if (recipient == null || recipient.isBlank()) {
+                    return required;
+                }
+                return RecipientMemo.matches(matcher, recipient, cache) ? null : invalid.apply(recipient);
+            });
+            return this;
+        }
+
+        public Builder bodyOrTemplate(String requiredMessage, int maxBodyLength, ValidationError tooLong) {
+            var required = ValidationError.of("body", requiredMessage);
+            return rule(notification -> {
+                var body = notification.getBody();
+                var hasBody = body != null && !body.isBlank();
+                if (!hasBody && isBlank(notification.getTemplateId())) {
+                    return required;
+                }
+                return body != null && body.length() > maxBodyLength ? tooLong : null;
+            });
+        }
+
+        public Builder bodyOrTemplate(String requiredMessage) {
+            return bodyOrTemplate(requiredMessage, Integer.MAX_VALUE, null);
+        }
+
+        public Builder maxSubjectLength(int maxLength, ValidationError tooLong) {
+            return rule(notification -> notification.getSubject() != null && notification.getSubject().length() > maxLength
+                    ? tooLong
+                    : null);
+        }
+
+        public Builder rule(ValidationRule rule) {
+            rules.add(cache -> rule);
+            return this;
+        }
+
+        /**
+         * Caches recipient verdicts across sends. Worth it for matchers costlier than a hash lookup (lookups against a
+         * directory, number parsing libraries); the built-in {@link RecipientMatchers} are cheaper than the cache.
+         */
+        public Builder verdictCache(RecipientVerdictCache verdictCache) {
+            this.verdictCache = verdictCache;
+            return this;
+        }
+
+        public ValidationRules build() {
+            return new ValidationRules(rules.stream().map(factory -> factory.apply(verdictCache)).toList());
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
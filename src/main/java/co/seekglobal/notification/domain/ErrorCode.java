@@ -5,5 +5,9 @@ public enum ErrorCode {
     RATE_LIMIT_EXCEEDED,
     UNKNOWN_ERROR,
     CHANNEL_NOT_CONFIGURED,
-    PROVIDER_NOT_FOUND
+    PROVIDER_NOT_FOUND,
+    QUEUE_FULL,
+    EXPIRED,
+    CIRCUIT_OPEN,
+    TEMPLATE_ERROR
 }
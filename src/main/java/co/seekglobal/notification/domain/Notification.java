@@ -1,5 +1,6 @@
 package co.seekglobal.notification.domain;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,13 +10,15 @@ import java.util.Map;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class Notification {
 
     @Builder.Default
     private final String id = UUID.randomUUID().toString();
 
+    private final NotificationChannel channel;
+
     private final String recipient;
 
     private final String subject;
@@ -41,4 +44,38 @@ public class Notification {
     private final String from;
 
     private final String replyTo;
+
+    /**
+     * Caller-supplied key identifying one logical notification across retries of the same request.
+     */
+    private final String idempotencyKey;
+
+    /**
+     * Sampled trace of the send in progress, {@code null} when not traced. Kept by {@code toBuilder}, so rendered
+     * copies record into the same trace.
+     */
+    private final SendTrace trace;
+
+    /**
+     * Send-scoped cache for provider-side rendering; not copied by {@code toBuilder}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final RenderedContent renderedContent = new RenderedContent();
+
+    /**
+     * Whether {@code ttlSeconds} have elapsed, counted from {@code scheduledAt} when present or {@code createdAt}
+     * otherwise. Allocation-free so it can run before every send attempt.
+     */
+    public boolean isExpired(long nowEpochMillis) {
+        if (ttlSeconds == null) {
+            return false;
+        }
+        var base = scheduledAt != null ? scheduledAt : createdAt;
+        var expiresAtMillis = base.toEpochSecond() * 1_000 + base.getNano() / 1_000_000 + ttlSeconds * 1_000L;
+        return nowEpochMillis >= expiresAtMillis;
+    }
+
+    public <T> T rendered(RenderStep<T> step) {
+        return renderedContent.get(step, this);
+    }
 }
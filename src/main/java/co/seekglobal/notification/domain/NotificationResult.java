@@ -61,6 +61,48 @@ public class NotificationResult {
                 .build();
     }
 
+    public static NotificationResult scheduled(String notificationId,
+                                               NotificationChannel channel,
+                                               OffsetDateTime scheduledAt) {
+        return NotificationResult.builder()
+                .success(true)
+                .notificationId(notificationId)
+                .channel(channel)
+                .providerResponse(Map.of("status", "SCHEDULED", "scheduledAt", scheduledAt))
+                .build();
+    }
+
+    /**
+     * Result for a notification held back to be merged into the digest its recipient receives at {@code flushAt}.
+     */
+    public static NotificationResult coalesced(String notificationId,
+                                               NotificationChannel channel,
+                                               OffsetDateTime flushAt) {
+        return NotificationResult.builder()
+                .success(true)
+                .notificationId(notificationId)
+                .channel(channel)
+                .providerResponse(Map.of("status", "COALESCED", "flushAt", flushAt))
+                .build();
+    }
+
+    /**
+     * Result returned for a repeated idempotency key: the original outcome, reported under the duplicate's id.
+     */
+    public static NotificationResult duplicate(String notificationId, NotificationResult original) {
+        return NotificationResult.builder()
+                .success(original.isSuccess())
+                .notificationId(notificationId)
+                .providerMessageId(original.getProviderMessageId())
+                .channel(original.getChannel())
+                .providerName(original.getProviderName())
+                .errorCode(original.getErrorCode())
+                .errorMessage(original.getErrorMessage())
+                .processedAt(original.getProcessedAt())
+                .providerResponse(Map.of("status", "DUPLICATE", "originalNotificationId", original.getNotificationId()))
+                .build();
+    }
+
     public static NotificationResult validationFailure(String notificationId,
                                                         NotificationChannel channel,
                                                         String errorMessage) {
@@ -0,0 +1,7 @@
+package co.seekglobal.notification.domain;
+
+/**
+ * Subject and body with {@code {{variable}}} placeholders. Bumping {@code version} invalidates compiled copies.
+ */
+public record NotificationTemplate(String id, long version, String subject, String body) {
+}
@@ -0,0 +1,11 @@
+package co.seekglobal.notification.domain;
+
+/**
+ * Deterministic transform of a notification's content, shared by every provider of a channel. Declare steps as
+ * constants: {@link RenderedContent} memoizes results by step identity.
+ */
+@FunctionalInterface
+public interface RenderStep<T> {
+
+    T render(Notification notification);
+}
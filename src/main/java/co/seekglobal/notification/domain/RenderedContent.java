@@ -0,0 +1,35 @@
+package co.seekglobal.notification.domain;
+
+import java.util.Arrays;
+
+/**
+ * Results of {@link RenderStep}s for one notification instance. The use case passes the same instance to every
+ * fallback and hedged attempt, so channel-level rendering runs once per send and providers only redo their own
+ * transforms on top of it.
+ */
+public final class RenderedContent {
+
+    private RenderStep<?>[] steps;
+    private Object[] values;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(RenderStep<T> step, Notification notification) {
+        for (var i = 0; i < size; i++) {
+            if (steps[i] == step) {
+                return (T) values[i];
+            }
+        }
+        var value = step.render(notification);
+        if (steps == null) {
+            steps = new RenderStep<?>[2];
+            values = new Object[2];
+        } else if (size == steps.length) {
+            steps = Arrays.copyOf(steps, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        steps[size] = step;
+        values[size++] = value;
+        return value;
+    }
+}
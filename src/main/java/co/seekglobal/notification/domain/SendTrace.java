@@ -0,0 +1,101 @@
+package co.seekglobal.notification.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timed phases of one sampled send. The use case attaches it to the notification it hands to providers, so decorators
+ * along the provider chain record into the same trace; unsampled notifications carry none and skip recording. Phases
+ * recorded after {@link #finish} (e.g. by a hedged attempt that lost) are dropped.
+ */
+public final class SendTrace {
+
+    public enum Phase {
+        VALIDATION,
+        RENDER,
+        PROVIDER,
+        RATE_LIMIT,
+        RETRY,
+        CIRCUIT_OPEN
+    }
+
+    /**
+     * @param offsetNanos start of the span relative to the start of the trace
+     * @param errorCode   {@code null} unless the phase ended in a rejection or failure
+     */
+    public record Span(Phase phase, String provider, long offsetNanos, long durationNanos, ErrorCode errorCode) {
+    }
+
+    private final String notificationId;
+    private final NotificationChannel channel;
+    private final long startedAtEpochMillis;
+    private final long startNanos;
+    private final List<Span> spans = new ArrayList<>(8);
+    private boolean finished;
+    private long durationNanos;
+    private boolean success;
+    private ErrorCode errorCode;
+
+    public SendTrace(String notificationId, NotificationChannel channel, long startedAtEpochMillis, long startNanos) {
+        this.notificationId = notificationId;
+        this.channel = channel;
+        this.startedAtEpochMillis = startedAtEpochMillis;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Records a span that started at {@code spanStartNanos} ({@link System#nanoTime()}) and ends now.
+     */
+    public void record(Phase phase, String provider, long spanStartNanos, ErrorCode errorCode) {
+        record(phase, provider, spanStartNanos, System.nanoTime() - spanStartNanos, errorCode);
+    }
+
+    public synchronized void record(Phase phase, String provider, long spanStartNanos, long durationNanos,
+                                    ErrorCode errorCode) {
+        if (!finished) {
+            spans.add(new Span(phase, provider, spanStartNanos - startNanos, durationNanos, errorCode));
+        }
+    }
+
+    /**
+     * @return {@code false} if the trace was already finished
+     */
+    public synchronized boolean finish(NotificationResult result) {
+        if (finished) {
+            return false;
+        }
+        finished = true;
+        durationNanos = System.nanoTime() - startNanos;
+        success = result.isSuccess();
+        errorCode = result.getErrorCode();
+        return true;
+    }
+
+    public String getNotificationId() {
+        return notificationId;
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    public long getStartedAtEpochMillis() {
+        return startedAtEpochMillis;
+    }
+
+    public synchronized long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public synchronized boolean isSuccess() {
+        return success;
+    }
+
+    public synchronized ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public synchronized List<Span> getSpans() {
+        return List.copyOf(spans);
+    }
+}
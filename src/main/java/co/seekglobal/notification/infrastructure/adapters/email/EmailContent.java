@@ -0,0 +1,45 @@
+package co.seekglobal.notification.infrastructure.adapters.email;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.RenderStep;
+
+/**
+ * Email rendering shared by every email provider. {@link #HTML_BODY} is computed once per send; subject limits are
+ * provider-specific and applied on top.
+ */
+public final class EmailContent {
+
+    public static final RenderStep<String> HTML_BODY = EmailContent::toHtml;
+
+    private EmailContent() {
+    }
+
+    public static String subject(Notification notification, int maxLength) {
+        var subject = notification.getSubject();
+        if (subject == null || subject.length() <= maxLength) {
+            return subject;
+        }
+        return subject.substring(0, maxLength - 1) + "…";
+    }
+
+    private static String toHtml(Notification notification) {
+        var body = notification.getBody() != null ? notification.getBody() : "";
+        var html = new StringBuilder(body.length() + body.length() / 8 + 64);
+        html.append("<!DOCTYPE html><html><body><p>");
+        for (var i = 0; i < body.length(); i++) {
+            var c = body.charAt(i);
+            switch (c) {
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                case '\n' -> html.append("<br>\n");
+                case '\r' -> {
+                }
+                default -> html.append(c);
+            }
+        }
+        return html.append("</p></body></html>").toString();
+    }
+}
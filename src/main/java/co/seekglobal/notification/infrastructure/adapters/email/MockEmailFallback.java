@@ -5,24 +5,30 @@ import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.NotificationResult;
 import co.seekglobal.notification.infrastructure.config.Providers;
+import co.seekglobal.notification.infrastructure.logging.SendEventLogger;
 import lombok.Builder;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.UUID;
 
-@Builder(builderMethodName = "factory")
 public final class MockEmailFallback implements NotificationSenderProvider {
 
-    private static final Logger log = LoggerFactory.getLogger(MockEmailFallback.class);
+    private static final int MAX_SUBJECT_LENGTH = 255;
 
-    private MockEmailFallback(){}
+    private final SendEventLogger eventLogger;
+
+    @Builder(builderMethodName = "factory")
+    private MockEmailFallback(SendEventLogger eventLogger) {
+        this.eventLogger = eventLogger != null ? eventLogger : SendEventLogger.DEFAULT;
+    }
 
     @Override
     public NotificationResult send(Notification notification) {
         String messageId = UUID.randomUUID().toString();
 
-        log.info("[EMAIL FALLBACK] To: {} | Subject: {} | Body: {} | MessageId: {}", notification.getRecipient(), notification.getSubject(), notification.getBody(), messageId);
+        String html = notification.rendered(EmailContent.HTML_BODY);
+
+        eventLogger.sent(notification, this, messageId, EmailContent.subject(notification, MAX_SUBJECT_LENGTH), "htmlChars",
+                html.length());
 
         return NotificationResult.success(notification.getId(), messageId, NotificationChannel.EMAIL, getProviderName());
     }
@@ -2,33 +2,42 @@ package co.seekglobal.notification.infrastructure.adapters.email;
 
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
 import co.seekglobal.notification.application.outbound.ValidableSender;
+import co.seekglobal.notification.application.validation.RecipientMatchers;
+import co.seekglobal.notification.application.validation.ValidationRules;
 import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.NotificationResult;
 import co.seekglobal.notification.infrastructure.config.Providers;
+import co.seekglobal.notification.infrastructure.logging.SendEventLogger;
 import lombok.Builder;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
-@Builder(builderMethodName = "factory")
 public final class MockEmailSenderProvider implements NotificationSenderProvider, ValidableSender {
 
-    private static final Logger log = LoggerFactory.getLogger(MockEmailSenderProvider.class);
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final int MAX_SUBJECT_LENGTH = 998;
+    private static final ValidationRules RULES = ValidationRules.builder()
+            .recipient(RecipientMatchers.EMAIL, "Email recipient is required",
+                    recipient -> ValidationError.of("recipient", "Invalid email format: " + recipient, "INVALID_EMAIL_FORMAT"))
+            .bodyOrTemplate("Email body or template is required")
+            .build();
 
-    private MockEmailSenderProvider() {
+    private final SendEventLogger eventLogger;
+
+    @Builder(builderMethodName = "factory")
+    private MockEmailSenderProvider(SendEventLogger eventLogger) {
+        this.eventLogger = eventLogger != null ? eventLogger : SendEventLogger.DEFAULT;
     }
 
     @Override
     public NotificationResult send(Notification notification) {
         String messageId = UUID.randomUUID().toString();
 
-        log.info("[EMAIL] To: {} | Subject: {} | Body: {} | MessageId: {}", notification.getRecipient(), notification.getSubject(), notification.getBody(), messageId);
+        String html = notification.rendered(EmailContent.HTML_BODY);
+
+        eventLogger.sent(notification, this, messageId, EmailContent.subject(notification, MAX_SUBJECT_LENGTH), "htmlChars",
+                html.length());
 
         return NotificationResult.success(notification.getId(), messageId, NotificationChannel.EMAIL, getProviderName());
     }
@@ -45,18 +54,6 @@ public final class MockEmailSenderProvider implements NotificationSenderProvider
 
     @Override
     public List<ValidationError> validate(Notification notification) {
-        List<ValidationError> errors = new ArrayList<>();
-
-        if (notification.getRecipient() == null || notification.getRecipient().isBlank()) {
-            errors.add(ValidationError.of("recipient", "Email recipient is required"));
-        } else if (!EMAIL_PATTERN.matcher(notification.getRecipient()).matches()) {
-            errors.add(ValidationError.of("recipient", "Invalid email format: " + notification.getRecipient(), "INVALID_EMAIL_FORMAT"));
-        }
-
-        if ((notification.getBody() == null || notification.getBody().isBlank()) && (notification.getTemplateId() == null || notification.getTemplateId().isBlank())) {
-            errors.add(ValidationError.of("body", "Email body or template is required"));
-        }
-
-        return errors;
+        return RULES.validate(notification);
     }
 }
@@ -0,0 +1,96 @@
+package co.seekglobal.notification.infrastructure.adapters.fake;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import lombok.Builder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Provider for load tests: blocks the calling thread for a latency drawn from a {@link LatencyDistribution} and then
+ * fails with {@link ErrorCode#UNKNOWN_ERROR} for a fraction {@code failureRate} of sends, or rejects them with
+ * {@link ErrorCode#RATE_LIMIT_EXCEEDED} for a fraction {@code throttleRate}, the way an overloaded provider answers.
+ */
+public final class FakeSenderProvider implements NotificationSenderProvider {
+
+    private final NotificationChannel channel;
+    private final String providerName;
+    private final LatencyDistribution latency;
+    private final double failureRate;
+    private final double throttleRate;
+    private final LongAdder sends = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    @Builder(builderMethodName = "factory")
+    public FakeSenderProvider(NotificationChannel channel,
+                              String providerName,
+                              LatencyDistribution latency,
+                              Double failureRate,
+                              Double throttleRate) {
+        this.channel = channel;
+        this.providerName = providerName != null ? providerName : "FAKE_" + channel.name();
+        this.latency = latency != null ? latency : LatencyDistribution.NONE;
+        this.failureRate = failureRate != null ? failureRate : 0;
+        this.throttleRate = throttleRate != null ? throttleRate : 0;
+        if (this.failureRate < 0 || this.throttleRate < 0 || this.failureRate + this.throttleRate > 1) {
+            throw new IllegalArgumentException("failureRate and throttleRate must be non-negative and add up to at most 1: "
+                    + this.failureRate + ", " + this.throttleRate);
+        }
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        sends.increment();
+        var random = ThreadLocalRandom.current();
+        pause(latency.nextNanos(random));
+
+        var outcome = random.nextDouble();
+        if (outcome < throttleRate) {
+            throttled.increment();
+            return NotificationResult.failure(notification.getId(), channel, providerName,
+                    ErrorCode.RATE_LIMIT_EXCEEDED, "Provider throttled the request");
+        }
+        if (outcome < throttleRate + failureRate) {
+            failures.increment();
+            return NotificationResult.failure(notification.getId(), channel, providerName,
+                    ErrorCode.UNKNOWN_ERROR, "Injected provider failure");
+        }
+        return NotificationResult.success(notification.getId(), notification.getId(), channel, providerName);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public long getSendCount() {
+        return sends.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getThrottleCount() {
+        return throttled.sum();
+    }
+
+    private static void pause(long nanos) {
+        var deadline = System.nanoTime() + nanos;
+        for (var remaining = nanos; remaining > 0 && !Thread.currentThread().isInterrupted();
+             remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
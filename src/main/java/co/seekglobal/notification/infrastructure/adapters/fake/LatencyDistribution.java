@@ -0,0 +1,59 @@
+package co.seekglobal.notification.infrastructure.adapters.fake;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Latency injected by {@link FakeSenderProvider} on each send.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> 0;
+
+    long nextNanos(RandomGenerator random);
+
+    static LatencyDistribution fixed(Duration latency) {
+        var nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        var minNanos = min.toNanos();
+        var maxNanos = max.toNanos();
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("max must not be lower than min: " + min + " > " + max);
+        }
+        return random -> minNanos == maxNanos ? minNanos : random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    static LatencyDistribution exponential(Duration mean) {
+        var meanNanos = (double) mean.toNanos();
+        return random -> (long) (random.nextExponential() * meanNanos);
+    }
+
+    /**
+     * Long-tailed latency typical of remote APIs, described by its median and 99th percentile.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99 must not be lower than the median: " + p99 + " < " + median);
+        }
+        var mu = Math.log(median.toNanos());
+        // 2.3263 is the z-score of the 99th percentile of the standard normal distribution
+        var sigma = Math.log((double) p99.toNanos() / median.toNanos()) / 2.3263;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Adds {@code spike} to a fraction {@code probability} of the sampled latencies, e.g. to model GC pauses or
+     * connection re-establishment on the provider side.
+     */
+    default LatencyDistribution withSpikes(double probability, Duration spike) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be between 0 and 1: " + probability);
+        }
+        var spikeNanos = spike.toNanos();
+        return random -> nextNanos(random) + (random.nextDouble() < probability ? spikeNanos : 0);
+    }
+}
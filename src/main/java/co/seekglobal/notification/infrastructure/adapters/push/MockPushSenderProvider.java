@@ -2,38 +2,48 @@ package co.seekglobal.notification.infrastructure.adapters.push;
 
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
 import co.seekglobal.notification.application.outbound.ValidableSender;
+import co.seekglobal.notification.application.validation.RecipientMatchers;
+import co.seekglobal.notification.application.validation.ValidationRules;
 import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.NotificationResult;
 import co.seekglobal.notification.infrastructure.config.Providers;
+import co.seekglobal.notification.infrastructure.logging.SendEventLogger;
 import lombok.Builder;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-@Builder(builderMethodName = "factory")
 public final class MockPushSenderProvider implements NotificationSenderProvider, ValidableSender {
 
-    private static final Logger log = LoggerFactory.getLogger(MockPushSenderProvider.class);
     private static final int FCM_TOKEN_MIN_LENGTH = 100;
     private static final int MAX_TITLE_LENGTH = 100;
     private static final int MAX_BODY_LENGTH = 4096;
+    private static final ValidationError INVALID_DEVICE_TOKEN =
+            ValidationError.of("recipient", "Device token appears to be invalid (too short)", "INVALID_DEVICE_TOKEN");
+    private static final ValidationRules RULES = ValidationRules.builder()
+            .recipient(RecipientMatchers.minLength(FCM_TOKEN_MIN_LENGTH), "Device token is required", recipient -> INVALID_DEVICE_TOKEN)
+            .bodyOrTemplate("Push notification body or template is required", MAX_BODY_LENGTH,
+                    ValidationError.of("body", String.format("Push body exceeds maximum length of %d characters", MAX_BODY_LENGTH), "PUSH_BODY_TOO_LONG"))
+            .maxSubjectLength(MAX_TITLE_LENGTH,
+                    ValidationError.of("subject", String.format("Push title exceeds maximum length of %d characters", MAX_TITLE_LENGTH), "PUSH_TITLE_TOO_LONG"))
+            .build();
 
-    private MockPushSenderProvider() {
+    private final SendEventLogger eventLogger;
+
+    @Builder(builderMethodName = "factory")
+    private MockPushSenderProvider(SendEventLogger eventLogger) {
+        this.eventLogger = eventLogger != null ? eventLogger : SendEventLogger.DEFAULT;
     }
 
     @Override
     public NotificationResult send(Notification notification) {
         String messageId = UUID.randomUUID().toString();
 
-        log.info("[PUSH] To: {} | Title: {} | Body: {} | MessageId: {}",
-                notification.getRecipient().substring(0, Math.min(20, notification.getRecipient().length())) + "...",
-                notification.getSubject(),
-                notification.getBody(),
-                messageId);
+        String payload = "{\"message\":{\"token\":\"" + notification.getRecipient() + "\",\"notification\":"
+                + notification.rendered(PushContent.NOTIFICATION_JSON) + "}}";
+
+        eventLogger.sent(notification, this, messageId, "payloadChars", payload.length());
 
         return NotificationResult.success(
                 notification.getId(),
@@ -55,25 +65,6 @@ public final class MockPushSenderProvider implements NotificationSenderProvider,
 
     @Override
     public List<ValidationError> validate(Notification notification) {
-        List<ValidationError> errors = new ArrayList<>();
-
-        if (notification.getRecipient() == null || notification.getRecipient().isBlank()) {
-            errors.add(ValidationError.of("recipient", "Device token is required"));
-        } else if (notification.getRecipient().length() < FCM_TOKEN_MIN_LENGTH) {
-            errors.add(ValidationError.of("recipient", "Device token appears to be invalid (too short)", "INVALID_DEVICE_TOKEN"));
-        }
-
-        if ((notification.getBody() == null || notification.getBody().isBlank())
-                && (notification.getTemplateId() == null || notification.getTemplateId().isBlank())) {
-            errors.add(ValidationError.of("body", "Push notification body or template is required"));
-        } else if (notification.getBody() != null && notification.getBody().length() > MAX_BODY_LENGTH) {
-            errors.add(ValidationError.of("body", String.format("Push body exceeds maximum length of %d characters", MAX_BODY_LENGTH), "PUSH_BODY_TOO_LONG"));
-        }
-
-        if (notification.getSubject() != null && notification.getSubject().length() > MAX_TITLE_LENGTH) {
-            errors.add(ValidationError.of("subject", String.format("Push title exceeds maximum length of %d characters", MAX_TITLE_LENGTH), "PUSH_TITLE_TOO_LONG"));
-        }
-
-        return errors;
+        return RULES.validate(notification);
     }
 }
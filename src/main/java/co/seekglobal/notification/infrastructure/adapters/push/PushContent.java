@@ -0,0 +1,54 @@
+package co.seekglobal.notification.infrastructure.adapters.push;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.RenderStep;
+
+/**
+ * Push notification payload shared by every push provider; providers wrap it in their own envelope.
+ */
+public final class PushContent {
+
+    public static final RenderStep<String> NOTIFICATION_JSON = PushContent::notificationJson;
+
+    private PushContent() {
+    }
+
+    private static String notificationJson(Notification notification) {
+        var json = new StringBuilder(64 + length(notification.getSubject()) + length(notification.getBody()));
+        json.append('{');
+        if (notification.getSubject() != null) {
+            json.append("\"title\":");
+            appendString(json, notification.getSubject());
+            json.append(',');
+        }
+        json.append("\"body\":");
+        appendString(json, notification.getBody() != null ? notification.getBody() : "");
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,82 @@
+package co.seekglobal.notification.infrastructure.adapters.sms;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.RenderStep;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * SMS segmentation shared by every SMS provider: bodies that fit the GSM 03.38 alphabet use 160 units per message
+ * (153 when concatenated), anything else falls back to UCS-2 with 70 (67). Extension characters take two units, and
+ * splits never break an escape sequence or a surrogate pair.
+ */
+public final class SmsContent {
+
+    public static final RenderStep<List<String>> SEGMENTS = SmsContent::segments;
+
+    private static final String GSM_BASIC = "@£$¥èéùìòÇ\nØø\rÅåΔ_ΦΓΛΩΠΨΣΘΞÆæßÉ !\"#¤%&'()*+,-./0123456789:;<=>?"
+            + "¡ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÑÜ§¿abcdefghijklmnopqrstuvwxyzäöñüà";
+    private static final String GSM_EXTENSION = "^{}\\[~]|€\f";
+    private static final BitSet BASIC = charset(GSM_BASIC);
+    private static final BitSet EXTENSION = charset(GSM_EXTENSION);
+
+    private SmsContent() {
+    }
+
+    private static List<String> segments(Notification notification) {
+        var body = notification.getBody() != null ? notification.getBody() : "";
+        var gsm = isGsm(body);
+        var single = gsm ? 160 : 70;
+        var multipart = gsm ? 153 : 67;
+        if (units(body, gsm) <= single) {
+            return List.of(body);
+        }
+
+        List<String> segments = new ArrayList<>();
+        var start = 0;
+        var used = 0;
+        for (var i = 0; i < body.length(); ) {
+            var c = body.charAt(i);
+            var width = gsm ? (EXTENSION.get(c) ? 2 : 1) : (Character.isHighSurrogate(c) && i + 1 < body.length() ? 2 : 1);
+            var chars = !gsm && width == 2 ? 2 : 1;
+            if (used + width > multipart) {
+                segments.add(body.substring(start, i));
+                start = i;
+                used = 0;
+            }
+            used += width;
+            i += chars;
+        }
+        segments.add(body.substring(start));
+        return List.copyOf(segments);
+    }
+
+    private static boolean isGsm(String body) {
+        for (var i = 0; i < body.length(); i++) {
+            var c = body.charAt(i);
+            if (!BASIC.get(c) && !EXTENSION.get(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int units(String body, boolean gsm) {
+        if (!gsm) {
+            return body.length();
+        }
+        var units = 0;
+        for (var i = 0; i < body.length(); i++) {
+            units += EXTENSION.get(body.charAt(i)) ? 2 : 1;
+        }
+        return units;
+    }
+
+    private static BitSet charset(String chars) {
+        var set = new BitSet();
+        chars.chars().forEach(set::set);
+        return set;
+    }
+}
@@ -0,0 +1,41 @@
+package co.seekglobal.notification.infrastructure.circuitbreaker;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Builder
+public class CircuitBreakerSenderConfig {
+
+    @Builder.Default
+    private final float failureRateThreshold = 50;
+
+    @Builder.Default
+    private final float slowCallRateThreshold = 80;
+
+    @Builder.Default
+    private final Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+    @Builder.Default
+    private final int slidingWindowSize = 20;
+
+    @Builder.Default
+    private final int minimumNumberOfCalls = 10;
+
+    @Builder.Default
+    private final Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final int permittedCallsInHalfOpenState = 3;
+
+    /**
+     * Failed results with these codes count against the provider; validation errors and the like do not. Throttling
+     * is left out so that a burst of {@code RATE_LIMIT_EXCEEDED} does not open the circuit of a healthy provider.
+     */
+    @Builder.Default
+    private final Set<ErrorCode> recordedErrors = Set.of(ErrorCode.UNKNOWN_ERROR);
+}
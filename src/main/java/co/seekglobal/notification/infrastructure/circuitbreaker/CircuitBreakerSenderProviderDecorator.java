@@ -0,0 +1,140 @@
+package co.seekglobal.notification.infrastructure.circuitbreaker;
+
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace.Phase;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocking delegates called through {@code sendAsync} run on {@code executor}, or on a cached pool of daemon threads
+ * owned by the decorator when none is given.
+ */
+@Slf4j
+public final class CircuitBreakerSenderProviderDecorator implements AsyncNotificationSenderProvider {
+
+    private final NotificationSenderProvider delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Executor executor;
+    private final NotificationMetrics metrics;
+
+    @Builder(builderMethodName = "factory")
+    public CircuitBreakerSenderProviderDecorator(NotificationSenderProvider delegate,
+                                                 CircuitBreakerSenderConfig config,
+                                                 Executor executor,
+                                                 NotificationMetrics metrics) {
+        var senderConfig = config != null ? config : CircuitBreakerSenderConfig.builder().build();
+        this.delegate = delegate;
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-circuit-worker"));
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.circuitBreaker = CircuitBreaker.of(String.join("_", delegate.getProviderName(), "circuit_breaker"),
+                CircuitBreakerConfig.custom()
+                        .failureRateThreshold(senderConfig.getFailureRateThreshold())
+                        .slowCallRateThreshold(senderConfig.getSlowCallRateThreshold())
+                        .slowCallDurationThreshold(senderConfig.getSlowCallDurationThreshold())
+                        .slidingWindowSize(senderConfig.getSlidingWindowSize())
+                        .minimumNumberOfCalls(senderConfig.getMinimumNumberOfCalls())
+                        .waitDurationInOpenState(senderConfig.getWaitDurationInOpenState())
+                        .permittedNumberOfCallsInHalfOpenState(senderConfig.getPermittedCallsInHalfOpenState())
+                        .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                        .recordResult(result -> result instanceof NotificationResult r
+                                && !r.isSuccess() && senderConfig.getRecordedErrors().contains(r.getErrorCode()))
+                        .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("[CircuitBreaker] Provider {} transitioned {}", delegate.getProviderName(), event.getStateTransition()));
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return circuitOpen(notification);
+        }
+        var start = System.nanoTime();
+        try {
+            var result = delegate.send(notification);
+            circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, result);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.completedFuture(circuitOpen(notification));
+        }
+        var start = System.nanoTime();
+        CompletionStage<NotificationResult> stage;
+        if (delegate instanceof AsyncNotificationSenderProvider asyncDelegate) {
+            try {
+                stage = asyncDelegate.sendAsync(notification);
+            } catch (RuntimeException e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+        } else {
+            stage = CompletableFuture.supplyAsync(() -> delegate.send(notification), executor);
+        }
+        return stage.whenComplete((result, ex) -> {
+            var elapsed = System.nanoTime() - start;
+            if (ex != null) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                        ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                circuitBreaker.onResult(elapsed, TimeUnit.NANOSECONDS, result);
+            }
+        });
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return delegate.getChannel();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName() + "[CircuitBreaker]";
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    private NotificationResult circuitOpen(Notification notification) {
+        metrics.recordEvent(getChannel(), PipelineEvent.CIRCUIT_OPEN);
+        if (notification.getTrace() != null) {
+            notification.getTrace().record(Phase.CIRCUIT_OPEN, delegate.getProviderName(), System.nanoTime(), 0,
+                    ErrorCode.CIRCUIT_OPEN);
+        }
+        log.debug("[CircuitBreaker] Provider {} is open, skipping notification {}", delegate.getProviderName(), notification.getId());
+        return NotificationResult.failure(notification.getId(), getChannel(), getProviderName(),
+                ErrorCode.CIRCUIT_OPEN, "Circuit open for provider " + delegate.getProviderName());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
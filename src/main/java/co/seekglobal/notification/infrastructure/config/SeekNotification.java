@@ -0,0 +1,142 @@
+package co.seekglobal.notification.infrastructure.config;
+
+import co.seekglobal.notification.application.coalescing.NotificationCoalescer;
+import co.seekglobal.notification.application.dispatch.DispatchStats;
+import co.seekglobal.notification.application.dispatch.PriorityDispatcher;
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.scheduling.NotificationScheduler;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * What {@link SeekNotificationBuilder#build()} returns: sends through the outermost configured stage and exposes the
+ * optional stages, whatever else is stacked around them. {@link #close()} closes them from the outside in, so work an
+ * outer stage still holds is handed to the inner ones before they stop.
+ * <p>
+ * Without a {@code scheduler}, notifications with a future {@code scheduledAt} are sent right away and a warning is
+ * logged for each.
+ */
+@Slf4j
+public final class SeekNotification implements SendNotificationCommand, AutoCloseable {
+
+    private final SendNotificationCommand command;
+    private final NotificationScheduler scheduler;
+    private final NotificationCoalescer coalescer;
+    private final PriorityDispatcher dispatcher;
+    private final CompletionStage<Void> recovery;
+
+    SeekNotification(SendNotificationCommand command,
+                     NotificationScheduler scheduler,
+                     NotificationCoalescer coalescer,
+                     PriorityDispatcher dispatcher,
+                     CompletionStage<Void> recovery) {
+        this.command = command;
+        this.scheduler = scheduler;
+        this.coalescer = coalescer;
+        this.dispatcher = dispatcher;
+        this.recovery = recovery;
+    }
+
+    @Override
+    public NotificationResult send(SendNotificationRequest request) {
+        warnIfScheduled(request.channel(), request.scheduledAt());
+        return command.send(request);
+    }
+
+    @Override
+    public void sendAsync(SendNotificationRequest request, Executor executor) {
+        warnIfScheduled(request.channel(), request.scheduledAt());
+        command.sendAsync(request, executor);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> submit(SendNotificationRequest request, Executor executor) {
+        warnIfScheduled(request.channel(), request.scheduledAt());
+        return command.submit(request, executor);
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(Collection<SendNotificationRequest> requests) {
+        requests.forEach(request -> warnIfScheduled(request.channel(), request.scheduledAt()));
+        return command.sendBatch(requests);
+    }
+
+    @Override
+    public NotificationResult deliver(Notification notification) {
+        warnIfScheduled(notification.getChannel(), notification.getScheduledAt());
+        return command.deliver(notification);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> deliverAsync(Notification notification, Executor executor) {
+        warnIfScheduled(notification.getChannel(), notification.getScheduledAt());
+        return command.deliverAsync(notification, executor);
+    }
+
+    @Override
+    public List<NotificationResult> deliverBatch(List<Notification> notifications) {
+        notifications.forEach(notification -> warnIfScheduled(notification.getChannel(), notification.getScheduledAt()));
+        return command.deliverBatch(notifications);
+    }
+
+    /**
+     * Queue depth and wait times per priority; empty without {@code priorityDispatch}.
+     */
+    public Map<Priority, DispatchStats> stats() {
+        return dispatcher != null ? dispatcher.stats() : Map.of();
+    }
+
+    /**
+     * Cancels a notification still waiting in the scheduler; {@code false} without a {@code scheduler} or once it was
+     * released.
+     */
+    public boolean cancel(String notificationId) {
+        return scheduler != null && scheduler.cancel(notificationId);
+    }
+
+    public long getPendingCount(NotificationChannel channel) {
+        return scheduler != null ? scheduler.getPendingCount(channel) : 0;
+    }
+
+    public long getPendingCount() {
+        return scheduler != null ? scheduler.getPendingCount() : 0;
+    }
+
+    /**
+     * Completes once the outbox entries left by the previous run were re-dispatched, at once without an outbox; fails
+     * if any of them could not be.
+     */
+    public CompletionStage<Void> recovery() {
+        return recovery;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        if (coalescer != null) {
+            coalescer.close();
+        }
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    private void warnIfScheduled(NotificationChannel channel, OffsetDateTime scheduledAt) {
+        if (scheduler == null && scheduledAt != null && scheduledAt.isAfter(OffsetDateTime.now())) {
+            log.warn("[Scheduler] No scheduler configured, {} notification scheduled for {} is sent now", channel, scheduledAt);
+        }
+    }
+}
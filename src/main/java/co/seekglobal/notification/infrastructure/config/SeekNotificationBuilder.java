@@ -1,7 +1,23 @@
 package co.seekglobal.notification.infrastructure.config;
 
+import co.seekglobal.notification.application.coalescing.CoalescingConfig;
+import co.seekglobal.notification.application.coalescing.NotificationCoalescer;
+import co.seekglobal.notification.application.dispatch.PriorityDispatchConfig;
+import co.seekglobal.notification.application.dispatch.PriorityDispatcher;
 import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.outbound.IdempotencyStore;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.application.outbox.OutboxAcknowledger;
+import co.seekglobal.notification.application.outbox.OutboxRecorder;
+import co.seekglobal.notification.application.scheduling.NotificationScheduler;
+import co.seekglobal.notification.application.scheduling.SchedulerConfig;
+import co.seekglobal.notification.application.template.TemplateRenderer;
+import co.seekglobal.notification.application.tracing.NotificationTracer;
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.TemplateRepository;
+import co.seekglobal.notification.application.routing.RoutingStrategy;
+import co.seekglobal.notification.application.usecase.HedgingPolicy;
 import co.seekglobal.notification.application.usecase.SendNotificationUseCase;
 import co.seekglobal.notification.domain.NotificationChannel;
 
@@ -9,11 +25,41 @@ import java.util.EnumMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SeekNotificationBuilder {
 
+    /**
+     * Outbox recoveries outstanding at once when no dispatcher bounds them.
+     */
+    private static final int RECOVERY_IN_FLIGHT = 64;
+
     Map<NotificationChannel, Set<NotificationSenderProvider>> providers = new EnumMap<>(NotificationChannel.class);
 
+    Map<NotificationChannel, HedgingPolicy> hedging = new EnumMap<>(NotificationChannel.class);
+
+    Map<NotificationChannel, RoutingStrategy> routing = new EnumMap<>(NotificationChannel.class);
+
+    TemplateRepository templates;
+
+    PriorityDispatchConfig priorityDispatch;
+
+    SchedulerConfig scheduler;
+
+    CoalescingConfig coalescing;
+
+    NotificationOutbox outbox;
+
+    IdempotencyStore idempotency;
+
+    NotificationMetrics metrics;
+
+    NotificationTracer tracer;
+
     private SeekNotificationBuilder() {
     }
 
@@ -26,7 +72,127 @@ public class SeekNotificationBuilder {
         return this;
     }
 
-    public SendNotificationCommand build() {
-        return new SendNotificationUseCase(this.providers);
+    public SeekNotificationBuilder hedging(NotificationChannel channel, HedgingPolicy policy) {
+        this.hedging.put(channel, policy);
+        return this;
+    }
+
+    public SeekNotificationBuilder routing(NotificationChannel channel, RoutingStrategy strategy) {
+        this.routing.put(channel, strategy);
+        return this;
+    }
+
+    public SeekNotificationBuilder templates(TemplateRepository repository) {
+        this.templates = repository;
+        return this;
+    }
+
+    public SeekNotificationBuilder priorityDispatch(PriorityDispatchConfig config) {
+        this.priorityDispatch = config;
+        return this;
+    }
+
+    /**
+     * Holds notifications with a future {@code scheduledAt} until they are due; without it they are sent immediately.
+     */
+    public SeekNotificationBuilder scheduler(SchedulerConfig config) {
+        this.scheduler = config;
+        return this;
+    }
+
+    /**
+     * Merges bursts to the same recipient into digests; CRITICAL notifications bypass it by default.
+     */
+    public SeekNotificationBuilder coalescing(CoalescingConfig config) {
+        this.coalescing = config;
+        return this;
+    }
+
+    /**
+     * Records every accepted notification and its result; entries left pending by a previous run are re-dispatched
+     * in the background when {@link #build()} is called, at most {@code maxInFlight} of the dispatcher at a time, and
+     * {@link SeekNotification#recovery()} tells when that is done.
+     */
+    public SeekNotificationBuilder outbox(NotificationOutbox outbox) {
+        this.outbox = outbox;
+        return this;
+    }
+
+    /**
+     * Answers repeated idempotency keys ({@code idempotencyKey} on the request or in its metadata) with the first
+     * successful result instead of sending again.
+     */
+    public SeekNotificationBuilder idempotency(IdempotencyStore store) {
+        this.idempotency = store;
+        return this;
+    }
+
+    /**
+     * Instrumentation the use case and the dispatch, coalescing and scheduling stages report to. Provider decorators
+     * take it through their own factories.
+     */
+    public SeekNotificationBuilder metrics(NotificationMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Records timed phases (validation, rendering, rate limiting, provider calls) of a sample of sends.
+     */
+    public SeekNotificationBuilder tracing(NotificationTracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
+    /**
+     * Builds the send chain; close the result on shutdown so queued and buffered notifications are not lost.
+     */
+    public SeekNotification build() {
+        SendNotificationCommand command = SendNotificationUseCase.factory()
+                .senders(this.providers)
+                .hedging(this.hedging)
+                .routing(this.routing)
+                .templateRenderer(templates != null ? TemplateRenderer.factory().repository(templates).build() : null)
+                .idempotency(this.idempotency)
+                .metrics(this.metrics)
+                .tracer(this.tracer)
+                .build();
+        if (outbox != null) {
+            command = OutboxAcknowledger.factory().delegate(command).outbox(outbox).build();
+        }
+        PriorityDispatcher dispatcher = null;
+        if (priorityDispatch != null) {
+            dispatcher = PriorityDispatcher.factory().delegate(command).config(priorityDispatch).metrics(metrics).build();
+            command = dispatcher;
+        }
+        NotificationCoalescer coalescer = null;
+        if (coalescing != null) {
+            coalescer = NotificationCoalescer.factory().delegate(command).config(coalescing).metrics(metrics).build();
+            command = coalescer;
+        }
+        NotificationScheduler notificationScheduler = null;
+        if (scheduler != null) {
+            notificationScheduler = NotificationScheduler.factory().delegate(command).config(scheduler).metrics(metrics).build();
+            command = notificationScheduler;
+        }
+        CompletionStage<Void> recovery = CompletableFuture.completedFuture(null);
+        if (outbox != null) {
+            var recorder = OutboxRecorder.factory().delegate(command).outbox(outbox).build();
+            var recoveryExecutor = Executors.newCachedThreadPool(daemon("seek-outbox-recovery"));
+            var recoveryInFlight = priorityDispatch != null ? priorityDispatch.getMaxInFlight() : RECOVERY_IN_FLIGHT;
+            recovery = recorder.recover(recoveryExecutor, recoveryInFlight)
+                    .whenComplete((ignored, ex) -> recoveryExecutor.shutdown());
+            command = recorder;
+        }
+        return new SeekNotification(command, notificationScheduler, coalescer, dispatcher, recovery);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
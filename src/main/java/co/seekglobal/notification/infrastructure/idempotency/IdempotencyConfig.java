@@ -0,0 +1,48 @@
+package co.seekglobal.notification.infrastructure.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class IdempotencyConfig {
+
+    /**
+     * How long a result answers retries of its key.
+     */
+    @Builder.Default
+    private final Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Entries kept in the in-process near cache in front of Redis.
+     */
+    @Builder.Default
+    private final int localMaxSize = 100_000;
+
+    @Builder.Default
+    private final String keyPrefix = "seek:idempotency:";
+
+    /**
+     * Pending writes are flushed to Redis in one batch at this interval, or earlier once {@code maxBatchSize} queue up.
+     */
+    @Builder.Default
+    private final Duration flushInterval = Duration.ofMillis(10);
+
+    @Builder.Default
+    private final int maxBatchSize = 128;
+
+    /**
+     * How long a claimed key keeps other instances from sending it; should exceed the slowest send. Instances that
+     * find the key claimed wait at most this long for its result.
+     */
+    @Builder.Default
+    private final Duration claimTtl = Duration.ofSeconds(30);
+
+    /**
+     * How often a key claimed by another instance is checked for its result.
+     */
+    @Builder.Default
+    private final Duration claimPollInterval = Duration.ofMillis(10);
+}
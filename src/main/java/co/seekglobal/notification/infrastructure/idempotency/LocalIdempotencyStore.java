@@ -0,0 +1,80 @@
+package co.seekglobal.notification.infrastructure.idempotency;
+
+import co.seekglobal.notification.application.outbound.IdempotencyStore;
+import co.seekglobal.notification.domain.NotificationResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process {@link IdempotencyStore}. Lookups are plain {@link ConcurrentHashMap} reads and never lock; entries expire
+ * after {@code ttl}, and past {@code maxSize} expired entries are purged first, then arbitrary ones until the store is
+ * back under 90% of its size.
+ */
+public final class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> results = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public LocalIdempotencyStore(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    LocalIdempotencyStore(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public NotificationResult find(String key) {
+        var entry = results.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - nanoTime.getAsLong() <= 0) {
+            results.remove(key, entry);
+            return null;
+        }
+        return entry.result;
+    }
+
+    @Override
+    public void save(String key, NotificationResult result) {
+        var now = nanoTime.getAsLong();
+        results.put(key, new Entry(result, now + ttlNanos));
+        if (results.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            var target = maxSize - maxSize / 10;
+            results.values().removeIf(entry -> entry.expiresAt - now <= 0);
+            var iterator = results.values().iterator();
+            while (results.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry(NotificationResult result, long expiresAt) {
+    }
+}
@@ -0,0 +1,264 @@
+package co.seekglobal.notification.infrastructure.idempotency;
+
+import co.seekglobal.notification.application.outbound.IdempotencyStore;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.infrastructure.serialization.NotificationCodec;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link IdempotencyStore} shared across instances through Redis, with a {@link LocalIdempotencyStore} near cache in
+ * front so repeated keys seen by this instance never leave the process. Results are stored with
+ * {@link NotificationCodec}; writes are queued and flushed as one pipelined batch every {@code flushInterval} (or once
+ * {@code maxBatchSize} are waiting), and {@link #findAll} misses are fetched with a single multi-get.
+ * <p>
+ * Before a send is dispatched its key is claimed right away with {@code SET NX} and a {@code claimTtl} expiry, so
+ * only one instance sends it; the others wait for the result the claim holder stores, or take the key over once the
+ * claim is released or expires. Only the final writes, results and released claims, are batched.
+ * <p>
+ * Redis errors are logged and treated as misses, so an outage degrades to at-least-once delivery instead of failing
+ * sends.
+ */
+@Slf4j
+public final class RedissonIdempotencyStore implements IdempotencyStore, AutoCloseable {
+
+    /**
+     * Value of a claimed key until its result is stored; encoded results are never empty.
+     */
+    private static final byte[] CLAIMED = new byte[0];
+
+    private final RedissonClient redissonClient;
+    private final IdempotencyConfig config;
+    private final LocalIdempotencyStore nearCache;
+    private final ConcurrentLinkedQueue<Write> writes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+
+    @Builder(builderMethodName = "factory")
+    public RedissonIdempotencyStore(RedissonClient redissonClient, IdempotencyConfig config) {
+        this.redissonClient = redissonClient;
+        this.config = config != null ? config : IdempotencyConfig.builder().build();
+        this.nearCache = new LocalIdempotencyStore(this.config.getLocalMaxSize(), this.config.getTtl());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "idempotency-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var intervalNanos = this.config.getFlushInterval().toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public NotificationResult find(String key) {
+        var cached = nearCache.find(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            byte[] stored = redissonClient.<byte[]>getBucket(redisKey(key), ByteArrayCodec.INSTANCE).get();
+            return isResult(stored) ? cache(key, stored) : null;
+        } catch (RuntimeException e) {
+            log.warn("[Idempotency] Lookup of {} failed, treating as new: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Map<String, NotificationResult> findAll(Collection<String> keys) {
+        var found = new HashMap<String, NotificationResult>();
+        var missing = new ArrayList<String>();
+        for (var key : keys) {
+            var cached = nearCache.find(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                missing.add(redisKey(key));
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        try {
+            Map<String, byte[]> stored = redissonClient.getBuckets(ByteArrayCodec.INSTANCE)
+                    .get(missing.toArray(String[]::new));
+            stored.forEach((redisKey, bytes) -> {
+                if (isResult(bytes)) {
+                    var key = redisKey.substring(config.getKeyPrefix().length());
+                    found.put(key, cache(key, bytes));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[Idempotency] Batch lookup of {} keys failed, treating as new: {}", missing.size(), e.getMessage());
+        }
+        return found;
+    }
+
+    @Override
+    public NotificationResult claim(String key) {
+        var cached = nearCache.find(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            var bucket = redissonClient.<byte[]>getBucket(redisKey(key), ByteArrayCodec.INSTANCE);
+            var deadline = System.nanoTime() + config.getClaimTtl().toNanos();
+            while (!bucket.setIfAbsent(CLAIMED, config.getClaimTtl())) {
+                var stored = bucket.get();
+                if (isResult(stored)) {
+                    return cache(key, stored);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn("[Idempotency] Key {} still claimed after {}, sending anyway", key, config.getClaimTtl());
+                    return null;
+                }
+                LockSupport.parkNanos(config.getClaimPollInterval().toNanos());
+            }
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("[Idempotency] Claim of {} failed, sending anyway: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Claims every key in one pipelined batch; only keys another instance already holds are then claimed one by one.
+     */
+    @Override
+    public Map<String, NotificationResult> claimAll(Collection<String> keys) {
+        var found = new HashMap<String, NotificationResult>();
+        var missing = new ArrayList<String>();
+        for (var key : keys) {
+            var cached = nearCache.find(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        var held = new ArrayList<String>();
+        try {
+            var batch = redissonClient.createBatch(BatchOptions.defaults());
+            var claims = new ArrayList<RFuture<Boolean>>(missing.size());
+            for (var key : missing) {
+                claims.add(batch.<byte[]>getBucket(redisKey(key), ByteArrayCodec.INSTANCE)
+                        .setIfAbsentAsync(CLAIMED, config.getClaimTtl()));
+            }
+            batch.execute();
+            for (var i = 0; i < missing.size(); i++) {
+                if (!claims.get(i).toCompletableFuture().join()) {
+                    held.add(missing.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Idempotency] Batch claim of {} keys failed, sending anyway: {}", missing.size(), e.getMessage());
+        }
+        for (var key : held) {
+            var recorded = claim(key);
+            if (recorded != null) {
+                found.put(key, recorded);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void release(String key) {
+        enqueue(new Write(redisKey(key), null));
+    }
+
+    @Override
+    public void save(String key, NotificationResult result) {
+        nearCache.save(key, result);
+        enqueue(new Write(redisKey(key), NotificationCodec.encode(result)));
+    }
+
+    /**
+     * Flushes what is queued; later writes are flushed as they come.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * Writes everything queued so far, in batches of up to {@code maxBatchSize}.
+     */
+    public synchronized void flush() {
+        while (!writes.isEmpty()) {
+            var batch = redissonClient.createBatch(BatchOptions.defaults());
+            var size = 0;
+            Write write;
+            while (size < config.getMaxBatchSize() && (write = writes.poll()) != null) {
+                var bucket = batch.<byte[]>getBucket(write.redisKey, ByteArrayCodec.INSTANCE);
+                if (write.value != null) {
+                    bucket.setAsync(write.value, config.getTtl());
+                } else {
+                    bucket.compareAndSetAsync(CLAIMED, null);
+                }
+                size++;
+            }
+            queued.addAndGet(-size);
+            try {
+                batch.execute();
+            } catch (RuntimeException e) {
+                log.warn("[Idempotency] Failed to store {} results, they stay only in the local cache: {}",
+                        size, e.getMessage());
+            }
+        }
+    }
+
+    private void enqueue(Write write) {
+        writes.add(write);
+        var size = queued.incrementAndGet();
+        if (flusher.isShutdown()) {
+            flush();
+        } else if (size == config.getMaxBatchSize()) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flush();
+            }
+        }
+    }
+
+    private static boolean isResult(byte[] stored) {
+        return stored != null && stored.length > 0;
+    }
+
+    private NotificationResult cache(String key, byte[] stored) {
+        var result = NotificationCodec.decodeResult(ByteBuffer.wrap(stored));
+        nearCache.save(key, result);
+        return result;
+    }
+
+    private String redisKey(String key) {
+        return config.getKeyPrefix() + key;
+    }
+
+    /**
+     * A result to store, or a claim to release when {@code value} is {@code null}.
+     */
+    private record Write(String redisKey, byte[] value) {
+    }
+}
@@ -0,0 +1,39 @@
+package co.seekglobal.notification.infrastructure.logging;
+
+import co.seekglobal.notification.domain.NotificationChannel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class SendEventLogConfig {
+
+    /**
+     * Logs only the body length instead of its content.
+     */
+    @Builder.Default
+    private final boolean redactBody = true;
+
+    /**
+     * Characters of body and subject kept when they are logged.
+     */
+    @Builder.Default
+    private final int maxFieldLength = 64;
+
+    /**
+     * Keeps only the email domain or the last characters of phone numbers and device tokens.
+     */
+    @Builder.Default
+    private final boolean maskRecipient = true;
+
+    /**
+     * Fraction of sends logged for channels without an entry in {@link #channelSampleRates}.
+     */
+    @Builder.Default
+    private final double sampleRate = 1.0;
+
+    @Builder.Default
+    private final Map<NotificationChannel, Double> channelSampleRates = Map.of();
+}
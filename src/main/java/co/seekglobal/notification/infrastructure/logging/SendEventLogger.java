@@ -0,0 +1,113 @@
+package co.seekglobal.notification.infrastructure.logging;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs one structured event per provider send under the {@value #LOGGER_NAME} logger, as key-value pairs. Nothing is
+ * built when the logger is off or the send is sampled out; recipient, subject and body are passed as values that mask
+ * or truncate only when the appender formats them, which with the default asynchronous appender happens off the
+ * sending thread.
+ */
+public final class SendEventLogger {
+
+    public static final String LOGGER_NAME = "co.seekglobal.notification.send";
+    public static final SendEventLogger DEFAULT = new SendEventLogger(SendEventLogConfig.builder().build());
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final int VISIBLE_RECIPIENT_CHARS = 4;
+
+    private final SendEventLogConfig config;
+    private final double[] sampleRates = new double[NotificationChannel.values().length];
+
+    public SendEventLogger(SendEventLogConfig config) {
+        this.config = config;
+        for (var channel : NotificationChannel.values()) {
+            var rate = config.getChannelSampleRates().getOrDefault(channel, config.getSampleRate());
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate for " + channel + " must be between 0 and 1: " + rate);
+            }
+            sampleRates[channel.ordinal()] = rate;
+        }
+    }
+
+    /**
+     * @param detailKey provider specific size reported with the event, e.g. SMS segments or payload characters
+     */
+    public void sent(Notification notification, NotificationSenderProvider provider, String messageId, String detailKey,
+                     int detailValue) {
+        sent(notification, provider, messageId, notification.getSubject(), detailKey, detailValue);
+    }
+
+    /**
+     * @param subject the subject as the provider sends it, e.g. cut to its length limit
+     */
+    public void sent(Notification notification, NotificationSenderProvider provider, String messageId, String subject,
+                     String detailKey, int detailValue) {
+        if (!log.isInfoEnabled() || !isSampled(provider.getChannel())) {
+            return;
+        }
+        var event = log.atInfo()
+                .setMessage("Notification sent")
+                .addKeyValue("channel", provider.getChannel())
+                .addKeyValue("provider", provider.getProviderName())
+                .addKeyValue("notificationId", notification.getId())
+                .addKeyValue("messageId", messageId)
+                .addKeyValue("recipient", recipient(notification.getRecipient()));
+        if (subject != null) {
+            event = event.addKeyValue("subject", new Truncated(subject, config.getMaxFieldLength()));
+        }
+        if (notification.getBody() != null) {
+            event = event.addKeyValue("body", body(notification.getBody()));
+        }
+        event.addKeyValue(detailKey, detailValue).log();
+    }
+
+    boolean isSampled(NotificationChannel channel) {
+        var rate = sampleRates[channel.ordinal()];
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    Object recipient(String recipient) {
+        return config.isMaskRecipient() ? new MaskedRecipient(recipient) : recipient;
+    }
+
+    Object body(String body) {
+        return config.isRedactBody() ? new Redacted(body) : new Truncated(body, config.getMaxFieldLength());
+    }
+
+    private record MaskedRecipient(String value) {
+        @Override
+        public String toString() {
+            if (value == null) {
+                return "";
+            }
+            var at = value.indexOf('@');
+            if (at > 0) {
+                return value.charAt(0) + "***" + value.substring(at);
+            }
+            return value.length() <= VISIBLE_RECIPIENT_CHARS
+                    ? "***"
+                    : "***" + value.substring(value.length() - VISIBLE_RECIPIENT_CHARS);
+        }
+    }
+
+    private record Truncated(String value, int maxLength) {
+        @Override
+        public String toString() {
+            return value.length() <= maxLength ? value : value.substring(0, maxLength) + "...";
+        }
+    }
+
+    private record Redacted(String value) {
+        @Override
+        public String toString() {
+            return "[" + value.length() + " chars]";
+        }
+    }
+}
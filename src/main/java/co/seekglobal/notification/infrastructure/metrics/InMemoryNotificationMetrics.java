@@ -0,0 +1,172 @@
+package co.seekglobal.notification.infrastructure.metrics;
+
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dependency-free {@link NotificationMetrics} on {@link LongAdder} counters and {@link LatencyHistogram}s, tagged by
+ * channel and provider name. Meters for a provider are created on its first call; after that every recording is a map
+ * lookup and an atomic update, so it can stay enabled in production. Exporters read it through the getters.
+ */
+public final class InMemoryNotificationMetrics implements NotificationMetrics {
+
+    /**
+     * Fallback depths at or above this are counted together.
+     */
+    public static final int MAX_TRACKED_DEPTH = 8;
+
+    private final Map<NotificationChannel, ChannelMeters> channels = new EnumMap<>(NotificationChannel.class);
+
+    public InMemoryNotificationMetrics() {
+        for (var channel : NotificationChannel.values()) {
+            channels.put(channel, new ChannelMeters());
+        }
+    }
+
+    @Override
+    public void recordSend(NotificationChannel channel) {
+        if (channel != null) {
+            channels.get(channel).sends.increment();
+        }
+    }
+
+    @Override
+    public void recordOutcome(NotificationChannel channel, ErrorCode errorCode, int fallbackDepth) {
+        if (channel == null) {
+            return;
+        }
+        var meters = channels.get(channel);
+        if (errorCode == null) {
+            meters.successes.increment();
+        } else {
+            meters.failures[errorCode.ordinal()].increment();
+        }
+        meters.fallbackDepths[Math.min(Math.max(0, fallbackDepth), MAX_TRACKED_DEPTH)].increment();
+    }
+
+    @Override
+    public void recordValidationRejection(NotificationChannel channel, String provider) {
+        if (channel != null) {
+            provider(channel, provider).validationRejections.increment();
+        }
+    }
+
+    @Override
+    public void recordProviderCall(NotificationChannel channel, String provider, long latencyNanos, ErrorCode errorCode) {
+        if (channel == null) {
+            return;
+        }
+        var meters = provider(channel, provider);
+        meters.latency.record(latencyNanos);
+        if (errorCode != null) {
+            meters.failures[errorCode.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public void recordRateLimitWait(NotificationChannel channel, String provider, long waitNanos) {
+        if (channel != null) {
+            provider(channel, provider).rateLimitWait.record(waitNanos);
+        }
+    }
+
+    @Override
+    public void recordEvent(NotificationChannel channel, PipelineEvent event) {
+        if (channel != null) {
+            channels.get(channel).events[event.ordinal()].increment();
+        }
+    }
+
+    public long getSendCount(NotificationChannel channel) {
+        return channels.get(channel).sends.sum();
+    }
+
+    public long getSuccessCount(NotificationChannel channel) {
+        return channels.get(channel).successes.sum();
+    }
+
+    public long getFailureCount(NotificationChannel channel, ErrorCode errorCode) {
+        return channels.get(channel).failures[errorCode.ordinal()].sum();
+    }
+
+    /**
+     * @param depth 0 for outcomes of the first provider tried; {@link #MAX_TRACKED_DEPTH} covers everything deeper
+     */
+    public long getFallbackDepthCount(NotificationChannel channel, int depth) {
+        return channels.get(channel).fallbackDepths[Math.min(depth, MAX_TRACKED_DEPTH)].sum();
+    }
+
+    public long getEventCount(NotificationChannel channel, PipelineEvent event) {
+        return channels.get(channel).events[event.ordinal()].sum();
+    }
+
+    public Set<String> getProviders(NotificationChannel channel) {
+        return Set.copyOf(channels.get(channel).providers.keySet());
+    }
+
+    public long getValidationRejectionCount(NotificationChannel channel, String provider) {
+        var meters = channels.get(channel).providers.get(provider);
+        return meters != null ? meters.validationRejections.sum() : 0;
+    }
+
+    public long getProviderFailureCount(NotificationChannel channel, String provider, ErrorCode errorCode) {
+        var meters = channels.get(channel).providers.get(provider);
+        return meters != null ? meters.failures[errorCode.ordinal()].sum() : 0;
+    }
+
+    /**
+     * @return the provider's call latencies in nanoseconds, or {@code null} if it was never called
+     */
+    public LatencyHistogram getProviderLatency(NotificationChannel channel, String provider) {
+        var meters = channels.get(channel).providers.get(provider);
+        return meters != null ? meters.latency : null;
+    }
+
+    /**
+     * @return time spent waiting for rate-limit permits in nanoseconds, or {@code null} if the provider is unknown
+     */
+    public LatencyHistogram getRateLimitWait(NotificationChannel channel, String provider) {
+        var meters = channels.get(channel).providers.get(provider);
+        return meters != null ? meters.rateLimitWait : null;
+    }
+
+    private ProviderMeters provider(NotificationChannel channel, String provider) {
+        var providers = channels.get(channel).providers;
+        var name = provider != null ? provider : "unknown";
+        var meters = providers.get(name);
+        return meters != null ? meters : providers.computeIfAbsent(name, ignored -> new ProviderMeters());
+    }
+
+    private static LongAdder[] adders(int size) {
+        var adders = new LongAdder[size];
+        for (var i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static final class ChannelMeters {
+
+        final LongAdder sends = new LongAdder();
+        final LongAdder successes = new LongAdder();
+        final LongAdder[] failures = adders(ErrorCode.values().length);
+        final LongAdder[] fallbackDepths = adders(MAX_TRACKED_DEPTH + 1);
+        final LongAdder[] events = adders(PipelineEvent.values().length);
+        final Map<String, ProviderMeters> providers = new ConcurrentHashMap<>();
+    }
+
+    private static final class ProviderMeters {
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram rateLimitWait = new LatencyHistogram();
+        final LongAdder[] failures = adders(ErrorCode.values().length);
+        final LongAdder validationRejections = new LongAdder();
+    }
+}
@@ -0,0 +1,95 @@
+package co.seekglobal.notification.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram in the style of HdrHistogram: every power of two is split into 32 linear
+ * sub-buckets, so any recorded value is reported within about 3% over the full {@code long} range. Recording is a
+ * couple of bit operations and an atomic increment, without allocation.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        var clamped = Math.max(0, value);
+        counts.getAndIncrement(indexOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        var current = max.get();
+        while (clamped > current && !max.compareAndSet(current, clamped)) {
+            current = max.get();
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        var total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the highest value equivalent to the bucket holding the percentile, never above the recorded maximum
+     */
+    public long valueAtPercentile(double percentile) {
+        var total = 0L;
+        var snapshot = new long[BUCKET_COUNT];
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        var seen = 0L;
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public double valueAtPercentile(double percentile, TimeUnit unit) {
+        return (double) valueAtPercentile(percentile) / unit.toNanos(1);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        var exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> exponent) - SUB_BUCKET_COUNT;
+        return (exponent + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        var exponent = index / SUB_BUCKET_COUNT - 1;
+        var subBucket = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT);
+        var upper = ((subBucket + 1) << exponent) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
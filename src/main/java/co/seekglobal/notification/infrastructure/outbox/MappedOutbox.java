@@ -0,0 +1,365 @@
+package co.seekglobal.notification.infrastructure.outbox;
+
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.infrastructure.serialization.NotificationCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link NotificationOutbox} over segmented, memory-mapped append-only files. Each record is
+ * {@code [length][crc32c][type][payload]}, where the length covers type and payload and is written last, so a torn
+ * tail fails the checksum and recovery stops there. Appends only copy into the mapping under a short lock; a
+ * background thread forces the dirty range every {@code syncInterval}, batching fsyncs across appends.
+ * <p>
+ * Segments are deleted once every notification accepted in them and in all older segments is completed, which keeps
+ * the completion records of surviving entries on disk.
+ */
+@Slf4j
+public final class MappedOutbox implements NotificationOutbox {
+
+    static final byte ACCEPTED = 1;
+    static final byte COMPLETED = 2;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("outbox-(\\d+)\\.log");
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH = ThreadLocal.withInitial(() -> ByteBuffer.allocate(512));
+    private static final ThreadLocal<CRC32C> CHECKSUM = ThreadLocal.withInitial(CRC32C::new);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Map<String, PendingEntry> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService syncer;
+
+    private Segment active;
+    private boolean closed;
+
+    public MappedOutbox(MappedOutboxConfig config) {
+        if (config.getSegmentSize() <= HEADER_BYTES + 1) {
+            throw new IllegalArgumentException("segmentSize too small: " + config.getSegmentSize());
+        }
+        this.directory = config.getDirectory();
+        this.segmentSize = config.getSegmentSize();
+        try {
+            Files.createDirectories(directory);
+            var nextSequence = recover();
+            this.active = openSegment(nextSequence);
+            segments.addLast(active);
+            releaseAcknowledged();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox in " + directory, e);
+        }
+
+        var intervalNanos = config.getSyncInterval().toNanos();
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "outbox-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void append(Notification notification) {
+        var payload = scratch(NotificationCodec.encodedSize(notification));
+        NotificationCodec.encode(notification, payload);
+        var checksum = checksum(ACCEPTED, payload);
+
+        lock.lock();
+        try {
+            var segment = write(ACCEPTED, checksum, payload);
+            segment.pending++;
+            pending.put(notification.getId(), new PendingEntry(notification, segment));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete(NotificationResult result) {
+        if (result.getNotificationId() == null) {
+            return;
+        }
+        var payload = scratch(NotificationCodec.encodedSize(result));
+        NotificationCodec.encode(result, payload);
+        var checksum = checksum(COMPLETED, payload);
+
+        lock.lock();
+        try {
+            var entry = pending.remove(result.getNotificationId());
+            if (entry == null) {
+                return;
+            }
+            write(COMPLETED, checksum, payload);
+            entry.segment.pending--;
+            releaseAcknowledged();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Notification> pending() {
+        lock.lock();
+        try {
+            return pending.values().stream().map(PendingEntry::notification).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces everything appended so far to disk; normally left to the background syncer.
+     */
+    public synchronized void sync() {
+        Segment segment;
+        int position;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            segment = active;
+            position = segment.position;
+        } finally {
+            lock.unlock();
+        }
+        if (position > segment.synced) {
+            segment.buffer.force(segment.synced, position - segment.synced);
+            segment.synced = position;
+        }
+    }
+
+    @Override
+    public void close() {
+        syncer.shutdown();
+        sync();
+        lock.lock();
+        try {
+            closed = true;
+            for (var segment : segments) {
+                closeQuietly(segment);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment write(byte type, int checksum, ByteBuffer payload) {
+        if (closed) {
+            throw new IllegalStateException("Outbox is closed");
+        }
+        var length = payload.position() + 1;
+        if (HEADER_BYTES + length > segmentSize) {
+            throw new IllegalArgumentException("Record of " + length + " bytes exceeds segment size " + segmentSize);
+        }
+        if (active.position + HEADER_BYTES + length > segmentSize) {
+            roll();
+        }
+
+        var buffer = active.buffer;
+        var offset = active.position;
+        buffer.putInt(offset + Integer.BYTES, checksum);
+        buffer.put(offset + HEADER_BYTES, type);
+        buffer.put(offset + HEADER_BYTES + 1, payload.array(), 0, payload.position());
+        buffer.putInt(offset, length);
+        active.position = offset + HEADER_BYTES + length;
+        return active;
+    }
+
+    private void roll() {
+        var sealed = active;
+        sealed.buffer.force();
+        try {
+            active = openSegment(sealed.sequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll outbox segment in " + directory, e);
+        }
+        segments.addLast(active);
+        closeQuietly(sealed);
+        releaseAcknowledged();
+    }
+
+    private void releaseAcknowledged() {
+        while (segments.peekFirst() != active && segments.peekFirst().pending == 0) {
+            var segment = segments.pollFirst();
+            closeQuietly(segment);
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("[Outbox] Failed to delete acknowledged segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replays every segment on disk to rebuild the pending set and returns the next segment sequence.
+     */
+    private long recover() throws IOException {
+        List<Path> files;
+        try (var listing = Files.list(directory)) {
+            files = listing.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(MappedOutbox::sequenceOf))
+                    .toList();
+        }
+
+        var nextSequence = 0L;
+        for (var path : files) {
+            var segment = new Segment(sequenceOf(path), path, null, null);
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                scan(segment, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+            segments.addLast(segment);
+            nextSequence = segment.sequence + 1;
+        }
+        if (!pending.isEmpty()) {
+            log.info("[Outbox] Recovered {} pending notifications from {} segments", pending.size(), files.size());
+        }
+        return nextSequence;
+    }
+
+    private void scan(Segment segment, MappedByteBuffer buffer) {
+        var offset = 0;
+        var checksum = CHECKSUM.get();
+        while (offset + HEADER_BYTES < buffer.limit()) {
+            var length = buffer.getInt(offset);
+            if (length <= 0) {
+                return;
+            }
+            if (offset + HEADER_BYTES + length > buffer.limit()) {
+                log.warn("[Outbox] Truncated record in {} at offset {}", segment.path, offset);
+                return;
+            }
+            var record = buffer.slice(offset + HEADER_BYTES, length);
+            checksum.reset();
+            checksum.update(record.duplicate());
+            if ((int) checksum.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                log.warn("[Outbox] Checksum mismatch in {} at offset {}, ignoring the rest of the segment",
+                        segment.path, offset);
+                return;
+            }
+
+            var type = record.get();
+            if (type == ACCEPTED) {
+                var notification = NotificationCodec.decodeNotification(record);
+                segment.pending++;
+                pending.put(notification.getId(), new PendingEntry(notification, segment));
+            } else if (type == COMPLETED) {
+                var entry = pending.remove(NotificationCodec.decodeResult(record).getNotificationId());
+                if (entry != null) {
+                    entry.segment.pending--;
+                }
+            }
+            offset += HEADER_BYTES + length;
+        }
+    }
+
+    private Segment openSegment(long sequence) throws IOException {
+        var path = directory.resolve("outbox-" + sequence + ".log");
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new Segment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+    }
+
+    private static int checksum(byte type, ByteBuffer payload) {
+        var checksum = CHECKSUM.get();
+        checksum.reset();
+        checksum.update(type);
+        checksum.update(payload.array(), 0, payload.position());
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Per-thread heap buffer for encoding outside the lock, grown to fit the record.
+     */
+    private static ByteBuffer scratch(int size) {
+        var scratch = SCRATCH.get();
+        if (scratch.capacity() < size) {
+            scratch = ByteBuffer.allocate(Math.max(size, scratch.capacity() * 2));
+            SCRATCH.set(scratch);
+        }
+        return scratch.clear();
+    }
+
+    private static long sequenceOf(Path path) {
+        var matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    private static void closeQuietly(Segment segment) {
+        if (segment.channel == null) {
+            return;
+        }
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("[Outbox] Failed to close segment {}: {}", segment.path, e.getMessage());
+        }
+    }
+
+    private record PendingEntry(Notification notification, Segment segment) {
+    }
+
+    /**
+     * Segments recovered from disk are read-only and keep no mapping; only the active one is written.
+     */
+    private static final class Segment {
+
+        final long sequence;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int position;
+        int pending;
+        volatile int synced;
+
+        Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
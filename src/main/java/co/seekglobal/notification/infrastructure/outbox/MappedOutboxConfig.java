@@ -0,0 +1,27 @@
+package co.seekglobal.notification.infrastructure.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Builder
+public class MappedOutboxConfig {
+
+    private final Path directory;
+
+    /**
+     * Bytes mapped per segment file; a record must fit in one segment.
+     */
+    @Builder.Default
+    private final int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * How often written records are forced to disk. Records appended since the last sync survive a JVM crash but not
+     * an OS crash or power loss.
+     */
+    @Builder.Default
+    private final Duration syncInterval = Duration.ofMillis(10);
+}
@@ -4,9 +4,11 @@ import lombok.Builder;
 import lombok.Getter;
 import org.redisson.api.RateIntervalUnit;
 
+import java.time.Duration;
+
 @Getter
 @Builder
-public class DistributedRateLimitConfig {
+public class DistributedRateLimitConfig implements RateLimitConfig {
 
     @Builder.Default
     private final int maxRequestsPerWindow = 10;
@@ -17,6 +19,20 @@ public class DistributedRateLimitConfig {
     @Builder.Default
     private final int rate = 1;
 
+    private final Duration maxWait;
+
+    /**
+     * Permits fetched from Redis per round-trip and handed out locally. {@code 1} disables leasing.
+     */
+    @Builder.Default
+    private final int leaseSize = 1;
+
+    /**
+     * Maximum time a leased permit may be held locally before it is discarded unused.
+     */
+    @Builder.Default
+    private final Duration maxLeaseHold = Duration.ofSeconds(1);
+
     public static DistributedRateLimitConfig of(int maxRequestsPerWindow, int rate, RateIntervalUnit unit) {
         return DistributedRateLimitConfig.builder()
                 .maxRequestsPerWindow(maxRequestsPerWindow)
@@ -0,0 +1,31 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.redisson.api.RateIntervalUnit;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class LocalRateLimitConfig implements RateLimitConfig {
+
+    @Builder.Default
+    private final int maxRequestsPerWindow = 10;
+
+    @Builder.Default
+    private final RateIntervalUnit rateIntervalUnit = RateIntervalUnit.SECONDS;
+
+    @Builder.Default
+    private final int rate = 1;
+
+    private final Duration maxWait;
+
+    public static LocalRateLimitConfig of(int maxRequestsPerWindow, int rate, RateIntervalUnit unit) {
+        return LocalRateLimitConfig.builder()
+                .maxRequestsPerWindow(maxRequestsPerWindow)
+                .rate(rate)
+                .rateIntervalUnit(unit)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace.Phase;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous sends that must wait for their reserved permit, or whose delegate blocks, run on {@code executor}; by
+ * default each decorator owns a cached pool of daemon threads instead of using the common pool.
+ */
+@Slf4j
+public final class LocalRateLimitSenderProviderDecorator implements AsyncNotificationSenderProvider {
+
+    private static final Duration UNBOUNDED_WAIT = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final NotificationSenderProvider delegate;
+    private final RateLimiter rateLimiter;
+    private final Executor executor;
+    private final NotificationMetrics metrics;
+    private final String providerName;
+
+    @Builder(builderMethodName = "factory")
+    public LocalRateLimitSenderProviderDecorator(NotificationSenderProvider delegate,
+                                                 RateLimitConfig config,
+                                                 Executor executor,
+                                                 NotificationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.providerName = delegate.getProviderName();
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-ratelimit-worker"));
+        this.rateLimiter = RateLimiter.of(String.join("_", delegate.getProviderName(), "rate_limiter"),
+                RateLimiterConfig.custom()
+                        .limitForPeriod(config.getMaxRequestsPerWindow())
+                        .limitRefreshPeriod(config.getWindow())
+                        .timeoutDuration(config.getMaxWait() != null ? config.getMaxWait() : UNBOUNDED_WAIT)
+                        .build());
+        log.info("[LocalRateLimit] Initialized for provider {} with {} req/{} {} and max wait {}",
+                delegate.getProviderName(),
+                config.getMaxRequestsPerWindow(),
+                config.getRate(),
+                config.getRateIntervalUnit(),
+                config.getMaxWait());
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        var start = System.nanoTime();
+        var acquired = rateLimiter.acquirePermission();
+        onAcquired(notification, start, System.nanoTime() - start, acquired);
+        if (!acquired) {
+            return rateLimitExceeded(notification);
+        }
+        return delegate.send(notification);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+        var start = System.nanoTime();
+        var waitNanos = rateLimiter.reservePermission();
+        onAcquired(notification, start, Math.max(0, waitNanos), waitNanos >= 0);
+        if (waitNanos < 0) {
+            return CompletableFuture.completedFuture(rateLimitExceeded(notification));
+        }
+        if (waitNanos == 0 && delegate instanceof AsyncNotificationSenderProvider asyncDelegate) {
+            return asyncDelegate.sendAsync(notification);
+        }
+        var sendExecutor = waitNanos == 0
+                ? executor
+                : CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor);
+        if (delegate instanceof AsyncNotificationSenderProvider asyncDelegate) {
+            return CompletableFuture.supplyAsync(() -> asyncDelegate.sendAsync(notification), sendExecutor)
+                    .thenCompose(stage -> stage);
+        }
+        return CompletableFuture.supplyAsync(() -> delegate.send(notification), sendExecutor);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return delegate.getChannel();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName() + "[LocalRateLimited]";
+    }
+
+    /**
+     * Asynchronous sends record the reserved wait up front, since the permit is already theirs.
+     */
+    private void onAcquired(Notification notification, long start, long waitNanos, boolean acquired) {
+        metrics.recordRateLimitWait(getChannel(), providerName, waitNanos);
+        if (notification.getTrace() != null) {
+            notification.getTrace().record(Phase.RATE_LIMIT, providerName, start, waitNanos,
+                    acquired ? null : ErrorCode.RATE_LIMIT_EXCEEDED);
+        }
+    }
+
+    private NotificationResult rateLimitExceeded(Notification notification) {
+        metrics.recordEvent(getChannel(), PipelineEvent.RATE_LIMITED);
+        log.warn("[LocalRateLimit] No permit for provider {}, notification {}", delegate.getProviderName(), notification.getId());
+        return NotificationResult.failure(notification.getId(), getChannel(), getProviderName(),
+                ErrorCode.RATE_LIMIT_EXCEEDED, "Rate limit exceeded for provider " + delegate.getProviderName());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
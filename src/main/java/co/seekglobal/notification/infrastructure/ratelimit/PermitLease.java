@@ -0,0 +1,179 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out permits leased in blocks from a distributed {@link RRateLimiter}.
+ * <p>
+ * Every permit is taken from Redis before it is used, so the limiter never grants more than its configured rate.
+ * Leasing only shifts when a permit is spent: a node may use a permit up to {@code maxLeaseHold} after Redis granted
+ * it. A node holds at most the lease in use plus one standby lease, refilled only once the current one is down to
+ * {@code leaseSize / 4} permits, and only one lease request is outstanding at a time, so across a window the observed
+ * send rate may exceed the configured rate by at most {@code nodes * (leaseSize + leaseSize / 4)} permits. Permits not
+ * used within {@code maxLeaseHold} are discarded.
+ * <p>
+ * Lease requests never wait on Redis; when no lease is available the caller falls back to a single permit, waiting at
+ * most what is left of {@code maxWait}.
+ */
+@Slf4j
+final class PermitLease {
+
+    private static final CompletionStage<Boolean> GRANTED = CompletableFuture.completedFuture(true);
+
+    private final RRateLimiter rateLimiter;
+    private final int leaseSize;
+    private final int lowWatermark;
+    private final long maxHoldNanos;
+    private final Duration maxWait;
+
+    private Lease standby;
+    private CompletableFuture<Boolean> fetching;
+    private volatile Lease current = Lease.EMPTY;
+
+    PermitLease(RRateLimiter rateLimiter, int leaseSize, Duration maxLeaseHold, Duration maxWait) {
+        this.rateLimiter = rateLimiter;
+        this.leaseSize = leaseSize;
+        this.lowWatermark = Math.max(1, leaseSize / 4);
+        this.maxHoldNanos = maxLeaseHold.toNanos();
+        this.maxWait = maxWait;
+    }
+
+    boolean acquire() {
+        return acquireAsync().toCompletableFuture().join();
+    }
+
+    CompletionStage<Boolean> acquireAsync() {
+        if (tryTakeLocal()) {
+            return GRANTED;
+        }
+        var startNanos = System.nanoTime();
+        return fetchLease().thenCompose(ignored -> tryTakeLocal() ? GRANTED : fetchSingle(startNanos));
+    }
+
+    private boolean tryTakeLocal() {
+        var now = System.nanoTime();
+        var lease = current;
+        if (lease.tryTake(now)) {
+            if (lease.remaining() <= lowWatermark) {
+                prefetch();
+            }
+            return true;
+        }
+        return promote(now);
+    }
+
+    private synchronized boolean promote(long now) {
+        while (!current.tryTake(now)) {
+            if (standby == null) {
+                return false;
+            }
+            current = standby;
+            standby = null;
+        }
+        return true;
+    }
+
+    /**
+     * Keeps at most one standby lease; a lease arriving while both slots are usable is dropped.
+     */
+    private synchronized void install(Lease lease) {
+        var now = System.nanoTime();
+        if (!current.isUsable(now)) {
+            current = lease;
+        } else if (standby == null || !standby.isUsable(now)) {
+            standby = lease;
+        } else {
+            log.debug("[DistributedRateLimit] Dropping surplus lease of {} permits", leaseSize);
+        }
+    }
+
+    /**
+     * Single-flight: callers missing locally while a lease request is outstanding wait for that one instead of
+     * requesting another block.
+     */
+    private synchronized CompletableFuture<Boolean> fetchLease() {
+        if (fetching != null) {
+            return fetching;
+        }
+        var fetch = rateLimiter.tryAcquireAsync(leaseSize).toCompletableFuture()
+                .handle((granted, ex) -> {
+                    if (ex != null) {
+                        log.warn("[DistributedRateLimit] Lease request failed: {}", ex.getMessage());
+                    } else if (granted) {
+                        install(new Lease(leaseSize, System.nanoTime() + maxHoldNanos));
+                    }
+                    return ex == null && granted;
+                });
+        fetching = fetch;
+        fetch.whenComplete((granted, ex) -> clearFetch(fetch));
+        return fetch;
+    }
+
+    private synchronized void clearFetch(CompletableFuture<Boolean> fetch) {
+        if (fetching == fetch) {
+            fetching = null;
+        }
+    }
+
+    private CompletionStage<Boolean> fetchSingle(long startNanos) {
+        if (maxWait == null) {
+            return rateLimiter.acquireAsync(1).thenApply(ignored -> true);
+        }
+        var remainingMillis = TimeUnit.NANOSECONDS.toMillis(maxWait.toNanos() - (System.nanoTime() - startNanos));
+        if (remainingMillis <= 0) {
+            return rateLimiter.tryAcquireAsync(1);
+        }
+        return rateLimiter.tryAcquireAsync(1, remainingMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void prefetch() {
+        synchronized (this) {
+            if (standby != null || fetching != null) {
+                return;
+            }
+        }
+        fetchLease();
+    }
+
+    private static final class Lease {
+
+        static final Lease EMPTY = new Lease(0, 0);
+
+        private final AtomicInteger remaining;
+        private final long expiresAtNanos;
+
+        Lease(int permits, long expiresAtNanos) {
+            this.remaining = new AtomicInteger(permits);
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean tryTake(long now) {
+            if (now - expiresAtNanos >= 0) {
+                return false;
+            }
+            int available;
+            do {
+                available = remaining.get();
+                if (available <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(available, available - 1));
+            return true;
+        }
+
+        boolean isUsable(long now) {
+            return now - expiresAtNanos < 0 && remaining.get() > 0;
+        }
+
+        int remaining() {
+            return remaining.get();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import org.redisson.api.RateIntervalUnit;
+
+import java.time.Duration;
+
+/**
+ * Settings shared by the rate limit decorators: {@code maxRequestsPerWindow} permits every {@code rate}
+ * {@code rateIntervalUnit}s.
+ */
+public interface RateLimitConfig {
+
+    int getMaxRequestsPerWindow();
+
+    int getRate();
+
+    RateIntervalUnit getRateIntervalUnit();
+
+    /**
+     * Upper bound for waiting on a permit. {@code null} waits until a permit is available,
+     * {@link Duration#ZERO} fails fast with {@code RATE_LIMIT_EXCEEDED}.
+     */
+    Duration getMaxWait();
+
+    default Duration getWindow() {
+        return Duration.ofMillis(getRateIntervalUnit().toMillis(getRate()));
+    }
+}
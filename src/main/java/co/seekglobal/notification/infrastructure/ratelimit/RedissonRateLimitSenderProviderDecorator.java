@@ -1,44 +1,88 @@
 package co.seekglobal.notification.infrastructure.ratelimit;
 
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
 import co.seekglobal.notification.domain.Notification;
 import co.seekglobal.notification.domain.NotificationChannel;
 import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace.Phase;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RRateLimiter;
-import org.redisson.api.RateIntervalUnit;
 import org.redisson.api.RateType;
 import org.redisson.api.RedissonClient;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocking delegates are sent on {@code executor} once a permit is granted; without one the decorator owns a cached
+ * pool of daemon threads rather than borrowing the common pool.
+ */
 @Slf4j
-public final class RedissonRateLimitSenderProviderDecorator implements NotificationSenderProvider {
+public final class RedissonRateLimitSenderProviderDecorator implements AsyncNotificationSenderProvider {
 
     private final NotificationSenderProvider delegate;
     private final DistributedRateLimitConfig config;
     private final RRateLimiter rRateLimiter;
+    private final Executor executor;
+    private final PermitLease permitLease;
+    private final NotificationMetrics metrics;
+    private final String providerName;
 
     @Builder(builderMethodName = "factory")
     public RedissonRateLimitSenderProviderDecorator(NotificationSenderProvider delegate,
                                                     DistributedRateLimitConfig config,
-                                                    RedissonClient redissonClient) {
+                                                    RedissonClient redissonClient,
+                                                    Executor executor,
+                                                    NotificationMetrics metrics) {
         this.delegate = delegate;
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+        this.providerName = delegate.getProviderName();
         this.config = config;
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-ratelimit-worker"));
         this.rRateLimiter = redissonClient.getRateLimiter(String.join("_", delegate.getProviderName(), "rate_limiter"));
-        rRateLimiter.trySetRate(RateType.OVERALL, config.getMaxRequestsPerWindow(), 1, RateIntervalUnit.SECONDS);
-        log.info("[DistributedRateLimit] Initialized for provider {} with {} req/{} and rate {}",
+        rRateLimiter.trySetRate(RateType.OVERALL, config.getMaxRequestsPerWindow(), config.getRate(), config.getRateIntervalUnit());
+        this.permitLease = createPermitLease(config, rRateLimiter);
+        log.info("[DistributedRateLimit] Initialized for provider {} with {} req/{} and rate {}, max wait {}, lease size {}",
                 delegate.getProviderName(),
                 config.getMaxRequestsPerWindow(),
                 config.getRateIntervalUnit(),
-                config.getRate());
+                config.getRate(),
+                config.getMaxWait(),
+                config.getLeaseSize());
     }
 
     @Override
     public NotificationResult send(Notification notification) {
-        rRateLimiter.acquire();
+        var start = System.nanoTime();
+        var acquired = acquire();
+        onAcquired(notification, start, acquired);
+        if (!acquired) {
+            return rateLimitExceeded(notification);
+        }
         return delegate.send(notification);
     }
 
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+        var start = System.nanoTime();
+        return acquireAsync().thenCompose(acquired -> {
+            onAcquired(notification, start, acquired);
+            return acquired
+                    ? sendDelegateAsync(notification)
+                    : CompletableFuture.completedFuture(rateLimitExceeded(notification));
+        });
+    }
+
     @Override
     public NotificationChannel getChannel() {
         return delegate.getChannel();
@@ -48,4 +92,77 @@ public final class RedissonRateLimitSenderProviderDecorator implements Notificat
     public String getProviderName() {
         return delegate.getProviderName() + "[DistributedRateLimited]";
     }
+
+    private static PermitLease createPermitLease(DistributedRateLimitConfig config, RRateLimiter rRateLimiter) {
+        if (config.getLeaseSize() <= 1) {
+            return null;
+        }
+        if (config.getLeaseSize() > config.getMaxRequestsPerWindow()) {
+            throw new IllegalArgumentException("leaseSize (" + config.getLeaseSize()
+                    + ") cannot exceed maxRequestsPerWindow (" + config.getMaxRequestsPerWindow() + ")");
+        }
+        return new PermitLease(rRateLimiter, config.getLeaseSize(), config.getMaxLeaseHold(), config.getMaxWait());
+    }
+
+    private boolean acquire() {
+        if (permitLease != null) {
+            return permitLease.acquire();
+        }
+        var maxWait = config.getMaxWait();
+        if (maxWait == null) {
+            rRateLimiter.acquire();
+            return true;
+        }
+        if (maxWait.isZero()) {
+            return rRateLimiter.tryAcquire();
+        }
+        return rRateLimiter.tryAcquire(1, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private CompletionStage<Boolean> acquireAsync() {
+        if (permitLease != null) {
+            return permitLease.acquireAsync();
+        }
+        var maxWait = config.getMaxWait();
+        if (maxWait == null) {
+            return rRateLimiter.acquireAsync().thenApply(ignored -> true);
+        }
+        if (maxWait.isZero()) {
+            return rRateLimiter.tryAcquireAsync();
+        }
+        return rRateLimiter.tryAcquireAsync(1, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void onAcquired(Notification notification, long start, boolean acquired) {
+        var waitNanos = System.nanoTime() - start;
+        metrics.recordRateLimitWait(getChannel(), providerName, waitNanos);
+        if (notification.getTrace() != null) {
+            notification.getTrace().record(Phase.RATE_LIMIT, providerName, start, waitNanos,
+                    acquired ? null : ErrorCode.RATE_LIMIT_EXCEEDED);
+        }
+    }
+
+    private CompletionStage<NotificationResult> sendDelegateAsync(Notification notification) {
+        if (delegate instanceof AsyncNotificationSenderProvider asyncDelegate) {
+            return asyncDelegate.sendAsync(notification);
+        }
+        return CompletableFuture.supplyAsync(() -> delegate.send(notification), executor);
+    }
+
+    private NotificationResult rateLimitExceeded(Notification notification) {
+        metrics.recordEvent(getChannel(), PipelineEvent.RATE_LIMITED);
+        log.warn("[DistributedRateLimit] No permit for provider {} within {}, notification {}",
+                delegate.getProviderName(), config.getMaxWait(), notification.getId());
+        return NotificationResult.failure(notification.getId(), getChannel(), getProviderName(),
+                ErrorCode.RATE_LIMIT_EXCEEDED, "Rate limit exceeded for provider " + delegate.getProviderName());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
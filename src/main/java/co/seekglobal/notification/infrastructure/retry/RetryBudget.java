@@ -0,0 +1,41 @@
+package co.seekglobal.notification.infrastructure.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that earns {@code ratio} of a retry per original send and spends one per retry, so a provider
+ * brownout can add at most {@code ratio} extra load on top of a {@code capacity} burst.
+ */
+public final class RetryBudget {
+
+    private static final long TOKEN = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    public double available() {
+        return (double) balance.get() / TOKEN;
+    }
+}
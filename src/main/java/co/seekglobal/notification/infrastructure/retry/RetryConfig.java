@@ -0,0 +1,50 @@
+package co.seekglobal.notification.infrastructure.retry;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Builder
+public class RetryConfig {
+
+    @Builder.Default
+    private final int maxAttempts = 3;
+
+    @Builder.Default
+    private final Duration initialBackoff = Duration.ofMillis(100);
+
+    @Builder.Default
+    private final double multiplier = 2.0;
+
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Fraction of each backoff that is randomized: the delay is drawn from {@code [backoff * (1 - jitter), backoff]}.
+     */
+    @Builder.Default
+    private final double jitter = 0.5;
+
+    /**
+     * {@code RATE_LIMIT_EXCEEDED} is left out: retrying a throttled provider adds load exactly when it is saturated,
+     * and the use case already falls back to the next provider.
+     */
+    @Builder.Default
+    private final Set<ErrorCode> retryableErrors = Set.of(ErrorCode.UNKNOWN_ERROR);
+
+    /**
+     * Retries allowed per original send, e.g. {@code 0.1} caps retries at 10% of traffic.
+     */
+    @Builder.Default
+    private final double retryBudgetRatio = 0.1;
+
+    /**
+     * Retries that can be spent in a burst before the ratio applies.
+     */
+    @Builder.Default
+    private final int retryBudgetCapacity = 100;
+}
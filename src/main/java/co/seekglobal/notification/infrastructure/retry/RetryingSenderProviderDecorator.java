@@ -0,0 +1,157 @@
+package co.seekglobal.notification.infrastructure.retry;
+
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.application.outbound.NotificationMetrics;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace.Phase;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocking delegates run on {@code executor}; when none is given each decorator owns a cached pool of daemon threads,
+ * so slow sends and retries never occupy the common pool.
+ */
+@Slf4j
+public final class RetryingSenderProviderDecorator implements AsyncNotificationSenderProvider {
+
+    private final NotificationSenderProvider delegate;
+    private final RetryConfig config;
+    private final RetryBudget budget;
+    private final Executor executor;
+    private final Clock clock;
+    private final NotificationMetrics metrics;
+
+    @Builder(builderMethodName = "factory")
+    public RetryingSenderProviderDecorator(NotificationSenderProvider delegate,
+                                           RetryConfig config,
+                                           RetryBudget budget,
+                                           Executor executor,
+                                           Clock clock,
+                                           NotificationMetrics metrics) {
+        this.delegate = delegate;
+        this.config = config != null ? config : RetryConfig.builder().build();
+        this.budget = budget != null ? budget : new RetryBudget(this.config.getRetryBudgetRatio(), this.config.getRetryBudgetCapacity());
+        this.executor = executor != null ? executor : Executors.newCachedThreadPool(daemon("seek-retry-worker"));
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.metrics = metrics != null ? metrics : NotificationMetrics.NOOP;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) {
+        budget.onRequest();
+        var first = invoke(notification);
+        return next(notification, 1, first).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+        budget.onRequest();
+        return attempt(notification, 1, null);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return delegate.getChannel();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName() + "[Retrying]";
+    }
+
+    private CompletionStage<NotificationResult> attempt(Notification notification, int attempt, Executor delayed) {
+        return invokeAsync(notification, delayed).thenCompose(result -> next(notification, attempt, result));
+    }
+
+    private CompletionStage<NotificationResult> next(Notification notification, int attempt, NotificationResult result) {
+        if (result.isSuccess() || attempt >= config.getMaxAttempts() || !config.getRetryableErrors().contains(result.getErrorCode())) {
+            return CompletableFuture.completedFuture(result);
+        }
+        if (notification.isExpired(clock.millis())) {
+            return CompletableFuture.completedFuture(NotificationResult.failure(notification.getId(), getChannel(),
+                    getProviderName(), ErrorCode.EXPIRED, "Notification expired before retry " + (attempt + 1)));
+        }
+        if (!budget.tryAcquire()) {
+            log.warn("[Retry] Budget exhausted for provider {}, not retrying notification {}", delegate.getProviderName(), notification.getId());
+            return CompletableFuture.completedFuture(result);
+        }
+
+        var delay = backoff(attempt);
+        metrics.recordEvent(getChannel(), PipelineEvent.RETRIED);
+        if (notification.getTrace() != null) {
+            notification.getTrace().record(Phase.RETRY, delegate.getProviderName(), System.nanoTime(), delay.toNanos(),
+                    result.getErrorCode());
+        }
+        log.debug("[Retry] Provider {} failed with {}, retry {} of notification {} in {}",
+                delegate.getProviderName(), result.getErrorCode(), attempt + 1, notification.getId(), delay);
+        var delayed = CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS, executor);
+        return attempt(notification, attempt + 1, delayed);
+    }
+
+    private Duration backoff(int attempt) {
+        var base = Math.min(config.getMaxBackoff().toNanos(),
+                config.getInitialBackoff().toNanos() * Math.pow(config.getMultiplier(), attempt - 1));
+        var jittered = base * (1 - config.getJitter() * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos((long) jittered);
+    }
+
+    private NotificationResult invoke(Notification notification) {
+        try {
+            return delegate.send(notification);
+        } catch (RuntimeException e) {
+            return providerError(notification, e);
+        }
+    }
+
+    private CompletionStage<NotificationResult> invokeAsync(Notification notification, Executor delayed) {
+        if (delegate instanceof AsyncNotificationSenderProvider asyncDelegate) {
+            CompletionStage<NotificationResult> stage = delayed == null
+                    ? invokeAsyncDelegate(asyncDelegate, notification)
+                    : CompletableFuture.supplyAsync(() -> invokeAsyncDelegate(asyncDelegate, notification), delayed)
+                    .thenCompose(inner -> inner);
+            return stage.exceptionally(ex -> providerError(notification, ex));
+        }
+        return CompletableFuture.supplyAsync(() -> invoke(notification), delayed != null ? delayed : executor);
+    }
+
+    private CompletionStage<NotificationResult> invokeAsyncDelegate(AsyncNotificationSenderProvider asyncDelegate,
+                                                                    Notification notification) {
+        try {
+            return asyncDelegate.sendAsync(notification);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private NotificationResult providerError(Notification notification, Throwable ex) {
+        var cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return NotificationResult.failure(notification.getId(), getChannel(), delegate.getProviderName(),
+                ErrorCode.UNKNOWN_ERROR, cause.getMessage());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package co.seekglobal.notification.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ISO-8601 offset timestamps without {@code DateTimeFormatter}: output matches {@link OffsetDateTime#toString()} except
+ * that seconds are always written, and anything the fast parser does not recognise goes to
+ * {@link OffsetDateTime#parse}.
+ */
+final class IsoTimestamps {
+
+    private IsoTimestamps() {
+    }
+
+    static void write(JsonGenerator gen, OffsetDateTime timestamp) throws IOException {
+        if (timestamp.getYear() < 0 || timestamp.getYear() > 9999) {
+            gen.writeString(timestamp.toString());
+            return;
+        }
+        var chars = new char[35];
+        var length = 0;
+        length = digits(chars, length, timestamp.getYear(), 4);
+        chars[length++] = '-';
+        length = digits(chars, length, timestamp.getMonthValue(), 2);
+        chars[length++] = '-';
+        length = digits(chars, length, timestamp.getDayOfMonth(), 2);
+        chars[length++] = 'T';
+        length = digits(chars, length, timestamp.getHour(), 2);
+        chars[length++] = ':';
+        length = digits(chars, length, timestamp.getMinute(), 2);
+        chars[length++] = ':';
+        length = digits(chars, length, timestamp.getSecond(), 2);
+
+        var nano = timestamp.getNano();
+        if (nano != 0) {
+            chars[length++] = '.';
+            if (nano % 1_000_000 == 0) {
+                length = digits(chars, length, nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                length = digits(chars, length, nano / 1_000, 6);
+            } else {
+                length = digits(chars, length, nano, 9);
+            }
+        }
+
+        var offset = timestamp.getOffset().getTotalSeconds();
+        if (offset == 0) {
+            chars[length++] = 'Z';
+        } else {
+            chars[length++] = offset < 0 ? '-' : '+';
+            var absolute = Math.abs(offset);
+            length = digits(chars, length, absolute / 3600, 2);
+            chars[length++] = ':';
+            length = digits(chars, length, absolute / 60 % 60, 2);
+            if (absolute % 60 != 0) {
+                chars[length++] = ':';
+                length = digits(chars, length, absolute % 60, 2);
+            }
+        }
+        gen.writeString(chars, 0, length);
+    }
+
+    static OffsetDateTime parse(String text) {
+        var length = text.length();
+        if (length < 20 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return OffsetDateTime.parse(text);
+        }
+        var year = number(text, 0, 4);
+        var month = number(text, 5, 7);
+        var day = number(text, 8, 10);
+        var hour = number(text, 11, 13);
+        var minute = number(text, 14, 16);
+        var second = number(text, 17, 19);
+
+        var index = 19;
+        var nano = 0;
+        if (text.charAt(index) == '.') {
+            var start = ++index;
+            while (index < length && index - start < 9 && isDigit(text.charAt(index))) {
+                nano = nano * 10 + text.charAt(index++) - '0';
+            }
+            if (index == start) {
+                return OffsetDateTime.parse(text);
+            }
+            for (var scale = index - start; scale < 9; scale++) {
+                nano *= 10;
+            }
+        }
+
+        ZoneOffset offset;
+        if (index == length - 1 && text.charAt(index) == 'Z') {
+            offset = ZoneOffset.UTC;
+        } else if (index == length - 6 && (text.charAt(index) == '+' || text.charAt(index) == '-')
+                && text.charAt(index + 3) == ':') {
+            var sign = text.charAt(index) == '-' ? -1 : 1;
+            var offsetHours = number(text, index + 1, index + 3);
+            var offsetMinutes = number(text, index + 4, index + 6);
+            if (offsetHours < 0 || offsetMinutes < 0) {
+                return OffsetDateTime.parse(text);
+            }
+            offset = ZoneOffset.ofTotalSeconds(sign * (offsetHours * 3600 + offsetMinutes * 60));
+        } else {
+            return OffsetDateTime.parse(text);
+        }
+
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return OffsetDateTime.parse(text);
+        }
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+    }
+
+    private static int digits(char[] chars, int position, int value, int width) {
+        for (var i = position + width - 1; i >= position; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+
+    /**
+     * Parses {@code text[from, to)} as an unsigned decimal, or returns {@code -1} if any character is not a digit.
+     */
+    private static int number(String text, int from, int to) {
+        var value = 0;
+        for (var i = from; i < to; i++) {
+            var c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,525 @@
+package co.seekglobal.notification.infrastructure.serialization;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary form of {@link Notification} and {@link NotificationResult} for queues, the outbox and workers.
+ * <p>
+ * Each message starts with a schema version byte and a varint bitmask of the fields present; absent (null) fields
+ * take no space. Strings and collection sizes are varint-length prefixed, enums are single ordinals (so constants may
+ * only be appended), and timestamps are epoch seconds, nanos and offset seconds as varints. Encoding writes UTF-8
+ * straight into the target buffer, and decoding reads fields in place from the source buffer, leaving its position
+ * after the message so several messages can be read back to back.
+ * <p>
+ * Map values keep their type for strings, integers, longs, doubles, booleans and {@link OffsetDateTime}; anything else
+ * is stored as its {@code toString()}.
+ */
+public final class NotificationCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int N_ID = 1;
+    private static final int N_CHANNEL = 1 << 1;
+    private static final int N_RECIPIENT = 1 << 2;
+    private static final int N_SUBJECT = 1 << 3;
+    private static final int N_BODY = 1 << 4;
+    private static final int N_TEMPLATE_ID = 1 << 5;
+    private static final int N_TEMPLATE_VARIABLES = 1 << 6;
+    private static final int N_METADATA = 1 << 7;
+    private static final int N_PRIORITY = 1 << 8;
+    private static final int N_CREATED_AT = 1 << 9;
+    private static final int N_SCHEDULED_AT = 1 << 10;
+    private static final int N_TTL_SECONDS = 1 << 11;
+    private static final int N_FROM = 1 << 12;
+    private static final int N_REPLY_TO = 1 << 13;
+    private static final int N_IDEMPOTENCY_KEY = 1 << 14;
+
+    private static final int R_SUCCESS = 1;
+    private static final int R_NOTIFICATION_ID = 1 << 1;
+    private static final int R_PROVIDER_MESSAGE_ID = 1 << 2;
+    private static final int R_CHANNEL = 1 << 3;
+    private static final int R_PROVIDER_NAME = 1 << 4;
+    private static final int R_ERROR_CODE = 1 << 5;
+    private static final int R_ERROR_MESSAGE = 1 << 6;
+    private static final int R_PROCESSED_AT = 1 << 7;
+    private static final int R_PROVIDER_RESPONSE = 1 << 8;
+
+    private static final byte V_NULL = 0;
+    private static final byte V_STRING = 1;
+    private static final byte V_INT = 2;
+    private static final byte V_LONG = 3;
+    private static final byte V_DOUBLE = 4;
+    private static final byte V_TRUE = 5;
+    private static final byte V_FALSE = 6;
+    private static final byte V_TIMESTAMP = 7;
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private static final ThreadLocal<byte[]> STRING_SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private NotificationCodec() {
+    }
+
+    public static byte[] encode(Notification notification) {
+        var buffer = ByteBuffer.allocate(encodedSize(notification));
+        encode(notification, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Writes the notification at the buffer's position; the buffer needs {@link #encodedSize(Notification)} bytes
+     * remaining.
+     */
+    public static void encode(Notification notification, ByteBuffer target) {
+        var fields = fieldsOf(notification);
+        target.put(VERSION);
+        putVarint(target, fields);
+        putString(target, notification.getId());
+        putOrdinal(target, notification.getChannel());
+        putString(target, notification.getRecipient());
+        putString(target, notification.getSubject());
+        putString(target, notification.getBody());
+        putString(target, notification.getTemplateId());
+        putMap(target, notification.getTemplateVariables());
+        putMap(target, notification.getMetadata());
+        putOrdinal(target, notification.getPriority());
+        putTimestamp(target, notification.getCreatedAt());
+        putTimestamp(target, notification.getScheduledAt());
+        if (notification.getTtlSeconds() != null) {
+            putVarint(target, zigzag(notification.getTtlSeconds()));
+        }
+        putString(target, notification.getFrom());
+        putString(target, notification.getReplyTo());
+        putString(target, notification.getIdempotencyKey());
+    }
+
+    public static int encodedSize(Notification notification) {
+        var fields = fieldsOf(notification);
+        var size = 1 + varintSize(fields)
+                + stringSize(notification.getId())
+                + ordinalSize(notification.getChannel())
+                + stringSize(notification.getRecipient())
+                + stringSize(notification.getSubject())
+                + stringSize(notification.getBody())
+                + stringSize(notification.getTemplateId())
+                + mapSize(notification.getTemplateVariables())
+                + mapSize(notification.getMetadata())
+                + ordinalSize(notification.getPriority())
+                + timestampSize(notification.getCreatedAt())
+                + timestampSize(notification.getScheduledAt())
+                + stringSize(notification.getFrom())
+                + stringSize(notification.getReplyTo())
+                + stringSize(notification.getIdempotencyKey());
+        if (notification.getTtlSeconds() != null) {
+            size += varintSize(zigzag(notification.getTtlSeconds()));
+        }
+        return size;
+    }
+
+    public static Notification decodeNotification(ByteBuffer source) {
+        checkVersion(source);
+        var fields = getVarint(source);
+        return Notification.builder()
+                .id(has(fields, N_ID) ? getString(source) : null)
+                .channel(has(fields, N_CHANNEL) ? getOrdinal(source, CHANNELS) : null)
+                .recipient(has(fields, N_RECIPIENT) ? getString(source) : null)
+                .subject(has(fields, N_SUBJECT) ? getString(source) : null)
+                .body(has(fields, N_BODY) ? getString(source) : null)
+                .templateId(has(fields, N_TEMPLATE_ID) ? getString(source) : null)
+                .templateVariables(has(fields, N_TEMPLATE_VARIABLES) ? getMap(source) : null)
+                .metadata(has(fields, N_METADATA) ? getMap(source) : null)
+                .priority(has(fields, N_PRIORITY) ? getOrdinal(source, PRIORITIES) : null)
+                .createdAt(has(fields, N_CREATED_AT) ? getTimestamp(source) : null)
+                .scheduledAt(has(fields, N_SCHEDULED_AT) ? getTimestamp(source) : null)
+                .ttlSeconds(has(fields, N_TTL_SECONDS) ? unzigzag(getVarint(source)) : null)
+                .from(has(fields, N_FROM) ? getString(source) : null)
+                .replyTo(has(fields, N_REPLY_TO) ? getString(source) : null)
+                .idempotencyKey(has(fields, N_IDEMPOTENCY_KEY) ? getString(source) : null)
+                .build();
+    }
+
+    public static byte[] encode(NotificationResult result) {
+        var buffer = ByteBuffer.allocate(encodedSize(result));
+        encode(result, buffer);
+        return buffer.array();
+    }
+
+    public static void encode(NotificationResult result, ByteBuffer target) {
+        target.put(VERSION);
+        putVarint(target, fieldsOf(result));
+        putString(target, result.getNotificationId());
+        putString(target, result.getProviderMessageId());
+        putOrdinal(target, result.getChannel());
+        putString(target, result.getProviderName());
+        putOrdinal(target, result.getErrorCode());
+        putString(target, result.getErrorMessage());
+        putTimestamp(target, result.getProcessedAt());
+        putMap(target, result.getProviderResponse());
+    }
+
+    public static int encodedSize(NotificationResult result) {
+        return 1 + varintSize(fieldsOf(result))
+                + stringSize(result.getNotificationId())
+                + stringSize(result.getProviderMessageId())
+                + ordinalSize(result.getChannel())
+                + stringSize(result.getProviderName())
+                + ordinalSize(result.getErrorCode())
+                + stringSize(result.getErrorMessage())
+                + timestampSize(result.getProcessedAt())
+                + mapSize(result.getProviderResponse());
+    }
+
+    public static NotificationResult decodeResult(ByteBuffer source) {
+        checkVersion(source);
+        var fields = getVarint(source);
+        return NotificationResult.builder()
+                .success(has(fields, R_SUCCESS))
+                .notificationId(has(fields, R_NOTIFICATION_ID) ? getString(source) : null)
+                .providerMessageId(has(fields, R_PROVIDER_MESSAGE_ID) ? getString(source) : null)
+                .channel(has(fields, R_CHANNEL) ? getOrdinal(source, CHANNELS) : null)
+                .providerName(has(fields, R_PROVIDER_NAME) ? getString(source) : null)
+                .errorCode(has(fields, R_ERROR_CODE) ? getOrdinal(source, ERROR_CODES) : null)
+                .errorMessage(has(fields, R_ERROR_MESSAGE) ? getString(source) : null)
+                .processedAt(has(fields, R_PROCESSED_AT) ? getTimestamp(source) : null)
+                .providerResponse(has(fields, R_PROVIDER_RESPONSE) ? getMap(source) : null)
+                .build();
+    }
+
+    private static int fieldsOf(Notification notification) {
+        return bit(notification.getId(), N_ID)
+                | bit(notification.getChannel(), N_CHANNEL)
+                | bit(notification.getRecipient(), N_RECIPIENT)
+                | bit(notification.getSubject(), N_SUBJECT)
+                | bit(notification.getBody(), N_BODY)
+                | bit(notification.getTemplateId(), N_TEMPLATE_ID)
+                | bit(notification.getTemplateVariables(), N_TEMPLATE_VARIABLES)
+                | bit(notification.getMetadata(), N_METADATA)
+                | bit(notification.getPriority(), N_PRIORITY)
+                | bit(notification.getCreatedAt(), N_CREATED_AT)
+                | bit(notification.getScheduledAt(), N_SCHEDULED_AT)
+                | bit(notification.getTtlSeconds(), N_TTL_SECONDS)
+                | bit(notification.getFrom(), N_FROM)
+                | bit(notification.getReplyTo(), N_REPLY_TO)
+                | bit(notification.getIdempotencyKey(), N_IDEMPOTENCY_KEY);
+    }
+
+    private static int fieldsOf(NotificationResult result) {
+        return (result.isSuccess() ? R_SUCCESS : 0)
+                | bit(result.getNotificationId(), R_NOTIFICATION_ID)
+                | bit(result.getProviderMessageId(), R_PROVIDER_MESSAGE_ID)
+                | bit(result.getChannel(), R_CHANNEL)
+                | bit(result.getProviderName(), R_PROVIDER_NAME)
+                | bit(result.getErrorCode(), R_ERROR_CODE)
+                | bit(result.getErrorMessage(), R_ERROR_MESSAGE)
+                | bit(result.getProcessedAt(), R_PROCESSED_AT)
+                | bit(result.getProviderResponse(), R_PROVIDER_RESPONSE);
+    }
+
+    private static int bit(Object value, int mask) {
+        return value != null ? mask : 0;
+    }
+
+    private static boolean has(int fields, int mask) {
+        return (fields & mask) != 0;
+    }
+
+    private static void checkVersion(ByteBuffer source) {
+        var version = source.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported codec version " + version);
+        }
+    }
+
+    private static void putOrdinal(ByteBuffer target, Enum<?> value) {
+        if (value != null) {
+            putVarint(target, value.ordinal());
+        }
+    }
+
+    private static int ordinalSize(Enum<?> value) {
+        return value != null ? varintSize(value.ordinal()) : 0;
+    }
+
+    private static <E> E getOrdinal(ByteBuffer source, E[] values) {
+        var ordinal = getVarint(source);
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown " + values.getClass().getComponentType().getSimpleName()
+                    + " ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static void putTimestamp(ByteBuffer target, OffsetDateTime timestamp) {
+        if (timestamp != null) {
+            putVarlong(target, zigzag(timestamp.toEpochSecond()));
+            putVarint(target, timestamp.getNano());
+            putVarint(target, zigzag(timestamp.getOffset().getTotalSeconds()));
+        }
+    }
+
+    private static int timestampSize(OffsetDateTime timestamp) {
+        if (timestamp == null) {
+            return 0;
+        }
+        return varlongSize(zigzag(timestamp.toEpochSecond()))
+                + varintSize(timestamp.getNano())
+                + varintSize(zigzag(timestamp.getOffset().getTotalSeconds()));
+    }
+
+    private static OffsetDateTime getTimestamp(ByteBuffer source) {
+        var epochSecond = unzigzag(getVarlong(source));
+        var nano = getVarint(source);
+        var offset = ZoneOffset.ofTotalSeconds(unzigzag(getVarint(source)));
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(epochSecond, nano, offset), offset);
+    }
+
+    private static void putMap(ByteBuffer target, Map<String, Object> map) {
+        if (map == null) {
+            return;
+        }
+        putVarint(target, map.size());
+        for (var entry : map.entrySet()) {
+            putString(target, entry.getKey());
+            putValue(target, entry.getValue());
+        }
+    }
+
+    private static int mapSize(Map<String, Object> map) {
+        if (map == null) {
+            return 0;
+        }
+        var size = varintSize(map.size());
+        for (var entry : map.entrySet()) {
+            size += stringSize(entry.getKey()) + valueSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static Map<String, Object> getMap(ByteBuffer source) {
+        var size = getVarint(source);
+        var map = new LinkedHashMap<String, Object>((int) (size / 0.75f) + 1);
+        for (var i = 0; i < size; i++) {
+            map.put(getString(source), getValue(source));
+        }
+        return map;
+    }
+
+    private static void putValue(ByteBuffer target, Object value) {
+        if (value == null) {
+            target.put(V_NULL);
+        } else if (value instanceof String s) {
+            target.put(V_STRING);
+            putString(target, s);
+        } else if (value instanceof Integer i) {
+            target.put(V_INT);
+            putVarint(target, zigzag(i));
+        } else if (value instanceof Long l) {
+            target.put(V_LONG);
+            putVarlong(target, zigzag(l));
+        } else if (value instanceof Double d) {
+            target.put(V_DOUBLE);
+            target.putDouble(d);
+        } else if (value instanceof Boolean b) {
+            target.put(b ? V_TRUE : V_FALSE);
+        } else if (value instanceof OffsetDateTime t) {
+            target.put(V_TIMESTAMP);
+            putTimestamp(target, t);
+        } else {
+            target.put(V_STRING);
+            putString(target, value.toString());
+        }
+    }
+
+    private static int valueSize(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof String s) {
+            return 1 + stringSize(s);
+        } else if (value instanceof Integer i) {
+            return 1 + varintSize(zigzag(i));
+        } else if (value instanceof Long l) {
+            return 1 + varlongSize(zigzag(l));
+        } else if (value instanceof Double) {
+            return 1 + Double.BYTES;
+        } else if (value instanceof OffsetDateTime t) {
+            return 1 + timestampSize(t);
+        }
+        return 1 + stringSize(value.toString());
+    }
+
+    private static Object getValue(ByteBuffer source) {
+        var tag = source.get();
+        return switch (tag) {
+            case V_NULL -> null;
+            case V_STRING -> getString(source);
+            case V_INT -> unzigzag(getVarint(source));
+            case V_LONG -> unzigzag(getVarlong(source));
+            case V_DOUBLE -> source.getDouble();
+            case V_TRUE -> Boolean.TRUE;
+            case V_FALSE -> Boolean.FALSE;
+            case V_TIMESTAMP -> getTimestamp(source);
+            default -> throw new IllegalArgumentException("Unknown value tag " + tag);
+        };
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            return;
+        }
+        putVarint(target, utf8Length(value));
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | c >> 6));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                target.put((byte) (0xE0 | c >> 12));
+                target.put((byte) (0x80 | c >> 6 & 0x3F));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (isSurrogatePair(value, i)) {
+                var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | codePoint >> 18));
+                target.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                target.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                target.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                target.put((byte) '?');
+            }
+        }
+    }
+
+    private static int stringSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        var length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+
+    /**
+     * Matches {@link String#getBytes} in UTF-8, including the {@code '?'} written for an unpaired surrogate.
+     */
+    private static int utf8Length(String value) {
+        var length = value.length();
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            } else if (isSurrogatePair(value, i)) {
+                length += 2;
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    private static String getString(ByteBuffer source) {
+        var length = getVarint(source);
+        var position = source.position();
+        String value;
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        } else {
+            var scratch = STRING_SCRATCH.get();
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+                STRING_SCRATCH.set(scratch);
+            }
+            source.get(position, scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        source.position(position + length);
+        return value;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    private static void putVarlong(ByteBuffer target, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    private static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static int varlongSize(long value) {
+        return (70 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static int getVarint(ByteBuffer source) {
+        var result = 0;
+        for (var shift = 0; shift < 35; shift += 7) {
+            var b = source.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long getVarlong(ByteBuffer source) {
+        var result = 0L;
+        for (var shift = 0; shift < 70; shift += 7) {
+            var b = source.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,245 @@
+package co.seekglobal.notification.infrastructure.serialization;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hand-written Jackson (de)serializers for {@link Notification} and {@link NotificationResult}, for the paths that must
+ * stay JSON. Fields are streamed directly instead of going through bean introspection, nulls are omitted, enums are
+ * written by name and timestamps as ISO-8601 strings with their offset, so no {@code java.time} module is needed.
+ * Map values that are scalars or timestamps are handled inline. Unknown fields are skipped.
+ */
+public class NotificationJacksonModule extends SimpleModule {
+
+    public NotificationJacksonModule() {
+        super("SeekNotificationModule");
+        addSerializer(Notification.class, new NotificationSerializer());
+        addDeserializer(Notification.class, new NotificationDeserializer());
+        addSerializer(NotificationResult.class, new NotificationResultSerializer());
+        addDeserializer(NotificationResult.class, new NotificationResultDeserializer());
+        addSerializer(OffsetDateTime.class, ToStringSerializer.instance);
+    }
+
+    private static final class NotificationSerializer extends StdSerializer<Notification> {
+
+        NotificationSerializer() {
+            super(Notification.class);
+        }
+
+        @Override
+        public void serialize(Notification value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, "id", value.getId());
+            writeEnum(gen, "channel", value.getChannel());
+            writeString(gen, "recipient", value.getRecipient());
+            writeString(gen, "subject", value.getSubject());
+            writeString(gen, "body", value.getBody());
+            writeString(gen, "templateId", value.getTemplateId());
+            writeMap(gen, provider, "templateVariables", value.getTemplateVariables());
+            writeMap(gen, provider, "metadata", value.getMetadata());
+            writeEnum(gen, "priority", value.getPriority());
+            writeTimestamp(gen, "createdAt", value.getCreatedAt());
+            writeTimestamp(gen, "scheduledAt", value.getScheduledAt());
+            if (value.getTtlSeconds() != null) {
+                gen.writeNumberField("ttlSeconds", value.getTtlSeconds());
+            }
+            writeString(gen, "from", value.getFrom());
+            writeString(gen, "replyTo", value.getReplyTo());
+            writeString(gen, "idempotencyKey", value.getIdempotencyKey());
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class NotificationDeserializer extends StdDeserializer<Notification> {
+
+        NotificationDeserializer() {
+            super(Notification.class);
+        }
+
+        @Override
+        public Notification deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            var builder = Notification.builder();
+            for (var token = firstField(p); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                var field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "id" -> builder.id(p.getValueAsString());
+                    case "channel" -> builder.channel(readEnum(p, NotificationChannel.class));
+                    case "recipient" -> builder.recipient(p.getValueAsString());
+                    case "subject" -> builder.subject(p.getValueAsString());
+                    case "body" -> builder.body(p.getValueAsString());
+                    case "templateId" -> builder.templateId(p.getValueAsString());
+                    case "templateVariables" -> builder.templateVariables(readMap(p, ctxt));
+                    case "metadata" -> builder.metadata(readMap(p, ctxt));
+                    case "priority" -> builder.priority(readEnum(p, Priority.class));
+                    case "createdAt" -> builder.createdAt(readTimestamp(p));
+                    case "scheduledAt" -> builder.scheduledAt(readTimestamp(p));
+                    case "ttlSeconds" -> builder.ttlSeconds(p.currentToken() == JsonToken.VALUE_NULL ? null : p.getIntValue());
+                    case "from" -> builder.from(p.getValueAsString());
+                    case "replyTo" -> builder.replyTo(p.getValueAsString());
+                    case "idempotencyKey" -> builder.idempotencyKey(p.getValueAsString());
+                    default -> p.skipChildren();
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class NotificationResultSerializer extends StdSerializer<NotificationResult> {
+
+        NotificationResultSerializer() {
+            super(NotificationResult.class);
+        }
+
+        @Override
+        public void serialize(NotificationResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeBooleanField("success", value.isSuccess());
+            writeString(gen, "notificationId", value.getNotificationId());
+            writeString(gen, "providerMessageId", value.getProviderMessageId());
+            writeEnum(gen, "channel", value.getChannel());
+            writeString(gen, "providerName", value.getProviderName());
+            writeEnum(gen, "errorCode", value.getErrorCode());
+            writeString(gen, "errorMessage", value.getErrorMessage());
+            writeTimestamp(gen, "processedAt", value.getProcessedAt());
+            writeMap(gen, provider, "providerResponse", value.getProviderResponse());
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class NotificationResultDeserializer extends StdDeserializer<NotificationResult> {
+
+        NotificationResultDeserializer() {
+            super(NotificationResult.class);
+        }
+
+        @Override
+        public NotificationResult deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            var builder = NotificationResult.builder();
+            for (var token = firstField(p); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                var field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "success" -> builder.success(p.getValueAsBoolean());
+                    case "notificationId" -> builder.notificationId(p.getValueAsString());
+                    case "providerMessageId" -> builder.providerMessageId(p.getValueAsString());
+                    case "channel" -> builder.channel(readEnum(p, NotificationChannel.class));
+                    case "providerName" -> builder.providerName(p.getValueAsString());
+                    case "errorCode" -> builder.errorCode(readEnum(p, ErrorCode.class));
+                    case "errorMessage" -> builder.errorMessage(p.getValueAsString());
+                    case "processedAt" -> builder.processedAt(readTimestamp(p));
+                    case "providerResponse" -> builder.providerResponse(readMap(p, ctxt));
+                    default -> p.skipChildren();
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static JsonToken firstField(JsonParser p) throws IOException {
+        var token = p.currentToken();
+        return token == JsonToken.START_OBJECT ? p.nextToken() : token;
+    }
+
+    private static void writeString(JsonGenerator gen, String field, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(field, value);
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, String field, Enum<?> value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(field, value.name());
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, String field, OffsetDateTime value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            IsoTimestamps.write(gen, value);
+        }
+    }
+
+    /**
+     * Scalars are written inline; anything else goes through the provider's serializer for its type.
+     */
+    private static void writeMap(JsonGenerator gen, SerializerProvider provider, String field, Map<String, Object> value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        gen.writeObjectFieldStart(field);
+        for (var entry : value.entrySet()) {
+            var item = entry.getValue();
+            gen.writeFieldName(entry.getKey());
+            if (item == null) {
+                gen.writeNull();
+            } else if (item instanceof String text) {
+                gen.writeString(text);
+            } else if (item instanceof Integer number) {
+                gen.writeNumber(number);
+            } else if (item instanceof Long number) {
+                gen.writeNumber(number);
+            } else if (item instanceof Double number) {
+                gen.writeNumber(number);
+            } else if (item instanceof Boolean flag) {
+                gen.writeBoolean(flag);
+            } else if (item instanceof OffsetDateTime timestamp) {
+                IsoTimestamps.write(gen, timestamp);
+            } else {
+                provider.defaultSerializeValue(item, gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static <E extends Enum<E>> E readEnum(JsonParser p, Class<E> type) throws IOException {
+        var name = p.getValueAsString();
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static OffsetDateTime readTimestamp(JsonParser p) throws IOException {
+        var text = p.getValueAsString();
+        return text != null ? IsoTimestamps.parse(text) : null;
+    }
+
+    /**
+     * Reads scalars inline; nested objects and arrays fall back to Jackson's untyped deserializer.
+     */
+    private static Map<String, Object> readMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        var map = new LinkedHashMap<String, Object>();
+        for (var token = firstField(p); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            var key = p.currentName();
+            map.put(key, switch (p.nextToken()) {
+                case VALUE_STRING -> p.getText();
+                case VALUE_NUMBER_INT -> p.getNumberValue();
+                case VALUE_NUMBER_FLOAT -> p.getDoubleValue();
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                case VALUE_NULL -> null;
+                default -> ctxt.readValue(p, Object.class);
+            });
+        }
+        return map;
+    }
+}
@@ -0,0 +1,23 @@
+package co.seekglobal.notification.infrastructure.template;
+
+import co.seekglobal.notification.application.outbound.TemplateRepository;
+import co.seekglobal.notification.domain.NotificationTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InMemoryTemplateRepository implements TemplateRepository {
+
+    private final Map<String, NotificationTemplate> templates = new ConcurrentHashMap<>();
+
+    public InMemoryTemplateRepository save(NotificationTemplate template) {
+        templates.put(template.id(), template);
+        return this;
+    }
+
+    @Override
+    public Optional<NotificationTemplate> findById(String templateId) {
+        return Optional.ofNullable(templates.get(templateId));
+    }
+}
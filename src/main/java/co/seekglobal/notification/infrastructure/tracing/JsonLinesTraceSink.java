@@ -0,0 +1,147 @@
+package co.seekglobal.notification.infrastructure.tracing;
+
+import co.seekglobal.notification.application.outbound.TraceSink;
+import co.seekglobal.notification.domain.SendTrace;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appends one JSON object per trace to a file. Exporting only enqueues; a background thread writes and flushes in
+ * batches, and traces arriving while the queue is full are dropped and counted rather than slowing sends down.
+ */
+@Slf4j
+public final class JsonLinesTraceSink implements TraceSink, AutoCloseable {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private final Path path;
+    private final BlockingQueue<SendTrace> queue;
+    private final JsonGenerator generator;
+    private final Thread writerThread;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running = true;
+
+    @Builder(builderMethodName = "factory")
+    public JsonLinesTraceSink(Path path, Integer queueCapacity) {
+        this.path = path;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity != null ? queueCapacity : DEFAULT_QUEUE_CAPACITY);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            this.generator = new JsonFactory().createGenerator(writer);
+            generator.setRootValueSeparator(new SerializedString(""));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open trace file " + path, e);
+        }
+        this.writerThread = new Thread(this::writeLoop, "trace-jsonl-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void export(SendTrace trace) {
+        if (!running || !queue.offer(trace)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes whatever is still queued and closes the file.
+     */
+    @Override
+    public void close() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            generator.close();
+        } catch (IOException e) {
+            log.warn("[Tracing] Failed to close trace file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void writeLoop() {
+        var batch = new ArrayList<SendTrace>();
+        while (running || !queue.isEmpty()) {
+            try {
+                if (running) {
+                    batch.add(queue.take());
+                }
+            } catch (InterruptedException e) {
+                // close() wakes the writer up to drain and stop
+            }
+            queue.drainTo(batch);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                for (var trace : batch) {
+                    write(trace);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                log.warn("[Tracing] Failed to write {} traces to {}: {}", batch.size(), path, e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(SendTrace trace) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("notificationId", trace.getNotificationId());
+        if (trace.getChannel() != null) {
+            generator.writeStringField("channel", trace.getChannel().name());
+        }
+        generator.writeStringField("startedAt", Instant.ofEpochMilli(trace.getStartedAtEpochMillis()).toString());
+        generator.writeNumberField("durationNanos", trace.getDurationNanos());
+        generator.writeBooleanField("success", trace.isSuccess());
+        if (trace.getErrorCode() != null) {
+            generator.writeStringField("errorCode", trace.getErrorCode().name());
+        }
+        generator.writeArrayFieldStart("spans");
+        for (var span : trace.getSpans()) {
+            generator.writeStartObject();
+            generator.writeStringField("phase", span.phase().name());
+            if (span.provider() != null) {
+                generator.writeStringField("provider", span.provider());
+            }
+            generator.writeNumberField("offsetNanos", span.offsetNanos());
+            generator.writeNumberField("durationNanos", span.durationNanos());
+            if (span.errorCode() != null) {
+                generator.writeStringField("errorCode", span.errorCode().name());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,61 @@
+package co.seekglobal.notification.infrastructure.tracing;
+
+import co.seekglobal.notification.application.outbound.TraceSink;
+import co.seekglobal.notification.domain.SendTrace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the last {@code capacity} traces in memory, overwriting the oldest. Meant for tests and for inspecting recent
+ * sends from a running process.
+ */
+public final class RingBufferTraceSink implements TraceSink {
+
+    private final AtomicReferenceArray<SendTrace> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RingBufferTraceSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void export(SendTrace trace) {
+        slots.set((int) (sequence.getAndIncrement() % slots.length()), trace);
+    }
+
+    /**
+     * @return the retained traces, oldest first
+     */
+    public List<SendTrace> snapshot() {
+        var end = sequence.get();
+        var traces = new ArrayList<SendTrace>();
+        for (var position = Math.max(0, end - slots.length()); position < end; position++) {
+            var trace = slots.get((int) (position % slots.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    public Optional<SendTrace> find(String notificationId) {
+        var traces = snapshot();
+        for (var i = traces.size() - 1; i >= 0; i--) {
+            if (traces.get(i).getNotificationId().equals(notificationId)) {
+                return Optional.of(traces.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public long getExportedCount() {
+        return sequence.get();
+    }
+}
@@ -3,13 +3,34 @@ module co.seekglobal.notification {
     exports co.seekglobal.notification.application.inbound;
     exports co.seekglobal.notification.application.outbound;
     exports co.seekglobal.notification.application.usecase;
+    exports co.seekglobal.notification.application.dispatch;
+    exports co.seekglobal.notification.application.routing;
+    exports co.seekglobal.notification.application.scheduling;
+    exports co.seekglobal.notification.application.validation;
+    exports co.seekglobal.notification.application.template;
+    exports co.seekglobal.notification.application.outbox;
+    exports co.seekglobal.notification.application.coalescing;
+    exports co.seekglobal.notification.application.tracing;
     exports co.seekglobal.notification.infrastructure.config;
     exports co.seekglobal.notification.infrastructure.adapters.email;
     exports co.seekglobal.notification.infrastructure.adapters.sms;
     exports co.seekglobal.notification.infrastructure.adapters.push;
+    exports co.seekglobal.notification.infrastructure.adapters.fake;
+    exports co.seekglobal.notification.infrastructure.ratelimit;
+    exports co.seekglobal.notification.infrastructure.retry;
+    exports co.seekglobal.notification.infrastructure.circuitbreaker;
+    exports co.seekglobal.notification.infrastructure.template;
+    exports co.seekglobal.notification.infrastructure.outbox;
+    exports co.seekglobal.notification.infrastructure.serialization;
+    exports co.seekglobal.notification.infrastructure.idempotency;
+    exports co.seekglobal.notification.infrastructure.metrics;
+    exports co.seekglobal.notification.infrastructure.tracing;
+    exports co.seekglobal.notification.infrastructure.logging;
 
     requires static lombok;
     requires redisson;
+    requires io.github.resilience4j.ratelimiter;
+    requires io.github.resilience4j.circuitbreaker;
     requires org.slf4j;
     requires com.fasterxml.jackson.databind;
     requires jakarta.validation;
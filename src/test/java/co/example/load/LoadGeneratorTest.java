@@ -0,0 +1,104 @@
+package co.example.load;
+
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.infrastructure.adapters.fake.FakeSenderProvider;
+import co.seekglobal.notification.infrastructure.adapters.fake.LatencyDistribution;
+import co.seekglobal.notification.infrastructure.config.SeekNotificationBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private static final SendNotificationRequest REQUEST = SendNotificationRequest.builder()
+            .channel(NotificationChannel.SMS)
+            .recipient("+1234567890")
+            .body("Hello")
+            .build();
+
+    @Test
+    void run_shouldIssueRequestsAtTheTargetRate() throws InterruptedException {
+        // Given
+        var provider = FakeSenderProvider.factory()
+                .channel(NotificationChannel.SMS)
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(5)))
+                .throttleRate(0.5)
+                .build();
+        var command = SeekNotificationBuilder.builder().provider(provider).build();
+
+        // When
+        var report = LoadGenerator.factory()
+                .command(command)
+                .requests(() -> REQUEST)
+                .ratePerSecond(200)
+                .duration(Duration.ofMillis(500))
+                .build()
+                .run();
+
+        // Then
+        assertEquals(100, report.sent());
+        assertEquals(provider.getThrottleCount(), report.failures().get(ErrorCode.PROVIDER_NOT_FOUND));
+        assertEquals(100, report.succeeded() + provider.getThrottleCount());
+        assertEquals(100, report.responseTime().count());
+        assertTrue(report.serviceTime().valueAtPercentile(50, TimeUnit.MILLISECONDS) >= 4.5);
+    }
+
+    @Test
+    void run_shouldChargeQueueingBehindSlowSendsToResponseTime() throws InterruptedException {
+        // Given one worker and a provider four times slower than the request interval
+        var command = SeekNotificationBuilder.builder()
+                .provider(FakeSenderProvider.factory()
+                        .channel(NotificationChannel.SMS)
+                        .latency(LatencyDistribution.fixed(Duration.ofMillis(20)))
+                        .build())
+                .build();
+
+        // When
+        var report = LoadGenerator.factory()
+                .command(command)
+                .requests(() -> REQUEST)
+                .ratePerSecond(200)
+                .duration(Duration.ofMillis(100))
+                .concurrency(1)
+                .build()
+                .run();
+
+        // Then the last request waited for the 19 before it, not just its own 20ms
+        assertEquals(20, report.sent());
+        assertTrue(report.serviceTime().max() < TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(report.responseTime().max() > TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    void run_shouldReportSendsStillRunningAfterTheDrainTimeout() throws InterruptedException {
+        // Given a provider far slower than the time the run waits for it
+        var command = SeekNotificationBuilder.builder()
+                .provider(FakeSenderProvider.factory()
+                        .channel(NotificationChannel.SMS)
+                        .latency(LatencyDistribution.fixed(Duration.ofSeconds(5)))
+                        .build())
+                .build();
+
+        // When
+        var report = LoadGenerator.factory()
+                .command(command)
+                .requests(() -> REQUEST)
+                .ratePerSecond(100)
+                .duration(Duration.ofMillis(100))
+                .drainTimeout(Duration.ofMillis(200))
+                .build()
+                .run();
+
+        // Then every unfinished send is counted and charged the time it had been waiting
+        assertTrue(report.sent() > 0);
+        assertEquals(report.sent(), report.timedOut());
+        assertEquals(report.sent(), report.responseTime().count());
+        assertEquals(0, report.serviceTime().count());
+        assertTrue(report.responseTime().max() >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+}
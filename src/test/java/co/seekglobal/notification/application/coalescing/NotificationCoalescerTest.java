@@ -0,0 +1,219 @@
+package co.seekglobal.notification.application.coalescing;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Mock
+    private SendNotificationCommand delegate;
+
+    private NotificationCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    void shouldSendFirstAndMergeTheRestOfTheBurstIntoADigest() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(success(invocation.getArgument(0))));
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMillis(100)).maxSubjects(2).build());
+
+        // When
+        var first = coalescer.send(request("Order shipped", Priority.NORMAL));
+        var second = coalescer.send(request("Order delayed", Priority.NORMAL));
+        var third = coalescer.send(request("Order delivered", Priority.HIGH));
+        var fourth = coalescer.send(request("Rate your order", Priority.LOW));
+
+        // Then
+        assertEquals("msg", first.getProviderMessageId());
+        assertEquals("COALESCED", second.getProviderResponse().get("status"));
+        assertEquals("COALESCED", fourth.getProviderResponse().get("status"));
+        verify(delegate, times(1)).deliver(any(Notification.class));
+
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(delegate, timeout(2_000)).deliverAsync(captor.capture(), any(Executor.class));
+        var digest = captor.getValue();
+        assertEquals("3 new notifications", digest.getSubject());
+        assertEquals("- Order delayed\n- Order delivered\n+1 more", digest.getBody());
+        assertEquals(Priority.HIGH, digest.getPriority());
+        assertEquals(3, digest.getMetadata().get(NotificationCoalescer.COALESCED_COUNT_METADATA));
+        assertEquals(String.join(",", second.getNotificationId(), third.getNotificationId(), fourth.getNotificationId()),
+                digest.getMetadata().get(NotificationCoalescer.COALESCED_IDS_METADATA));
+        assertEquals(3, coalescer.getCoalescedCount());
+        assertEquals(1, coalescer.getDigestCount());
+    }
+
+    @Test
+    void shouldLetCriticalNotificationsBypassAnOpenWindow() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMinutes(1)).build());
+
+        // When
+        coalescer.send(request("Login", Priority.NORMAL));
+        var critical = coalescer.send(request("Password changed", Priority.CRITICAL));
+
+        // Then
+        assertEquals("msg", critical.getProviderMessageId());
+        verify(delegate, times(2)).deliver(any(Notification.class));
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void shouldSendASingleBufferedNotificationAsIsAndCloseIdleWindows() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(success(invocation.getArgument(0))));
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMillis(50)).build());
+
+        // When
+        coalescer.send(request("First", Priority.NORMAL));
+        var buffered = coalescer.send(request("Second", Priority.NORMAL));
+
+        // Then
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(delegate, timeout(2_000)).deliverAsync(captor.capture(), any(Executor.class));
+        assertEquals(buffered.getNotificationId(), captor.getValue().getId());
+        assertEquals("Second", captor.getValue().getSubject());
+        assertEquals(0, coalescer.getDigestCount());
+
+        var deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (coalescer.getOpenWindowCount() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, coalescer.getOpenWindowCount());
+    }
+
+    @Test
+    void shouldCoalesceWithinABatchAndFlushOnClose() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        when(delegate.deliverBatch(any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            return notifications.stream().map(NotificationCoalescerTest::success).toList();
+        });
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMinutes(1)).build());
+        var batch = List.of(request("A", Priority.NORMAL), request("B", Priority.NORMAL), request("C", Priority.NORMAL));
+
+        // When
+        var results = coalescer.sendBatch(batch);
+        coalescer.close();
+
+        // Then
+        assertEquals("msg", results.get(0).getProviderMessageId());
+        assertEquals("COALESCED", results.get(1).getProviderResponse().get("status"));
+        assertEquals("COALESCED", results.get(2).getProviderResponse().get("status"));
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(delegate).deliver(captor.capture());
+        assertEquals("2 new notifications", captor.getValue().getSubject());
+        verify(delegate, never()).deliverAsync(any(), any());
+    }
+
+    @Test
+    void shouldNotHoldBackTemplatedOrKeyedNotifications() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMinutes(1)).build());
+        var templated = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .templateId("order-shipped")
+                .build();
+        var keyed = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .body("Order shipped")
+                .idempotencyKey("order-42")
+                .build();
+
+        // When
+        coalescer.send(request("Login", Priority.NORMAL));
+        var templatedResult = coalescer.send(templated);
+        var keyedResult = coalescer.send(keyed);
+
+        // Then
+        assertEquals("msg", templatedResult.getProviderMessageId());
+        assertEquals("msg", keyedResult.getProviderMessageId());
+        verify(delegate, times(3)).deliver(any(Notification.class));
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void shouldGiveTheDigestTheEarliestExpiryOfItsGroup() {
+        // Given
+        when(delegate.deliver(any(Notification.class))).thenAnswer(invocation -> success(invocation.getArgument(0)));
+        coalescer = coalescer(CoalescingConfig.builder().window(Duration.ofMinutes(1)).build());
+        var shortLived = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .subject("Code")
+                .body("Your code is 1234")
+                .ttlSeconds(60)
+                .build();
+
+        // When
+        coalescer.send(request("Login", Priority.NORMAL));
+        coalescer.send(request("Order shipped", Priority.NORMAL));
+        coalescer.send(shortLived);
+        coalescer.close();
+
+        // Then
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(delegate, times(2)).deliver(captor.capture());
+        var digest = captor.getValue();
+        assertEquals("2 new notifications", digest.getSubject());
+        assertTrue(digest.getTtlSeconds() > 55 && digest.getTtlSeconds() <= 60);
+    }
+
+    private NotificationCoalescer coalescer(CoalescingConfig config) {
+        return NotificationCoalescer.factory().delegate(delegate).config(config).executor(DIRECT).build();
+    }
+
+    private static SendNotificationRequest request(String subject, Priority priority) {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .subject(subject)
+                .body("Body of " + subject)
+                .priority(priority)
+                .build();
+    }
+
+    private static NotificationResult success(Notification notification) {
+        return NotificationResult.success(notification.getId(), "msg", notification.getChannel(), "Mock");
+    }
+}
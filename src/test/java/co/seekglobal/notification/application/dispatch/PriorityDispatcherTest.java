@@ -0,0 +1,177 @@
+package co.seekglobal.notification.application.dispatch;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriorityDispatcherTest {
+
+    @Mock
+    private SendNotificationCommand delegate;
+
+    private PriorityDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void shouldDispatchHigherPriorityFirstWhenSlotsAreBusy() {
+        // Given
+        var order = new CopyOnWriteArrayList<String>();
+        var blocker = new CompletableFuture<NotificationResult>();
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            order.add(notification.getRecipient());
+            var result = NotificationResult.success(notification.getId(), "msg", notification.getChannel(), "Mock");
+            return notification.getRecipient().equals("blocker") ? blocker : CompletableFuture.completedFuture(result);
+        });
+        dispatcher = dispatcher(PriorityDispatchConfig.builder().maxInFlight(1).build());
+
+        var first = dispatcher.submit(request("blocker", Priority.LOW), Runnable::run);
+        awaitDepth(Priority.LOW, 0);
+        var low = dispatcher.submit(request("low", Priority.LOW), Runnable::run);
+        var critical = dispatcher.submit(request("critical", Priority.CRITICAL), Runnable::run);
+
+        // When
+        blocker.complete(NotificationResult.success("id", "msg", NotificationChannel.SMS, "Mock"));
+        CompletableFuture.allOf(first.toCompletableFuture(), low.toCompletableFuture(), critical.toCompletableFuture()).join();
+
+        // Then
+        assertEquals(List.of("blocker", "critical", "low"), order);
+        assertEquals(1, dispatcher.stats().get(Priority.CRITICAL).dispatched());
+    }
+
+    @Test
+    void shouldRejectWhenPriorityQueueIsFull() {
+        // Given
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class))).thenReturn(new CompletableFuture<>());
+        dispatcher = dispatcher(PriorityDispatchConfig.builder().maxInFlight(1).queueCapacity(1).drainTimeout(Duration.ZERO).build());
+
+        dispatcher.submit(request("in-flight", Priority.NORMAL), Runnable::run);
+        awaitDepth(Priority.NORMAL, 0);
+        dispatcher.submit(request("queued", Priority.NORMAL), Runnable::run);
+
+        // When
+        var result = dispatcher.submit(request("rejected", Priority.NORMAL), Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(ErrorCode.QUEUE_FULL, result.getErrorCode());
+        assertEquals(1, dispatcher.getQueueDepth(Priority.NORMAL));
+        assertEquals(1, dispatcher.stats().get(Priority.NORMAL).rejected());
+    }
+
+    @Test
+    void shouldReleaseBlockedSendersWhenClosed() throws InterruptedException {
+        // Given
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class))).thenReturn(new CompletableFuture<>());
+        dispatcher = dispatcher(PriorityDispatchConfig.builder().maxInFlight(1).drainTimeout(Duration.ofMillis(50)).build());
+        dispatcher.submit(request("in-flight", Priority.NORMAL), Runnable::run);
+        awaitDepth(Priority.NORMAL, 0);
+
+        var result = new CompletableFuture<NotificationResult>();
+        var sender = new Thread(() -> result.complete(dispatcher.send(request("queued", Priority.NORMAL))));
+        sender.start();
+        awaitDepth(Priority.NORMAL, 1);
+
+        // When
+        dispatcher.close();
+        sender.join(2_000);
+
+        // Then
+        assertTrue(result.isDone());
+        assertEquals(ErrorCode.QUEUE_FULL, result.join().getErrorCode());
+        assertEquals(0, dispatcher.getQueueDepth(Priority.NORMAL));
+    }
+
+    @Test
+    void shouldDrainQueuedSendsWhenClosed() {
+        // Given
+        var blocker = new CompletableFuture<NotificationResult>();
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            var result = NotificationResult.success(notification.getId(), "msg", notification.getChannel(), "Mock");
+            return notification.getRecipient().equals("blocker") ? blocker : CompletableFuture.completedFuture(result);
+        });
+        dispatcher = dispatcher(PriorityDispatchConfig.builder().maxInFlight(1).build());
+        dispatcher.submit(request("blocker", Priority.NORMAL), Runnable::run);
+        awaitDepth(Priority.NORMAL, 0);
+        var queued = dispatcher.submit(request("queued", Priority.NORMAL), Runnable::run);
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                .execute(() -> blocker.complete(NotificationResult.success("id", "msg", NotificationChannel.SMS, "Mock")));
+
+        // When
+        dispatcher.close();
+
+        // Then
+        assertTrue(queued.toCompletableFuture().isDone());
+        assertTrue(queued.toCompletableFuture().join().isSuccess());
+        var rejected = dispatcher.submit(request("late", Priority.NORMAL), Runnable::run).toCompletableFuture().join();
+        assertEquals(ErrorCode.QUEUE_FULL, rejected.getErrorCode());
+    }
+
+    @Test
+    void shouldKeepBatchOrderAcrossPriorityGroups() {
+        // Given
+        when(delegate.sendBatch(any())).thenAnswer(invocation -> {
+            List<SendNotificationRequest> group = invocation.getArgument(0);
+            return group.stream()
+                    .map(r -> NotificationResult.success("id", r.recipient(), r.channel(), "Mock"))
+                    .toList();
+        });
+        dispatcher = dispatcher(PriorityDispatchConfig.builder().build());
+
+        // When
+        var results = dispatcher.sendBatch(List.of(
+                request("a", Priority.LOW), request("b", Priority.HIGH), request("c", Priority.LOW)));
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), results.stream().map(NotificationResult::getProviderMessageId).toList());
+    }
+
+    private PriorityDispatcher dispatcher(PriorityDispatchConfig config) {
+        return PriorityDispatcher.factory().delegate(delegate).config(config).build();
+    }
+
+    private void awaitDepth(Priority priority, int depth) {
+        var deadline = System.currentTimeMillis() + 2_000;
+        while (dispatcher.getQueueDepth(priority) != depth && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(depth, dispatcher.getQueueDepth(priority));
+    }
+
+    private SendNotificationRequest request(String recipient, Priority priority) {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient(recipient)
+                .body("Hello")
+                .priority(priority)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package co.seekglobal.notification.application.inbound;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendNotificationCommandTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * An implementation written against the original interface: only {@code send} and {@code sendAsync}.
+     */
+    private static final class LegacyCommand implements SendNotificationCommand {
+
+        private final List<SendNotificationRequest> sent = new ArrayList<>();
+
+        @Override
+        public NotificationResult send(SendNotificationRequest command) {
+            sent.add(command);
+            return NotificationResult.success("id-" + sent.size(), "msg", command.channel(), "Legacy");
+        }
+
+        @Override
+        public void sendAsync(SendNotificationRequest command, Executor executor) {
+            executor.execute(() -> send(command));
+        }
+    }
+
+    @Test
+    void defaults_shouldRouteEverySendThroughSend() {
+        // Given
+        var command = new LegacyCommand();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .body("Hello")
+                .build();
+
+        // When
+        var submitted = command.submit(request, DIRECT).toCompletableFuture().join();
+        var batch = command.sendBatch(List.of(request, request));
+
+        // Then
+        assertTrue(submitted.isSuccess());
+        assertEquals(2, batch.size());
+        assertEquals(3, command.sent.size());
+    }
+
+    @Test
+    void deliver_shouldSendTheNotificationContentThroughSend() {
+        // Given
+        var command = new LegacyCommand();
+        var notification = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+573001234567")
+                .body("Code 1234")
+                .priority(Priority.HIGH)
+                .idempotencyKey("key-1")
+                .build();
+
+        // When
+        var delivered = command.deliver(notification);
+        var deliveredAsync = command.deliverAsync(notification, DIRECT).toCompletableFuture().join();
+
+        // Then
+        assertTrue(delivered.isSuccess());
+        assertTrue(deliveredAsync.isSuccess());
+        var request = command.sent.get(0);
+        assertEquals(NotificationChannel.SMS, request.channel());
+        assertEquals("+573001234567", request.recipient());
+        assertEquals("Code 1234", request.body());
+        assertEquals(Priority.HIGH, request.priority());
+        assertEquals("key-1", request.idempotencyKey());
+    }
+}
@@ -0,0 +1,185 @@
+package co.seekglobal.notification.application.outbox;
+
+import co.seekglobal.notification.application.coalescing.NotificationCoalescer;
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRecorderTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Mock
+    private SendNotificationCommand delegate;
+
+    @Mock
+    private NotificationOutbox outbox;
+
+    @Test
+    void submit_shouldAppendBeforeDispatchingTheSameNotification() {
+        // Given
+        var recorder = OutboxRecorder.factory().delegate(delegate).outbox(outbox).build();
+        when(delegate.deliverAsync(any(), any())).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(success(notification));
+        });
+
+        // When
+        var result = recorder.submit(request(), DIRECT).toCompletableFuture().join();
+
+        // Then
+        var appended = ArgumentCaptor.forClass(Notification.class);
+        InOrder order = inOrder(outbox, delegate);
+        order.verify(outbox).append(appended.capture());
+        order.verify(delegate).deliverAsync(appended.getValue(), DIRECT);
+        assertEquals(appended.getValue().getId(), result.getNotificationId());
+        verify(outbox, never()).complete(any());
+    }
+
+    @Test
+    void send_shouldCompleteFailuresRaisedAboveTheAcknowledger() {
+        // Given
+        var recorder = OutboxRecorder.factory().delegate(delegate).outbox(outbox).build();
+        when(delegate.deliver(any())).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            return NotificationResult.failure(notification.getId(), NotificationChannel.SMS, null,
+                    ErrorCode.QUEUE_FULL, "full");
+        });
+
+        // When
+        var result = recorder.send(request());
+
+        // Then
+        verify(outbox).complete(result);
+    }
+
+    @Test
+    void recover_shouldRedispatchPendingNotifications() {
+        // Given
+        var pending = List.of(request().toNotification(), request().toNotification());
+        when(outbox.pending()).thenReturn(pending);
+        when(delegate.deliverAsync(any(), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(success(invocation.getArgument(0))));
+        var recorder = OutboxRecorder.factory().delegate(delegate).outbox(outbox).build();
+
+        // When
+        recorder.recover(DIRECT, 2).toCompletableFuture().join();
+
+        // Then
+        verify(delegate).deliverAsync(pending.get(0), DIRECT);
+        verify(delegate).deliverAsync(pending.get(1), DIRECT);
+        verify(outbox, never()).append(any());
+    }
+
+    @Test
+    void recover_shouldLimitInFlightAndCompleteRejectedResults() {
+        // Given
+        var pending = List.of(request().toNotification(), request().toNotification(), request().toNotification());
+        when(outbox.pending()).thenReturn(pending);
+        var stages = new CopyOnWriteArrayList<CompletableFuture<NotificationResult>>();
+        when(delegate.deliverAsync(any(), any())).thenAnswer(invocation -> {
+            var stage = new CompletableFuture<NotificationResult>();
+            stages.add(stage);
+            return stage;
+        });
+        var recorder = OutboxRecorder.factory().delegate(delegate).outbox(outbox).build();
+        Executor threads = runnable -> new Thread(runnable).start();
+
+        // When
+        var recovery = recorder.recover(threads, 1).toCompletableFuture();
+        var inFlight = new ArrayList<Integer>();
+        for (var i = 0; i < pending.size(); i++) {
+            awaitStages(stages, i + 1);
+            inFlight.add(stages.size());
+            var notification = pending.get(i);
+            stages.get(i).complete(NotificationResult.failure(notification.getId(), NotificationChannel.SMS, null,
+                    ErrorCode.QUEUE_FULL, "full"));
+        }
+        recovery.join();
+
+        // Then
+        assertEquals(List.of(1, 2, 3), inFlight);
+        verify(outbox, times(3)).complete(any());
+    }
+
+    @Test
+    void acknowledger_shouldCompleteEveryBatchResult() {
+        // Given
+        var acknowledger = OutboxAcknowledger.factory().delegate(delegate).outbox(outbox).build();
+        var notifications = List.of(request().toNotification(), request().toNotification());
+        var results = notifications.stream().map(OutboxRecorderTest::success).toList();
+        when(delegate.deliverBatch(notifications)).thenReturn(results);
+
+        // When
+        acknowledger.deliverBatch(notifications);
+
+        // Then
+        verify(outbox).complete(results.get(0));
+        verify(outbox).complete(results.get(1));
+    }
+
+    @Test
+    void acknowledger_shouldCompleteNotificationsMergedIntoADeliveredDigest() {
+        // Given
+        var acknowledger = OutboxAcknowledger.factory().delegate(delegate).outbox(outbox).build();
+        var digest = request().toNotification().toBuilder()
+                .metadata(Map.of(NotificationCoalescer.COALESCED_IDS_METADATA, "a,b"))
+                .build();
+        when(delegate.deliver(digest)).thenReturn(success(digest));
+
+        // When
+        acknowledger.deliver(digest);
+
+        // Then
+        var completed = ArgumentCaptor.forClass(NotificationResult.class);
+        verify(outbox, times(3)).complete(completed.capture());
+        assertEquals(List.of(digest.getId(), "a", "b"),
+                completed.getAllValues().stream().map(NotificationResult::getNotificationId).toList());
+    }
+
+    private static void awaitStages(List<?> stages, int count) {
+        var deadline = System.currentTimeMillis() + 2_000;
+        while (stages.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, stages.size());
+    }
+
+    private static SendNotificationRequest request() {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("Hello")
+                .build();
+    }
+
+    private static NotificationResult success(Notification notification) {
+        return NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.SMS, "SMS_1");
+    }
+}
@@ -0,0 +1,79 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class EwmaLatencyRoutingTest {
+
+    @Mock
+    private NotificationSenderProvider slow;
+
+    @Mock
+    private NotificationSenderProvider fast;
+
+    @Mock
+    private NotificationSenderProvider failing;
+
+    @Test
+    void select_shouldShiftTrafficToFasterProvider() {
+        // Given
+        var routing = new EwmaLatencyRouting();
+        record(routing, slow, Duration.ofMillis(200), true);
+        record(routing, fast, Duration.ofMillis(20), true);
+
+        // When
+        var pick = routing.select(List.of(slow, fast));
+
+        // Then
+        assertEquals(1, pick);
+    }
+
+    @Test
+    void select_shouldPenalizeFastFailures() {
+        // Given
+        var routing = new EwmaLatencyRouting(0.3, Duration.ofSeconds(1));
+        record(routing, failing, Duration.ofMillis(1), false);
+        record(routing, slow, Duration.ofMillis(200), true);
+
+        // When
+        var pick = routing.select(List.of(failing, slow));
+
+        // Then
+        assertEquals(1, pick);
+        assertEquals(Duration.ofSeconds(1), routing.getLatencyEstimate(failing));
+    }
+
+    @Test
+    void select_shouldPickOneOfTwoRandomCandidatesAmongMany() {
+        // Given
+        var routing = new EwmaLatencyRouting();
+        record(routing, slow, Duration.ofMillis(200), true);
+        record(routing, fast, Duration.ofMillis(20), true);
+        record(routing, failing, Duration.ofMillis(1), false);
+        var providers = List.of(slow, fast, failing);
+
+        // When
+        var picks = new int[3];
+        for (var i = 0; i < 300; i++) {
+            picks[routing.select(providers)]++;
+        }
+
+        // Then
+        assertTrue(picks[1] > picks[0]);
+        assertTrue(picks[0] > picks[2]);
+    }
+
+    private void record(EwmaLatencyRouting routing, NotificationSenderProvider provider, Duration latency, boolean success) {
+        routing.onDispatch(provider);
+        routing.onComplete(provider, latency.toNanos(), success);
+    }
+}
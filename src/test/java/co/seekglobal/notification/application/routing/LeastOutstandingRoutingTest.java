@@ -0,0 +1,41 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeastOutstandingRoutingTest {
+
+    @Mock
+    private NotificationSenderProvider primary;
+
+    @Mock
+    private NotificationSenderProvider secondary;
+
+    @Test
+    void select_shouldPreferProviderWithFewerInFlightCalls() {
+        // Given
+        var routing = new LeastOutstandingRouting();
+        var providers = List.of(primary, secondary);
+
+        // When
+        var first = routing.select(providers);
+        routing.onDispatch(primary);
+        var whileBusy = routing.select(providers);
+        routing.onComplete(primary, 1_000_000, true);
+        var afterCompletion = routing.select(providers);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(1, whileBusy);
+        assertEquals(0, afterCompletion);
+        assertEquals(0, routing.getOutstanding(primary));
+    }
+}
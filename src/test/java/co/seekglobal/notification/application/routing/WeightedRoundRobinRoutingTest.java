@@ -0,0 +1,42 @@
+package co.seekglobal.notification.application.routing;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WeightedRoundRobinRoutingTest {
+
+    @Mock
+    private NotificationSenderProvider primary;
+
+    @Mock
+    private NotificationSenderProvider secondary;
+
+    @Test
+    void select_shouldSpreadTrafficByWeight() {
+        // Given
+        when(primary.getProviderName()).thenReturn("SENDGRID");
+        when(secondary.getProviderName()).thenReturn("MAILGUN");
+        var routing = new WeightedRoundRobinRouting(Map.of("SENDGRID", 3));
+        var providers = List.of(primary, secondary);
+
+        // When
+        var picks = new int[2];
+        for (var i = 0; i < 8; i++) {
+            picks[routing.select(providers)]++;
+        }
+
+        // Then
+        assertEquals(6, picks[0]);
+        assertEquals(2, picks[1]);
+    }
+}
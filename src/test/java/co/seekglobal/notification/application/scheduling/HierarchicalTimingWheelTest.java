@@ -0,0 +1,90 @@
+package co.seekglobal.notification.application.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void shouldExpireEntriesAcrossLevelsInDeadlineOrder() {
+        // Given
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(1), 8, 3, 0);
+        wheel.schedule("far", 300 * TICK);
+        wheel.schedule("near", 3 * TICK);
+        wheel.schedule("middle", 20 * TICK);
+        var expired = new ArrayList<String>();
+
+        // When
+        wheel.advanceTo(19 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("near"), expired);
+        assertEquals(2, wheel.size());
+
+        // When
+        wheel.advanceTo(300 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("near", "middle", "far"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldNotExpireBeforeDeadlineBeyondTopLevel() {
+        // Given
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(1), 4, 2, 0);
+        wheel.schedule("overflow", 100 * TICK);
+        var expired = new ArrayList<String>();
+
+        // When
+        wheel.advanceTo(99 * TICK, expired::add);
+
+        // Then
+        assertTrue(expired.isEmpty());
+
+        // When
+        wheel.advanceTo(100 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("overflow"), expired);
+    }
+
+    @Test
+    void shouldSkipCancelledEntries() {
+        // Given
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(1), 8, 3, 0);
+        var cancelled = wheel.schedule("cancelled", 50 * TICK);
+        wheel.schedule("kept", 50 * TICK);
+        var expired = new ArrayList<String>();
+
+        // When
+        assertTrue(wheel.cancel(cancelled));
+        wheel.advanceTo(60 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("kept"), expired);
+        assertFalse(wheel.cancel(cancelled));
+    }
+
+    @Test
+    void shouldFirePastDeadlinesOnNextTick() {
+        // Given
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(1), 8, 3, 0);
+        wheel.advanceTo(10 * TICK, value -> fail("nothing scheduled"));
+        wheel.schedule("late", 2 * TICK);
+        var expired = new ArrayList<String>();
+
+        // When
+        wheel.advanceTo(11 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("late"), expired);
+    }
+}
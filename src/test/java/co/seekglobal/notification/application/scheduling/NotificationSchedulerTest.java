@@ -0,0 +1,149 @@
+package co.seekglobal.notification.application.scheduling;
+
+import co.seekglobal.notification.application.inbound.SendNotificationCommand;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSchedulerTest {
+
+    @Mock
+    private SendNotificationCommand delegate;
+
+    private NotificationScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void shouldSendImmediatelyWhenNotScheduled() {
+        // Given
+        var request = request(null);
+        when(delegate.send(request)).thenReturn(NotificationResult.success("id", "msg", NotificationChannel.PUSH, "Mock"));
+        scheduler = scheduler();
+
+        // When
+        var result = scheduler.send(request);
+
+        // Then
+        assertEquals("msg", result.getProviderMessageId());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void shouldHoldFutureNotificationAndDeliverWhenDue() {
+        // Given
+        when(delegate.deliverAsync(any(Notification.class), any(Executor.class))).thenReturn(
+                CompletableFuture.completedFuture(NotificationResult.success("id", "msg", NotificationChannel.PUSH, "Mock")));
+        scheduler = scheduler();
+
+        // When
+        var result = scheduler.send(request(OffsetDateTime.now().plus(Duration.ofMillis(100))));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("SCHEDULED", result.getProviderResponse().get("status"));
+        assertEquals(1, scheduler.getPendingCount(NotificationChannel.PUSH));
+        verify(delegate, never()).send(any());
+
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(delegate, timeout(2_000)).deliverAsync(captor.capture(), any(Executor.class));
+        assertEquals(result.getNotificationId(), captor.getValue().getId());
+        assertEquals(0, scheduler.getPendingCount(NotificationChannel.PUSH));
+    }
+
+    @Test
+    void shouldCancelPendingNotificationById() throws InterruptedException {
+        // Given
+        scheduler = scheduler();
+        var result = scheduler.send(request(OffsetDateTime.now().plus(Duration.ofMillis(50))));
+
+        // When
+        var cancelled = scheduler.cancel(result.getNotificationId());
+        Thread.sleep(150);
+
+        // Then
+        assertTrue(cancelled);
+        assertEquals(0, scheduler.getPendingCount(NotificationChannel.PUSH));
+        verify(delegate, never()).deliverAsync(any(), any());
+        assertFalse(scheduler.cancel(result.getNotificationId()));
+    }
+
+    @Test
+    void shouldDropPendingNotificationsWhenClosed() throws InterruptedException {
+        // Given
+        scheduler = scheduler();
+        scheduler.send(request(OffsetDateTime.now().plus(Duration.ofMillis(50))));
+
+        // When
+        scheduler.close();
+        Thread.sleep(150);
+
+        // Then
+        assertEquals(0, scheduler.getPendingCount());
+        assertEquals(0, scheduler.getPendingCount(NotificationChannel.PUSH));
+        verify(delegate, never()).deliverAsync(any(), any());
+    }
+
+    @Test
+    void shouldPassNotificationsWithoutChannelToTheDelegate() {
+        // Given
+        var request = SendNotificationRequest.builder()
+                .recipient("device-token-123")
+                .body("Hello")
+                .scheduledAt(OffsetDateTime.now().plusMinutes(5))
+                .build();
+        var rejected = NotificationResult.failure("id", null, null, ErrorCode.CHANNEL_NOT_CONFIGURED, "Channel not configured");
+        when(delegate.send(request)).thenReturn(rejected);
+        scheduler = scheduler();
+
+        // When
+        var result = scheduler.send(request);
+
+        // Then
+        assertSame(rejected, result);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    private NotificationScheduler scheduler() {
+        return NotificationScheduler.factory()
+                .delegate(delegate)
+                .config(SchedulerConfig.builder().tick(Duration.ofMillis(5)).build())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private SendNotificationRequest request(OffsetDateTime scheduledAt) {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token-123")
+                .body("Hello")
+                .scheduledAt(scheduledAt)
+                .build();
+    }
+}
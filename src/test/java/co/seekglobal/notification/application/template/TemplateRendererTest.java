@@ -0,0 +1,100 @@
+package co.seekglobal.notification.application.template;
+
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationTemplate;
+import co.seekglobal.notification.infrastructure.template.InMemoryTemplateRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateRendererTest {
+
+    private final InMemoryTemplateRepository repository = new InMemoryTemplateRepository()
+            .save(new NotificationTemplate("welcome", 1, "Hola {{name}}", "Bienvenido {{ name }}, tu código es {{code}}."));
+
+    @Test
+    void render_shouldFillSubjectAndBodyKeepingId() {
+        // Given
+        var renderer = TemplateRenderer.factory().repository(repository).build();
+        var notification = templated("welcome", Map.of("name", "Ana", "code", 1234));
+
+        // When
+        var rendered = renderer.render(notification);
+
+        // Then
+        assertEquals(notification.getId(), rendered.getId());
+        assertEquals("Hola Ana", rendered.getSubject());
+        assertEquals("Bienvenido Ana, tu código es 1234.", rendered.getBody());
+        assertFalse(renderer.needsRendering(rendered));
+    }
+
+    @Test
+    void render_shouldCompileEachVersionOnce() {
+        // Given
+        var renderer = TemplateRenderer.factory().repository(repository).build();
+
+        // When
+        renderer.render(templated("welcome", Map.of("name", "Ana")));
+        renderer.render(templated("welcome", Map.of("name", "Luis")));
+        repository.save(new NotificationTemplate("welcome", 2, null, "Hey {{name}}"));
+        var afterUpdate = renderer.render(templated("welcome", Map.of("name", "Eva")));
+
+        // Then
+        assertEquals(2, renderer.getCompilationCount());
+        assertEquals("Hey Eva", afterUpdate.getBody());
+    }
+
+    @Test
+    void render_shouldEvictLeastRecentlyUsedTemplates() {
+        // Given
+        repository.save(new NotificationTemplate("otp", 1, null, "OTP {{code}}"));
+        repository.save(new NotificationTemplate("alert", 1, null, "Alert {{text}}"));
+        var renderer = TemplateRenderer.factory().repository(repository).cacheSize(2).build();
+
+        // When
+        renderer.render(templated("welcome", Map.of()));
+        renderer.render(templated("otp", Map.of()));
+        renderer.render(templated("welcome", Map.of()));
+        renderer.render(templated("alert", Map.of()));
+        renderer.render(templated("welcome", Map.of()));
+        renderer.render(templated("otp", Map.of()));
+
+        // Then
+        assertEquals(4, renderer.getCompilationCount());
+    }
+
+    @Test
+    void render_shouldLeaveMissingVariablesEmptyAndUnclosedPlaceholdersLiteral() {
+        // Given
+        repository.save(new NotificationTemplate("partial", 1, null, "Hi {{name}}! {{unclosed"));
+        var renderer = TemplateRenderer.factory().repository(repository).build();
+
+        // When
+        var rendered = renderer.render(templated("partial", null));
+
+        // Then
+        assertEquals("Hi ! {{unclosed", rendered.getBody());
+    }
+
+    @Test
+    void render_shouldFailForUnknownTemplate() {
+        // Given
+        var renderer = TemplateRenderer.factory().repository(repository).build();
+
+        // When / Then
+        var e = assertThrows(TemplateException.class, () -> renderer.render(templated("missing", Map.of())));
+        assertEquals("Template not found: missing", e.getMessage());
+    }
+
+    private Notification templated(String templateId, Map<String, Object> variables) {
+        return Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("test@example.com")
+                .templateId(templateId)
+                .templateVariables(variables)
+                .build();
+    }
+}
@@ -1,22 +1,46 @@
 package co.seekglobal.notification.application.usecase;
 
 import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.AsyncNotificationSenderProvider;
+import co.seekglobal.notification.application.outbound.BatchNotificationSenderProvider;
 import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
 import co.seekglobal.notification.application.outbound.ValidableSender;
+import co.seekglobal.notification.application.routing.LeastOutstandingRouting;
+import co.seekglobal.notification.application.template.TemplateRenderer;
+import co.seekglobal.notification.application.tracing.NotificationTracer;
 import co.seekglobal.notification.domain.*;
+import co.seekglobal.notification.infrastructure.adapters.sms.MockSmsSenderProvider;
+import co.seekglobal.notification.infrastructure.idempotency.LocalIdempotencyStore;
+import co.seekglobal.notification.infrastructure.metrics.InMemoryNotificationMetrics;
+import co.seekglobal.notification.infrastructure.template.InMemoryTemplateRepository;
+import co.seekglobal.notification.infrastructure.tracing.RingBufferTraceSink;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +56,12 @@ public class SendNotificationUseCaseTest {
     @Mock(extraInterfaces = ValidableSender.class)
     private NotificationSenderProvider mockValidableSender;
 
+    @Mock
+    private BatchNotificationSenderProvider mockBatchSender;
+
+    @Mock
+    private AsyncNotificationSenderProvider mockAsyncSender;
+
     private SendNotificationUseCase useCase;
 
 
@@ -244,4 +274,823 @@ public class SendNotificationUseCaseTest {
         assertEquals("sender@example.com", capturedNotification.getFrom());
         assertEquals("reply@example.com", capturedNotification.getReplyTo());
     }
+
+    @Test
+    void shouldSendBatchInChunksAndKeepInputOrder() {
+        // Given
+        when(mockBatchSender.getMaxBatchSize()).thenReturn(2);
+        when(mockBatchSender.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<Notification> chunk = invocation.getArgument(0);
+            return chunk.stream()
+                    .map(n -> NotificationResult.success(n.getId(), "msg-" + n.getRecipient(), NotificationChannel.EMAIL, "Batch"))
+                    .toList();
+        });
+
+        Set<NotificationSenderProvider> emailSenders = Set.of(mockBatchSender);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders));
+
+        var requests = List.of(emailRequest("a@example.com"), emailRequest("b@example.com"), emailRequest("c@example.com"));
+
+        // When
+        var results = useCase.sendBatch(requests);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals("msg-a@example.com", results.get(0).getProviderMessageId());
+        assertEquals("msg-b@example.com", results.get(1).getProviderMessageId());
+        assertEquals("msg-c@example.com", results.get(2).getProviderMessageId());
+        verify(mockBatchSender, times(2)).sendBatch(anyList());
+        verify(mockBatchSender, never()).send(any());
+    }
+
+    @Test
+    void shouldFallbackPerMessageForFailedBatchEntries() {
+        // Given
+        when(mockBatchSender.getMaxBatchSize()).thenReturn(10);
+        when(mockBatchSender.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<Notification> chunk = invocation.getArgument(0);
+            return chunk.stream()
+                    .map(n -> n.getRecipient().startsWith("fail")
+                            ? NotificationResult.failure(n.getId(), NotificationChannel.EMAIL, "Batch", ErrorCode.UNKNOWN_ERROR, "boom")
+                            : NotificationResult.success(n.getId(), "batch", NotificationChannel.EMAIL, "Batch"))
+                    .toList();
+        });
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> {
+            Notification n = invocation.getArgument(0);
+            return NotificationResult.success(n.getId(), "single", NotificationChannel.EMAIL, "Single");
+        });
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockBatchSender);
+        emailSenders.add(mockSender1);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders));
+
+        var requests = List.of(emailRequest("ok@example.com"), emailRequest("fail@example.com"));
+
+        // When
+        var results = useCase.sendBatch(requests);
+
+        // Then
+        assertEquals("batch", results.get(0).getProviderMessageId());
+        assertEquals("single", results.get(1).getProviderMessageId());
+        verify(mockSender1, times(1)).send(any());
+    }
+
+    @Test
+    void shouldReturnChannelNotConfiguredForBatchEntriesWithoutSenders() {
+        // Given
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> {
+            Notification n = invocation.getArgument(0);
+            return NotificationResult.success(n.getId(), "msg", NotificationChannel.EMAIL, "Single");
+        });
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, Set.of(mockSender1)));
+
+        var smsRequest = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("Hello")
+                .build();
+
+        // When
+        var results = useCase.sendBatch(List.of(smsRequest, emailRequest("a@example.com")));
+
+        // Then
+        assertEquals(ErrorCode.CHANNEL_NOT_CONFIGURED, results.get(0).getErrorCode());
+        assertTrue(results.get(1).isSuccess());
+    }
+
+    @Test
+    void shouldCompleteSubmitWithResultOfAsyncProvider() {
+        // Given
+        var successResult = NotificationResult.success("notif-123", "msg-async", NotificationChannel.EMAIL, "Async");
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(CompletableFuture.completedFuture(successResult));
+
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, Set.of(mockAsyncSender)));
+
+        // When
+        var result = useCase.submit(emailRequest("test@example.com"), Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("msg-async", result.getProviderMessageId());
+        verify(mockAsyncSender, never()).send(any());
+    }
+
+    @Test
+    void shouldChainFallbackWhenAsyncProviderFailsExceptionally() {
+        // Given
+        var successResult = NotificationResult.success("notif-123", "msg-fallback", NotificationChannel.EMAIL, "Fallback");
+        when(mockAsyncSender.getProviderName()).thenReturn("Async");
+        when(mockAsyncSender.sendAsync(any(Notification.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+        when(mockSender1.send(any(Notification.class))).thenReturn(successResult);
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockAsyncSender);
+        emailSenders.add(mockSender1);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders));
+
+        // When
+        var result = useCase.submit(emailRequest("test@example.com"), Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("msg-fallback", result.getProviderMessageId());
+    }
+
+    @Test
+    void shouldFallBackWhenAsyncProviderThrowsInsteadOfReturningAStage() {
+        // Given
+        var successResult = NotificationResult.success("notif-123", "msg-fallback", NotificationChannel.EMAIL, "Fallback");
+        when(mockAsyncSender.getProviderName()).thenReturn("Async");
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenThrow(new IllegalStateException("connection refused"));
+        when(mockSender1.send(any(Notification.class))).thenReturn(successResult);
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockAsyncSender);
+        emailSenders.add(mockSender1);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders));
+
+        // When
+        var result = useCase.submit(emailRequest("test@example.com"), Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("msg-fallback", result.getProviderMessageId());
+    }
+
+    @Test
+    void shouldRecordTheOutcomeWhenASyncProviderThrows() {
+        // Given
+        when(mockSender1.getProviderName()).thenReturn("Primary");
+        when(mockSender1.send(any(Notification.class))).thenThrow(new IllegalStateException("connection refused"));
+        var metrics = new InMemoryNotificationMetrics();
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, Set.of(mockSender1)))
+                .metrics(metrics)
+                .build();
+
+        // When
+        var result = useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(1, metrics.getFailureCount(NotificationChannel.EMAIL, result.getErrorCode()));
+        assertEquals(1, metrics.getProviderFailureCount(NotificationChannel.EMAIL, "Primary", ErrorCode.UNKNOWN_ERROR));
+    }
+
+    @Test
+    void shouldCompleteSubmitWithFailureWhenAllAsyncSendersFail() {
+        // Given
+        var failure = NotificationResult.failure("notif-123", NotificationChannel.EMAIL, "Async", ErrorCode.UNKNOWN_ERROR, "down");
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(CompletableFuture.completedFuture(failure));
+
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, Set.of(mockAsyncSender)));
+
+        // When
+        var result = useCase.submit(emailRequest("test@example.com"), Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(ErrorCode.PROVIDER_NOT_FOUND, result.getErrorCode());
+    }
+
+    @Test
+    void shouldDropExpiredNotificationWithoutCallingProviders() {
+        // Given
+        var createdAt = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        var clock = Clock.fixed(Instant.parse("2024-01-01T10:01:00Z"), ZoneOffset.UTC);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.SMS, Set.of(mockValidableSender)), clock);
+
+        var notification = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("OTP 1234")
+                .createdAt(createdAt)
+                .ttlSeconds(30)
+                .build();
+
+        // When
+        var result = useCase.deliver(notification);
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(ErrorCode.EXPIRED, result.getErrorCode());
+        verify((ValidableSender) mockValidableSender, never()).validate(any());
+        verify(mockValidableSender, never()).send(any());
+        assertEquals(1, useCase.getExpiredCount(NotificationChannel.SMS));
+        assertEquals(0, useCase.getExpiredCount(NotificationChannel.EMAIL));
+    }
+
+    @Test
+    void shouldStopFallbackOnceNotificationExpires() {
+        // Given
+        var createdAt = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        var clock = new Clock() {
+            private Instant now = Instant.parse("2024-01-01T10:00:10Z");
+
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> {
+            clock.now = Instant.parse("2024-01-01T10:05:00Z");
+            return NotificationResult.failure("id", NotificationChannel.EMAIL, "Mock1", ErrorCode.UNKNOWN_ERROR, "timeout");
+        });
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockSender1);
+        emailSenders.add(mockSender2);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders), clock);
+
+        var notification = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("test@example.com")
+                .body("Hello")
+                .createdAt(createdAt)
+                .ttlSeconds(60)
+                .build();
+
+        // When
+        var result = useCase.deliver(notification);
+
+        // Then
+        assertEquals(ErrorCode.EXPIRED, result.getErrorCode());
+        verify(mockSender2, never()).send(any());
+    }
+
+    @Test
+    void shouldNotFallBackWhenProviderReportsExpired() {
+        // Given
+        when(mockSender1.send(any(Notification.class))).thenReturn(
+                NotificationResult.failure("id", NotificationChannel.EMAIL, "Mock1", ErrorCode.EXPIRED, "expired before retry"));
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockSender1);
+        emailSenders.add(mockSender2);
+        useCase = new SendNotificationUseCase(Map.of(NotificationChannel.EMAIL, emailSenders));
+
+        // When
+        var result = useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        assertEquals(ErrorCode.EXPIRED, result.getErrorCode());
+        verify(mockSender2, never()).send(any());
+        assertEquals(1, useCase.getExpiredCount(NotificationChannel.EMAIL));
+    }
+
+    @Test
+    void shouldHedgeToNextProviderWhenPrimaryIsSlow() {
+        // Given
+        var slow = new CompletableFuture<NotificationResult>();
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(slow);
+        when(mockSender2.send(any(Notification.class))).thenReturn(
+                NotificationResult.success("id", "msg-2", NotificationChannel.SMS, "Mock2"));
+
+        Set<NotificationSenderProvider> smsSenders = new LinkedHashSet<>();
+        smsSenders.add(mockAsyncSender);
+        smsSenders.add(mockSender2);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, smsSenders))
+                .hedging(Map.of(NotificationChannel.SMS, HedgingPolicy.builder().initialDelay(Duration.ofMillis(20)).build()))
+                .build();
+
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("OTP 1234")
+                .build();
+
+        // When
+        var result = useCase.send(request);
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("Mock2", result.getProviderName());
+        assertTrue(slow.isCancelled());
+        assertEquals(1, useCase.getHedgeCount(NotificationChannel.SMS));
+        var primary = ArgumentCaptor.forClass(Notification.class);
+        var hedge = ArgumentCaptor.forClass(Notification.class);
+        verify(mockAsyncSender).sendAsync(primary.capture());
+        verify(mockSender2).send(hedge.capture());
+        assertEquals(primary.getValue().getId(), primary.getValue().getIdempotencyKey());
+        assertEquals(primary.getValue().getIdempotencyKey(), hedge.getValue().getIdempotencyKey());
+    }
+
+    @Test
+    void shouldReleaseCancelledHedgeLoserWithoutCountingItAsAFailure() {
+        // Given
+        var slow = new CompletableFuture<NotificationResult>();
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(slow);
+        when(mockAsyncSender.getProviderName()).thenReturn("Async");
+        when(mockSender2.send(any(Notification.class))).thenReturn(
+                NotificationResult.success("id", "msg-2", NotificationChannel.SMS, "Mock2"));
+        var routing = new LeastOutstandingRouting();
+        var metrics = new InMemoryNotificationMetrics();
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, new LinkedHashSet<>(List.of(mockAsyncSender, mockSender2))))
+                .hedging(Map.of(NotificationChannel.SMS, HedgingPolicy.builder().initialDelay(Duration.ofMillis(20)).build()))
+                .routing(Map.of(NotificationChannel.SMS, routing))
+                .metrics(metrics)
+                .build();
+
+        // When
+        var result = useCase.send(SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("OTP 1234")
+                .build());
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertTrue(slow.isCancelled());
+        assertEquals(0, routing.getOutstanding(mockAsyncSender));
+        assertEquals(0, metrics.getProviderFailureCount(NotificationChannel.SMS, "Async", ErrorCode.UNKNOWN_ERROR));
+        assertFalse(metrics.getProviders(NotificationChannel.SMS).contains("Async"));
+    }
+
+    @Test
+    void shouldNotHedgeWhenHedgeBudgetIsExhausted() {
+        // Given
+        var slow = new CompletableFuture<NotificationResult>();
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(slow);
+
+        Set<NotificationSenderProvider> smsSenders = new LinkedHashSet<>();
+        smsSenders.add(mockAsyncSender);
+        smsSenders.add(mockSender2);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, smsSenders))
+                .hedging(Map.of(NotificationChannel.SMS, HedgingPolicy.builder()
+                        .initialDelay(Duration.ofMillis(5))
+                        .maxHedgeRatio(0)
+                        .hedgeBurst(0)
+                        .build()))
+                .build();
+
+        var notification = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .body("OTP 1234")
+                .build();
+
+        // When
+        var future = useCase.deliverAsync(notification, Runnable::run).toCompletableFuture();
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() ->
+                slow.complete(NotificationResult.success("id", "msg-1", NotificationChannel.SMS, "Async")));
+        var result = future.join();
+
+        // Then
+        assertEquals("Async", result.getProviderName());
+        verify(mockSender2, never()).send(any());
+        assertEquals(0, useCase.getHedgeCount(NotificationChannel.SMS));
+    }
+
+    @Test
+    void shouldFallBackImmediatelyWhenHedgedPrimaryFails() {
+        // Given
+        when(mockSender1.send(any(Notification.class))).thenReturn(
+                NotificationResult.failure("id", NotificationChannel.PUSH, "Mock1", ErrorCode.UNKNOWN_ERROR, "down"));
+        when(mockSender2.send(any(Notification.class))).thenReturn(
+                NotificationResult.success("id", "msg-2", NotificationChannel.PUSH, "Mock2"));
+
+        Set<NotificationSenderProvider> pushSenders = new LinkedHashSet<>();
+        pushSenders.add(mockSender1);
+        pushSenders.add(mockSender2);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.PUSH, pushSenders))
+                .hedging(Map.of(NotificationChannel.PUSH, HedgingPolicy.builder().initialDelay(Duration.ofSeconds(10)).build()))
+                .build();
+
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token")
+                .body("Hello")
+                .build();
+
+        // When
+        var result = useCase.send(request);
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("Mock2", result.getProviderName());
+        assertEquals(0, useCase.getHedgeCount(NotificationChannel.PUSH));
+    }
+
+    @Test
+    void shouldTryProviderChosenByRoutingStrategyFirst() {
+        // Given
+        when(mockSender2.send(any(Notification.class))).thenReturn(
+                NotificationResult.success("id", "msg-2", NotificationChannel.EMAIL, "Mock2"));
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockSender1);
+        emailSenders.add(mockSender2);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, emailSenders))
+                .routing(Map.of(NotificationChannel.EMAIL, providers -> 1))
+                .build();
+
+        // When
+        var result = useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("Mock2", result.getProviderName());
+        verify(mockSender1, never()).send(any());
+    }
+
+    @Test
+    void shouldRenderTemplateOnlyAfterProviderAcceptsAndReuseItOnFallback() {
+        // Given
+        var repository = spy(new InMemoryTemplateRepository()
+                .save(new NotificationTemplate("welcome", 1, "Hola {{name}}", "Bienvenido {{name}}")));
+        ValidableSender validator = (ValidableSender) mockValidableSender;
+        when(validator.validate(any(Notification.class))).thenReturn(List.of(ValidableSender.ValidationError.of("recipient", "Invalid")));
+        when(mockSender1.send(any(Notification.class))).thenReturn(
+                NotificationResult.failure("id", NotificationChannel.EMAIL, "Mock1", ErrorCode.UNKNOWN_ERROR, "down"));
+        when(mockSender2.send(any(Notification.class))).thenReturn(
+                NotificationResult.success("id", "msg-2", NotificationChannel.EMAIL, "Mock2"));
+
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockValidableSender);
+        emailSenders.add(mockSender1);
+        emailSenders.add(mockSender2);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, emailSenders))
+                .templateRenderer(TemplateRenderer.factory().repository(repository).build())
+                .build();
+
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("test@example.com")
+                .templateId("welcome")
+                .templateVariables(Map.of("name", "Ana"))
+                .build();
+
+        // When
+        var result = useCase.send(request);
+
+        // Then
+        assertTrue(result.isSuccess());
+        verify(repository, times(1)).findById("welcome");
+        var validated = ArgumentCaptor.forClass(Notification.class);
+        verify(validator).validate(validated.capture());
+        assertNull(validated.getValue().getBody());
+        var sent = ArgumentCaptor.forClass(Notification.class);
+        verify(mockSender2).send(sent.capture());
+        assertEquals("Bienvenido Ana", sent.getValue().getBody());
+        assertEquals("Hola Ana", sent.getValue().getSubject());
+    }
+
+    @Test
+    void shouldRejectRenderedSmsOverTheProviderLengthLimit() {
+        // Given
+        var repository = new InMemoryTemplateRepository()
+                .save(new NotificationTemplate("digest", 1, null, "{{text}}"));
+        var provider = MockSmsSenderProvider.factory().build();
+        var metrics = new InMemoryNotificationMetrics();
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, new LinkedHashSet<>(List.of(provider))))
+                .templateRenderer(TemplateRenderer.factory().repository(repository).build())
+                .metrics(metrics)
+                .build();
+
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+1234567890")
+                .templateId("digest")
+                .templateVariables(Map.of("text", "x".repeat(1601)))
+                .build();
+
+        // When
+        var result = useCase.send(request);
+        var asyncResult = useCase.submit(request, Runnable::run).toCompletableFuture().join();
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertFalse(asyncResult.isSuccess());
+        assertEquals(2, metrics.getValidationRejectionCount(NotificationChannel.SMS, provider.getProviderName()));
+        assertEquals(0, metrics.getProviderLatency(NotificationChannel.SMS, provider.getProviderName()).count());
+    }
+
+    @Test
+    void shouldFailWithTemplateErrorWhenTemplateIsMissing() {
+        // Given
+        Set<NotificationSenderProvider> emailSenders = new LinkedHashSet<>();
+        emailSenders.add(mockSender1);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, emailSenders))
+                .templateRenderer(TemplateRenderer.factory().repository(new InMemoryTemplateRepository()).build())
+                .build();
+
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("test@example.com")
+                .templateId("missing")
+                .build();
+
+        // When
+        var result = useCase.send(request);
+
+        // Then
+        assertEquals(ErrorCode.TEMPLATE_ERROR, result.getErrorCode());
+        verify(mockSender1, never()).send(any());
+    }
+
+    @Test
+    void shouldReturnRecordedResultForRepeatedIdempotencyKey() {
+        // Given
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.success(
+                invocation.<Notification>getArgument(0).getId(), "msg-1", NotificationChannel.SMS, "Mock1"));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockSender1)))
+                .idempotency(new LocalIdempotencyStore(100, Duration.ofMinutes(1)))
+                .build();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 1234")
+                .idempotencyKey("otp-42")
+                .build();
+
+        // When
+        var first = useCase.send(request);
+        var retry = useCase.send(request);
+
+        // Then
+        verify(mockSender1, times(1)).send(any());
+        assertTrue(retry.isSuccess());
+        assertEquals("msg-1", retry.getProviderMessageId());
+        assertNotEquals(first.getNotificationId(), retry.getNotificationId());
+        assertEquals(first.getNotificationId(), retry.getProviderResponse().get("originalNotificationId"));
+        assertEquals(1, useCase.getDuplicateCount());
+    }
+
+    @Test
+    void shouldReadIdempotencyKeyFromMetadataAndRetryAfterFailure() {
+        // Given
+        when(mockSender1.send(any(Notification.class)))
+                .thenReturn(NotificationResult.failure("id", NotificationChannel.SMS, "Mock1", ErrorCode.UNKNOWN_ERROR, "down"))
+                .thenReturn(NotificationResult.success("id", "msg-2", NotificationChannel.SMS, "Mock1"));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockSender1)))
+                .idempotency(new LocalIdempotencyStore(100, Duration.ofMinutes(1)))
+                .build();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 1234")
+                .metadata(Map.of(SendNotificationUseCase.IDEMPOTENCY_KEY_METADATA, "otp-43"))
+                .build();
+
+        // When
+        var failed = useCase.send(request);
+        var retried = useCase.send(request);
+        var duplicate = useCase.send(request);
+
+        // Then
+        assertFalse(failed.isSuccess());
+        assertEquals("msg-2", retried.getProviderMessageId());
+        assertEquals("DUPLICATE", duplicate.getProviderResponse().get("status"));
+        verify(mockSender1, times(2)).send(any());
+    }
+
+    @Test
+    void shouldClaimTheKeyBeforeSendingAndReleaseItWhenTheSendFails() {
+        // Given
+        var store = spy(new LocalIdempotencyStore(100, Duration.ofMinutes(1)));
+        when(mockSender1.send(any(Notification.class)))
+                .thenReturn(NotificationResult.failure("id", NotificationChannel.SMS, "Mock1", ErrorCode.UNKNOWN_ERROR, "down"))
+                .thenReturn(NotificationResult.success("id", "msg-2", NotificationChannel.SMS, "Mock1"));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockSender1)))
+                .idempotency(store)
+                .build();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 1234")
+                .idempotencyKey("otp-46")
+                .build();
+
+        // When
+        useCase.send(request);
+        useCase.send(request);
+
+        // Then
+        var order = inOrder(store, mockSender1);
+        order.verify(store).claim("SMS:otp-46");
+        order.verify(mockSender1).send(any());
+        order.verify(store).release("SMS:otp-46");
+        order.verify(store).claim("SMS:otp-46");
+        order.verify(mockSender1).send(any());
+        order.verify(store).save(eq("SMS:otp-46"), any());
+    }
+
+    @Test
+    void shouldSendAgainWhenTheInFlightSendItWaitedOnFails() {
+        // Given
+        var first = new CompletableFuture<NotificationResult>();
+        when(mockAsyncSender.sendAsync(any(Notification.class)))
+                .thenReturn(first)
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(NotificationResult.success(
+                        invocation.<Notification>getArgument(0).getId(), "msg-2", NotificationChannel.SMS, "Async")));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockAsyncSender)))
+                .idempotency(new LocalIdempotencyStore(100, Duration.ofMinutes(1)))
+                .build();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 1234")
+                .idempotencyKey("otp-44")
+                .build();
+
+        // When
+        var original = useCase.submit(request, Runnable::run).toCompletableFuture();
+        var waiter = useCase.submit(request, Runnable::run).toCompletableFuture();
+        first.complete(NotificationResult.failure("id", NotificationChannel.SMS, "Async", ErrorCode.UNKNOWN_ERROR, "down"));
+
+        // Then
+        assertFalse(original.join().isSuccess());
+        assertTrue(waiter.join().isSuccess());
+        assertEquals("msg-2", waiter.join().getProviderMessageId());
+        assertNull(waiter.join().getProviderResponse());
+        assertEquals(0, useCase.getDuplicateCount());
+    }
+
+    @Test
+    void shouldWaitForKeysInFlightOutsideTheBatch() throws Exception {
+        // Given
+        var first = new CompletableFuture<NotificationResult>();
+        when(mockAsyncSender.sendAsync(any(Notification.class))).thenReturn(first);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockAsyncSender)))
+                .idempotency(new LocalIdempotencyStore(100, Duration.ofMinutes(1)))
+                .build();
+        var request = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("OTP 1234")
+                .idempotencyKey("otp-45")
+                .build();
+        var original = useCase.submit(request, Runnable::run).toCompletableFuture();
+
+        // When
+        var batch = CompletableFuture.supplyAsync(() -> useCase.sendBatch(List.of(request)));
+        Thread.sleep(50);
+        first.complete(NotificationResult.success("id", "msg-1", NotificationChannel.SMS, "Async"));
+
+        // Then
+        var results = batch.get(5, TimeUnit.SECONDS);
+        assertTrue(original.join().isSuccess());
+        assertEquals("msg-1", results.get(0).getProviderMessageId());
+        assertEquals("DUPLICATE", results.get(0).getProviderResponse().get("status"));
+        verify(mockAsyncSender, times(1)).sendAsync(any());
+        verify(mockAsyncSender, never()).send(any());
+    }
+
+    @Test
+    void shouldSendRepeatedKeysOnceWithinBatch() {
+        // Given
+        when(mockBatchSender.getMaxBatchSize()).thenReturn(10);
+        when(mockBatchSender.sendBatch(anyList())).thenAnswer(invocation -> invocation.<List<Notification>>getArgument(0)
+                .stream()
+                .map(n -> NotificationResult.success(n.getId(), "msg-" + n.getRecipient(), NotificationChannel.SMS, "Batch"))
+                .toList());
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.SMS, Set.of(mockBatchSender)))
+                .idempotency(new LocalIdempotencyStore(100, Duration.ofMinutes(1)))
+                .build();
+        var keyed = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS).recipient("+56911111111").body("Hi").idempotencyKey("k-1").build();
+        var other = SendNotificationRequest.builder()
+                .channel(NotificationChannel.SMS).recipient("+56922222222").body("Hi").build();
+
+        // When
+        var results = useCase.sendBatch(List.of(keyed, other, keyed));
+        var later = useCase.sendBatch(List.of(keyed));
+
+        // Then
+        verify(mockBatchSender, times(1)).sendBatch(anyList());
+        assertEquals(3, results.size());
+        assertEquals("msg-+56911111111", results.get(2).getProviderMessageId());
+        assertEquals("DUPLICATE", results.get(2).getProviderResponse().get("status"));
+        assertEquals("msg-+56911111111", later.get(0).getProviderMessageId());
+    }
+
+    @Test
+    void shouldReportValidationRejectionsProviderCallsAndFallbackDepth() {
+        // Given
+        ValidableSender validator = (ValidableSender) mockValidableSender;
+        when(validator.validate(any(Notification.class)))
+                .thenReturn(List.of(ValidableSender.ValidationError.of("recipient", "Invalid email")));
+        when(mockValidableSender.getProviderName()).thenReturn("Validating");
+        when(mockSender1.getProviderName()).thenReturn("Primary");
+        when(mockSender2.getProviderName()).thenReturn("Secondary");
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.failure(
+                invocation.<Notification>getArgument(0).getId(), NotificationChannel.EMAIL, "Primary",
+                ErrorCode.UNKNOWN_ERROR, "down"));
+        when(mockSender2.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.success(
+                invocation.<Notification>getArgument(0).getId(), "msg", NotificationChannel.EMAIL, "Secondary"));
+        var metrics = new InMemoryNotificationMetrics();
+        var emailSenders = new LinkedHashSet<NotificationSenderProvider>(List.of(mockValidableSender, mockSender1, mockSender2));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, emailSenders))
+                .metrics(metrics)
+                .build();
+
+        // When
+        var result = useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(1, metrics.getSendCount(NotificationChannel.EMAIL));
+        assertEquals(1, metrics.getSuccessCount(NotificationChannel.EMAIL));
+        assertEquals(1, metrics.getFallbackDepthCount(NotificationChannel.EMAIL, 2));
+        assertEquals(1, metrics.getValidationRejectionCount(NotificationChannel.EMAIL, "Validating"));
+        assertEquals(1, metrics.getProviderFailureCount(NotificationChannel.EMAIL, "Primary", ErrorCode.UNKNOWN_ERROR));
+        assertEquals(1, metrics.getProviderLatency(NotificationChannel.EMAIL, "Primary").count());
+        assertEquals(1, metrics.getProviderLatency(NotificationChannel.EMAIL, "Secondary").count());
+    }
+
+    @Test
+    void shouldTraceValidationAndEveryProviderAttemptOfASampledSend() {
+        // Given
+        ValidableSender validator = (ValidableSender) mockValidableSender;
+        when(validator.validate(any(Notification.class)))
+                .thenReturn(List.of(ValidableSender.ValidationError.of("recipient", "Invalid email")));
+        when(mockValidableSender.getProviderName()).thenReturn("Validating");
+        when(mockSender1.getProviderName()).thenReturn("Primary");
+        when(mockSender2.getProviderName()).thenReturn("Secondary");
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.failure(
+                invocation.<Notification>getArgument(0).getId(), NotificationChannel.EMAIL, "Primary",
+                ErrorCode.UNKNOWN_ERROR, "down"));
+        when(mockSender2.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.success(
+                invocation.<Notification>getArgument(0).getId(), "msg", NotificationChannel.EMAIL, "Secondary"));
+        var sink = new RingBufferTraceSink(16);
+        var emailSenders = new LinkedHashSet<NotificationSenderProvider>(List.of(mockValidableSender, mockSender1, mockSender2));
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, emailSenders))
+                .tracer(NotificationTracer.factory().sampleRate(1.0).sink(sink).build())
+                .build();
+
+        // When
+        var result = useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        var trace = sink.find(result.getNotificationId()).orElseThrow();
+        assertTrue(trace.isSuccess());
+        var spans = trace.getSpans();
+        assertEquals(3, spans.size());
+        assertEquals(SendTrace.Phase.VALIDATION, spans.get(0).phase());
+        assertEquals(ErrorCode.VALIDATION_ERROR, spans.get(0).errorCode());
+        assertEquals("Primary", spans.get(1).provider());
+        assertEquals(ErrorCode.UNKNOWN_ERROR, spans.get(1).errorCode());
+        assertEquals("Secondary", spans.get(2).provider());
+        assertEquals(SendTrace.Phase.PROVIDER, spans.get(2).phase());
+        assertNull(spans.get(2).errorCode());
+        assertTrue(spans.get(2).offsetNanos() >= spans.get(1).offsetNanos());
+    }
+
+    @Test
+    void shouldNotAttachATraceWhenSampledOut() {
+        // Given
+        when(mockSender1.send(any(Notification.class))).thenAnswer(invocation -> NotificationResult.success(
+                invocation.<Notification>getArgument(0).getId(), "msg", NotificationChannel.EMAIL, "Primary"));
+        var sink = new RingBufferTraceSink(16);
+        useCase = SendNotificationUseCase.factory()
+                .senders(Map.of(NotificationChannel.EMAIL, Set.of(mockSender1)))
+                .tracer(NotificationTracer.factory().sampleRate(0.0).sink(sink).build())
+                .build();
+
+        // When
+        useCase.send(emailRequest("test@example.com"));
+
+        // Then
+        var captor = ArgumentCaptor.forClass(Notification.class);
+        verify(mockSender1).send(captor.capture());
+        assertNull(captor.getValue().getTrace());
+        assertEquals(0, sink.getExportedCount());
+    }
+
+    private SendNotificationRequest emailRequest(String recipient) {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient(recipient)
+                .subject("Test")
+                .body("Hello")
+                .build();
+    }
 }
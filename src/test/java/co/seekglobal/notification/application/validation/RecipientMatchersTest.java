@@ -0,0 +1,37 @@
+package co.seekglobal.notification.application.validation;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipientMatchersTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[1-9]\\d{6,14}$");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test@example.com", "a.b+c%d_e-f@sub.domain.co", "x@y.zz", "@example.com", "test@",
+            "test@example", "test@example.c", "test@.com", "test@@example.com", "te st@example.com", "test@exa_mple.com",
+            "test@example.c0m", "test@example..com", "test@-.io", "ñandu@example.com", "test@example.com.", "a@b.c.de"})
+    void email_shouldMatchSameLanguageAsRegex(String recipient) {
+        // When
+        var matches = RecipientMatchers.EMAIL.matches(recipient);
+
+        // Then
+        assertEquals(EMAIL_PATTERN.matcher(recipient).matches(), matches, recipient);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"+1234567890", "1234567", "123456", "+123456", "+123456789012345", "+1234567890123456",
+            "0123456789", "+0123456789", "++1234567", "+1234a67890", "12345678901234 ", "+", "1"})
+    void phone_shouldMatchSameLanguageAsRegex(String recipient) {
+        // When
+        var matches = RecipientMatchers.PHONE.matches(recipient);
+
+        // Then
+        assertEquals(PHONE_PATTERN.matcher(recipient).matches(), matches, recipient);
+    }
+}
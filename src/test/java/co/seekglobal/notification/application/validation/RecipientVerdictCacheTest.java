@@ -0,0 +1,110 @@
+package co.seekglobal.notification.application.validation;
+
+import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.domain.Notification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipientVerdictCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final RecipientMatcher matcher = recipient -> {
+        calls.incrementAndGet();
+        return RecipientMatchers.EMAIL.matches(recipient);
+    };
+
+    @Test
+    void matches_shouldServeRepeatedRecipientsFromCache() {
+        // Given
+        var cache = new RecipientVerdictCache(100, Duration.ofMinutes(1));
+
+        // When
+        var first = cache.matches(matcher, new String("test@example.com"));
+        var second = cache.matches(matcher, new String("test@example.com"));
+        var invalid = cache.matches(matcher, "not-an-email");
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(invalid);
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void matches_shouldRevalidateAfterTtl() {
+        // Given
+        var now = new AtomicLong();
+        var cache = new RecipientVerdictCache(100, Duration.ofSeconds(10), now::get);
+        cache.matches(matcher, "test@example.com");
+
+        // When
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.matches(matcher, "test@example.com");
+
+        // Then
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void matches_shouldStayBoundedBySize() {
+        // Given
+        var cache = new RecipientVerdictCache(100, Duration.ofMinutes(1));
+
+        // When
+        for (var i = 0; i < 1_000; i++) {
+            cache.matches(matcher, "user" + i + "@example.com");
+        }
+
+        // Then
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictionCount() >= 900);
+    }
+
+    @Test
+    void matches_shouldKeepRecentlyUsedRecipientsWhenFull() {
+        // Given
+        var cache = new RecipientVerdictCache(1_000, Duration.ofMinutes(1));
+        cache.matches(matcher, "hot@example.com");
+
+        // When
+        for (var i = 0; i < 5_000; i++) {
+            cache.matches(matcher, "user" + i + "@example.com");
+            cache.matches(matcher, "hot@example.com");
+        }
+
+        // Then
+        assertEquals(5_000, cache.getHitCount());
+        assertEquals(5_001, calls.get());
+        assertTrue(cache.size() <= 1_000);
+    }
+
+    @Test
+    void validate_shouldShareVerdictsAcrossRuleSetsUsingSameCacheAndMatcher() {
+        // Given
+        var cache = new RecipientVerdictCache(100, Duration.ofMinutes(1));
+        var primary = ValidationRules.builder()
+                .recipient(matcher, "required", recipient -> ValidationError.of("recipient", "invalid"))
+                .verdictCache(cache)
+                .build();
+        var fallback = ValidationRules.builder()
+                .recipient(matcher, "required", recipient -> ValidationError.of("recipient", "invalid"))
+                .verdictCache(cache)
+                .build();
+
+        // When
+        primary.validate(Notification.builder().recipient(new String("test@example.com")).build());
+        fallback.validate(Notification.builder().recipient(new String("test@example.com")).build());
+
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHitCount());
+    }
+}
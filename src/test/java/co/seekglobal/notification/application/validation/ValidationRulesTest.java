@@ -0,0 +1,76 @@
+package co.seekglobal.notification.application.validation;
+
+import co.seekglobal.notification.application.outbound.ValidableSender.ValidationError;
+import co.seekglobal.notification.domain.Notification;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationRulesTest {
+
+    @Test
+    void validate_shouldReturnSharedEmptyListWhenNotificationPasses() {
+        // Given
+        var rules = ValidationRules.builder()
+                .recipient(RecipientMatchers.EMAIL, "Email recipient is required",
+                        recipient -> ValidationError.of("recipient", "Invalid email"))
+                .bodyOrTemplate("Email body or template is required")
+                .build();
+        var notification = Notification.builder().recipient("test@example.com").body("Hello").build();
+
+        // When
+        var errors = rules.validate(notification);
+
+        // Then
+        assertSame(List.of(), errors);
+    }
+
+    @Test
+    void validate_shouldReportEveryViolationInDeclarationOrder() {
+        // Given
+        var tooLong = ValidationError.of("subject", "Title too long", "TITLE_TOO_LONG");
+        var rules = ValidationRules.builder()
+                .recipient(RecipientMatchers.PHONE, "Phone number is required",
+                        recipient -> ValidationError.of("recipient", "Invalid phone: " + recipient))
+                .bodyOrTemplate("Body or template is required")
+                .maxSubjectLength(5, tooLong)
+                .build();
+        var notification = Notification.builder().recipient("abc").subject("Too long title").build();
+
+        // When
+        var errors = rules.validate(notification);
+
+        // Then
+        assertEquals(3, errors.size());
+        assertEquals("Invalid phone: abc", errors.get(0).message());
+        assertEquals("Body or template is required", errors.get(1).message());
+        assertSame(tooLong, errors.get(2));
+    }
+
+    @Test
+    void validate_shouldMemoizeRecipientVerdictAcrossProvidersSharingMatcher() {
+        // Given
+        var calls = new AtomicInteger();
+        RecipientMatcher matcher = recipient -> {
+            calls.incrementAndGet();
+            return RecipientMatchers.EMAIL.matches(recipient);
+        };
+        var primary = ValidationRules.builder()
+                .recipient(matcher, "required", recipient -> ValidationError.of("recipient", "invalid"))
+                .build();
+        var fallback = ValidationRules.builder()
+                .recipient(matcher, "required", recipient -> ValidationError.of("recipient", "invalid"))
+                .build();
+        var notification = Notification.builder().recipient("test@example.com").body("Hello").build();
+
+        // When
+        primary.validate(notification);
+        fallback.validate(notification);
+
+        // Then
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,85 @@
+package co.seekglobal.notification.infrastructure.adapters.fake;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeSenderProviderTest {
+
+    private final Notification notification = Notification.builder()
+            .channel(NotificationChannel.SMS)
+            .recipient("+1234567890")
+            .body("Hello")
+            .build();
+
+    @Test
+    void send_shouldWaitForTheInjectedLatency() {
+        // Given
+        var provider = FakeSenderProvider.factory()
+                .channel(NotificationChannel.SMS)
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(20)))
+                .build();
+
+        // When
+        var start = System.nanoTime();
+        var result = provider.send(notification);
+        var elapsed = System.nanoTime() - start;
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("FAKE_SMS", result.getProviderName());
+        assertTrue(elapsed >= Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    void send_shouldThrottleOrFailAtTheConfiguredRates() {
+        // Given
+        var throttling = FakeSenderProvider.factory().channel(NotificationChannel.SMS).throttleRate(1.0).build();
+        var failing = FakeSenderProvider.factory().channel(NotificationChannel.SMS).failureRate(1.0).build();
+
+        // When
+        var throttled = throttling.send(notification);
+        var failed = failing.send(notification);
+
+        // Then
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, throttled.getErrorCode());
+        assertEquals(ErrorCode.UNKNOWN_ERROR, failed.getErrorCode());
+        assertEquals(1, throttling.getThrottleCount());
+        assertEquals(1, failing.getFailureCount());
+    }
+
+    @Test
+    void factory_shouldRejectRatesAddingUpToMoreThanOne() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> FakeSenderProvider.factory()
+                .channel(NotificationChannel.SMS)
+                .failureRate(0.6)
+                .throttleRate(0.6)
+                .build());
+    }
+
+    @Test
+    void logNormal_shouldMatchTheRequestedMedianAndP99() {
+        // Given
+        var distribution = LatencyDistribution.logNormal(Duration.ofMillis(20), Duration.ofMillis(200));
+        var random = new SplittableRandom(42);
+        var samples = new long[100_000];
+
+        // When
+        for (var i = 0; i < samples.length; i++) {
+            samples[i] = distribution.nextNanos(random);
+        }
+        Arrays.sort(samples);
+
+        // Then
+        assertEquals(20, samples[samples.length / 2] / 1e6, 1);
+        assertEquals(200, samples[(int) (samples.length * 0.99)] / 1e6, 15);
+    }
+}
@@ -0,0 +1,76 @@
+package co.seekglobal.notification.infrastructure.adapters.sms;
+
+import co.seekglobal.notification.domain.Notification;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmsContentTest {
+
+    @Test
+    void segments_shouldKeepShortGsmBodyInOneSegment() {
+        // Arrange
+        Notification notification = Notification.builder().body("a".repeat(160)).build();
+
+        // Act
+        var segments = notification.rendered(SmsContent.SEGMENTS);
+
+        // Assert
+        assertEquals(1, segments.size());
+    }
+
+    @Test
+    void segments_shouldSplitLongGsmBodyInto153UnitParts() {
+        // Arrange
+        Notification notification = Notification.builder().body("a".repeat(161)).build();
+
+        // Act
+        var segments = notification.rendered(SmsContent.SEGMENTS);
+
+        // Assert
+        assertEquals(2, segments.size());
+        assertEquals(153, segments.get(0).length());
+        assertEquals(8, segments.get(1).length());
+    }
+
+    @Test
+    void segments_shouldCountExtensionCharactersTwiceWithoutSplittingThem() {
+        // Arrange
+        Notification notification = Notification.builder().body("a".repeat(152) + "€" + "b".repeat(10)).build();
+
+        // Act
+        var segments = notification.rendered(SmsContent.SEGMENTS);
+
+        // Assert
+        assertEquals(2, segments.size());
+        assertEquals("a".repeat(152), segments.get(0));
+        assertTrue(segments.get(1).startsWith("€"));
+    }
+
+    @Test
+    void segments_shouldUseUcs2LimitsForNonGsmCharacters() {
+        // Arrange
+        Notification notification = Notification.builder().body("Código 😀 " + "x".repeat(70)).build();
+
+        // Act
+        var segments = notification.rendered(SmsContent.SEGMENTS);
+
+        // Assert
+        assertEquals(2, segments.size());
+        assertEquals(67, segments.get(0).length());
+        assertEquals(String.join("", segments), notification.getBody());
+    }
+
+    @Test
+    void rendered_shouldComputeSegmentsOncePerNotification() {
+        // Arrange
+        Notification notification = Notification.builder().body("Hello").build();
+
+        // Act
+        var first = notification.rendered(SmsContent.SEGMENTS);
+        var second = notification.rendered(SmsContent.SEGMENTS);
+
+        // Assert
+        assertSame(first, second);
+    }
+}
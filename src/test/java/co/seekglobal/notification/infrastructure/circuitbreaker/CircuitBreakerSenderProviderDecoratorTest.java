@@ -0,0 +1,128 @@
+package co.seekglobal.notification.infrastructure.circuitbreaker;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CircuitBreakerSenderProviderDecoratorTest {
+
+    @Mock
+    private NotificationSenderProvider delegate;
+
+    private final Notification notification = Notification.builder()
+            .channel(NotificationChannel.EMAIL)
+            .recipient("test@example.com")
+            .body("Hello")
+            .build();
+
+    private final CircuitBreakerSenderConfig config = CircuitBreakerSenderConfig.builder()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .waitDurationInOpenState(Duration.ofMillis(50))
+            .permittedCallsInHalfOpenState(1)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getProviderName()).thenReturn("EMAIL_PROVIDER_1");
+        when(delegate.getChannel()).thenReturn(NotificationChannel.EMAIL);
+    }
+
+    @Test
+    void send_shouldOpenAndSkipProviderAfterFailures() {
+        // Given
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.UNKNOWN_ERROR));
+        var decorator = CircuitBreakerSenderProviderDecorator.factory().delegate(delegate).config(config).build();
+
+        // When
+        for (var i = 0; i < 4; i++) {
+            decorator.send(notification);
+        }
+        var skipped = decorator.send(notification);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, decorator.getState());
+        assertEquals(ErrorCode.CIRCUIT_OPEN, skipped.getErrorCode());
+        verify(delegate, times(4)).send(notification);
+    }
+
+    @Test
+    void send_shouldIgnoreNonRecordedErrors() {
+        // Given
+        when(delegate.send(any(Notification.class)))
+                .thenReturn(failure(ErrorCode.VALIDATION_ERROR), failure(ErrorCode.VALIDATION_ERROR))
+                .thenReturn(failure(ErrorCode.RATE_LIMIT_EXCEEDED));
+        var decorator = CircuitBreakerSenderProviderDecorator.factory().delegate(delegate).config(config).build();
+
+        // When
+        for (var i = 0; i < 6; i++) {
+            decorator.send(notification);
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, decorator.getState());
+        verify(delegate, times(6)).send(notification);
+    }
+
+    @Test
+    void send_shouldCloseAfterSuccessfulProbe() throws InterruptedException {
+        // Given
+        when(delegate.send(any(Notification.class)))
+                .thenReturn(failure(ErrorCode.UNKNOWN_ERROR), failure(ErrorCode.UNKNOWN_ERROR),
+                        failure(ErrorCode.UNKNOWN_ERROR), failure(ErrorCode.UNKNOWN_ERROR))
+                .thenReturn(NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.EMAIL, "EMAIL_PROVIDER_1"));
+        var decorator = CircuitBreakerSenderProviderDecorator.factory().delegate(delegate).config(config).build();
+        for (var i = 0; i < 4; i++) {
+            decorator.send(notification);
+        }
+
+        // When
+        Thread.sleep(80);
+        var probe = decorator.send(notification);
+
+        // Then
+        assertTrue(probe.isSuccess());
+        assertEquals(CircuitBreaker.State.CLOSED, decorator.getState());
+    }
+
+    @Test
+    void sendAsync_shouldRecordExceptionsAsFailures() throws Exception {
+        // Given
+        when(delegate.send(any(Notification.class))).thenThrow(new RuntimeException("timeout"));
+        var decorator = CircuitBreakerSenderProviderDecorator.factory().delegate(delegate).config(config).build();
+
+        // When
+        for (var i = 0; i < 4; i++) {
+            decorator.sendAsync(notification).toCompletableFuture().handle((r, ex) -> r).get(5, TimeUnit.SECONDS);
+        }
+        var skipped = decorator.sendAsync(notification).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(ErrorCode.CIRCUIT_OPEN, skipped.getErrorCode());
+    }
+
+    private NotificationResult failure(ErrorCode errorCode) {
+        return NotificationResult.failure(notification.getId(), NotificationChannel.EMAIL, "EMAIL_PROVIDER_1", errorCode, "failed");
+    }
+}
@@ -0,0 +1,123 @@
+package co.seekglobal.notification.infrastructure.config;
+
+import co.seekglobal.notification.application.coalescing.CoalescingConfig;
+import co.seekglobal.notification.application.coalescing.NotificationCoalescer;
+import co.seekglobal.notification.application.dispatch.PriorityDispatchConfig;
+import co.seekglobal.notification.application.inbound.SendNotificationRequest;
+import co.seekglobal.notification.application.outbound.NotificationOutbox;
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.application.scheduling.SchedulerConfig;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeekNotificationTest {
+
+    @Mock
+    private NotificationSenderProvider provider;
+
+    @Mock
+    private NotificationOutbox outbox;
+
+    private SeekNotification seekNotification;
+
+    @AfterEach
+    void tearDown() {
+        if (seekNotification != null) {
+            seekNotification.close();
+        }
+    }
+
+    @Test
+    void shouldExposeTheSchedulerBehindTheOutbox() {
+        // Given
+        when(provider.getChannel()).thenReturn(NotificationChannel.PUSH);
+        when(outbox.pending()).thenReturn(List.of());
+        seekNotification = SeekNotificationBuilder.builder()
+                .provider(provider)
+                .scheduler(SchedulerConfig.builder().build())
+                .outbox(outbox)
+                .build();
+        var scheduled = seekNotification.send(request(OffsetDateTime.now().plusMinutes(5)));
+
+        // When
+        var pendingBeforeCancel = seekNotification.getPendingCount(NotificationChannel.PUSH);
+        var cancelled = seekNotification.cancel(scheduled.getNotificationId());
+
+        // Then
+        assertEquals("SCHEDULED", scheduled.getProviderResponse().get("status"));
+        assertEquals(1, pendingBeforeCancel);
+        assertTrue(cancelled);
+        assertEquals(0, seekNotification.getPendingCount());
+        verify(provider, never()).send(any());
+    }
+
+    @Test
+    void close_shouldSendBufferedNotificationsThroughTheInnerStages() {
+        // Given
+        when(provider.getChannel()).thenReturn(NotificationChannel.PUSH);
+        when(provider.getProviderName()).thenReturn("Push");
+        when(provider.send(any())).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            return NotificationResult.success(notification.getId(), "msg", NotificationChannel.PUSH, "Push");
+        });
+        seekNotification = SeekNotificationBuilder.builder()
+                .provider(provider)
+                .coalescing(CoalescingConfig.builder().window(Duration.ofMinutes(1)).build())
+                .priorityDispatch(PriorityDispatchConfig.builder().build())
+                .build();
+        seekNotification.send(request(null));
+        var buffered = List.of(seekNotification.send(request(null)), seekNotification.send(request(null)));
+
+        // When
+        seekNotification.close();
+
+        // Then
+        assertTrue(buffered.stream().allMatch(result -> "COALESCED".equals(result.getProviderResponse().get("status"))));
+        var sent = ArgumentCaptor.forClass(Notification.class);
+        verify(provider, times(2)).send(sent.capture());
+        assertEquals(2, sent.getAllValues().get(1).getMetadata().get(NotificationCoalescer.COALESCED_COUNT_METADATA));
+    }
+
+    @Test
+    void shouldReportNoSchedulerOrDispatcherWhenNotConfigured() {
+        // Given
+        when(provider.getChannel()).thenReturn(NotificationChannel.PUSH);
+        seekNotification = SeekNotificationBuilder.builder().provider(provider).build();
+
+        // When
+        var cancelled = seekNotification.cancel("unknown");
+
+        // Then
+        assertFalse(cancelled);
+        assertEquals(0, seekNotification.getPendingCount());
+        assertTrue(seekNotification.stats().isEmpty());
+    }
+
+    private SendNotificationRequest request(OffsetDateTime scheduledAt) {
+        return SendNotificationRequest.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token-123")
+                .body("Hello")
+                .scheduledAt(scheduledAt)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package co.seekglobal.notification.infrastructure.idempotency;
+
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalIdempotencyStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void find_shouldExpireEntriesAfterTtl() {
+        // Given
+        var store = new LocalIdempotencyStore(10, Duration.ofSeconds(1), now::get);
+        store.save("k", result("n-1"));
+
+        // When
+        var beforeExpiry = store.find("k");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        var afterExpiry = store.find("k");
+
+        // Then
+        assertEquals("n-1", beforeExpiry.getNotificationId());
+        assertNull(afterExpiry);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void save_shouldEvictDownToNinetyPercentWhenFull() {
+        // Given
+        var store = new LocalIdempotencyStore(10, Duration.ofMinutes(1), now::get);
+
+        // When
+        for (var i = 0; i <= 10; i++) {
+            store.save("k-" + i, result("n-" + i));
+        }
+
+        // Then
+        assertEquals(9, store.size());
+    }
+
+    @Test
+    void findAll_shouldReturnOnlyKnownKeys() {
+        var store = new LocalIdempotencyStore(10, Duration.ofMinutes(1), now::get);
+        store.save("a", result("n-a"));
+
+        var found = store.findAll(List.of("a", "b"));
+
+        assertEquals(1, found.size());
+        assertEquals("n-a", found.get("a").getNotificationId());
+    }
+
+    private static NotificationResult result(String notificationId) {
+        return NotificationResult.success(notificationId, "msg", NotificationChannel.SMS, "SMS_1");
+    }
+}
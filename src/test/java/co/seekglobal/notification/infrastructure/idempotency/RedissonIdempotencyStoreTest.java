@@ -0,0 +1,194 @@
+package co.seekglobal.notification.infrastructure.idempotency;
+
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.infrastructure.serialization.NotificationCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RBuckets;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedissonIdempotencyStoreTest {
+
+    private final IdempotencyConfig config = IdempotencyConfig.builder()
+            .flushInterval(Duration.ofHours(1))
+            .maxBatchSize(2)
+            .build();
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RBucket<Object> bucket;
+
+    @Mock
+    private RBuckets buckets;
+
+    @Mock
+    private RBatch batch;
+
+    @Mock
+    private RBucketAsync<Object> batchBucket;
+
+    @Test
+    void find_shouldDecodeRemoteResultAndServeRepeatsFromNearCache() {
+        // Given
+        var result = NotificationResult.success("n-1", "msg-1", NotificationChannel.SMS, "SMS_1");
+        when(redissonClient.getBucket(eq("seek:idempotency:k"), any())).thenReturn(bucket);
+        when(bucket.get()).thenReturn(NotificationCodec.encode(result));
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+
+        // When
+        var first = store.find("k");
+        var second = store.find("k");
+
+        // Then
+        assertEquals("msg-1", first.getProviderMessageId());
+        assertEquals("msg-1", second.getProviderMessageId());
+        verify(bucket, times(1)).get();
+    }
+
+    @Test
+    void find_shouldTreatRedisErrorsAsMisses() {
+        when(redissonClient.getBucket(anyString(), any())).thenReturn(bucket);
+        when(bucket.get()).thenThrow(new RedisException("down"));
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+
+        assertNull(store.find("k"));
+    }
+
+    @Test
+    void findAll_shouldFetchNearCacheMissesWithOneMultiGet() {
+        // Given
+        var cached = NotificationResult.success("n-1", "msg-1", NotificationChannel.SMS, "SMS_1");
+        var remote = NotificationResult.success("n-2", "msg-2", NotificationChannel.SMS, "SMS_1");
+        when(redissonClient.getBuckets(any(Codec.class))).thenReturn(buckets);
+        when(buckets.get("seek:idempotency:b", "seek:idempotency:c"))
+                .thenReturn(Map.of("seek:idempotency:b", NotificationCodec.encode(remote)));
+        when(redissonClient.createBatch(any())).thenReturn(batch);
+        when(batch.getBucket(anyString(), any())).thenReturn(batchBucket);
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+        store.save("a", cached);
+
+        // When
+        var found = store.findAll(List.of("a", "b", "c"));
+
+        // Then
+        assertEquals(2, found.size());
+        assertEquals("msg-1", found.get("a").getProviderMessageId());
+        assertEquals("msg-2", found.get("b").getProviderMessageId());
+        verify(buckets, times(1)).get(any(String[].class));
+    }
+
+    @Test
+    void flush_shouldWriteQueuedResultsInPipelinedBatches() {
+        // Given
+        when(redissonClient.createBatch(any())).thenReturn(batch);
+        when(batch.getBucket(anyString(), any())).thenReturn(batchBucket);
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+        store.save("a", NotificationResult.success("n-1", "msg-1", NotificationChannel.SMS, "SMS_1"));
+        verify(batch, never()).execute();
+
+        // When
+        store.save("b", NotificationResult.success("n-2", "msg-2", NotificationChannel.SMS, "SMS_1"));
+        store.save("c", NotificationResult.success("n-3", "msg-3", NotificationChannel.SMS, "SMS_1"));
+        store.close();
+
+        // Then
+        verify(batchBucket, times(3)).setAsync(any(), eq(config.getTtl()));
+        verify(batch, times(2)).execute();
+        verify(redissonClient, never()).getBucket(anyString(), any());
+    }
+
+    @Test
+    void claim_shouldSetTheKeyIfAbsentWithTheClaimTtl() {
+        // Given
+        when(redissonClient.getBucket(eq("seek:idempotency:k"), any())).thenReturn(bucket);
+        when(bucket.setIfAbsent(any(), eq(config.getClaimTtl()))).thenReturn(true);
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+
+        // When
+        var recorded = store.claim("k");
+
+        // Then
+        assertNull(recorded);
+        verify(bucket).setIfAbsent(any(), eq(config.getClaimTtl()));
+        verify(bucket, never()).get();
+    }
+
+    @Test
+    void claim_shouldWaitForTheResultOfAKeyClaimedElsewhere() {
+        // Given
+        var result = NotificationResult.success("n-1", "msg-1", NotificationChannel.SMS, "SMS_1");
+        when(redissonClient.getBucket(eq("seek:idempotency:k"), any())).thenReturn(bucket);
+        when(bucket.setIfAbsent(any(), any(Duration.class))).thenReturn(false);
+        when(bucket.get()).thenReturn(new byte[0], NotificationCodec.encode(result));
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+
+        // When
+        var recorded = store.claim("k");
+
+        // Then
+        assertEquals("msg-1", recorded.getProviderMessageId());
+        verify(bucket, times(2)).get();
+        assertEquals("msg-1", store.find("k").getProviderMessageId());
+    }
+
+    @Test
+    void release_shouldDeleteOnlyTheClaimMarkerInTheNextBatch() {
+        // Given
+        when(redissonClient.createBatch(any())).thenReturn(batch);
+        when(batch.getBucket(anyString(), any())).thenReturn(batchBucket);
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+
+        // When
+        store.release("k");
+        store.flush();
+
+        // Then
+        verify(batch).getBucket(eq("seek:idempotency:k"), any());
+        verify(batchBucket).compareAndSetAsync(any(), isNull());
+        verify(batchBucket, never()).setAsync(any(), any(Duration.class));
+    }
+
+    @Test
+    void save_shouldWriteRightAwayOnceClosed() {
+        // Given
+        when(redissonClient.createBatch(any())).thenReturn(batch);
+        when(batch.getBucket(anyString(), any())).thenReturn(batchBucket);
+        var store = RedissonIdempotencyStore.factory().redissonClient(redissonClient).config(config).build();
+        store.close();
+
+        // When
+        store.save("a", NotificationResult.success("n-1", "msg-1", NotificationChannel.SMS, "SMS_1"));
+
+        // Then
+        verify(batchBucket).setAsync(any(), eq(config.getTtl()));
+        verify(batch).execute();
+    }
+}
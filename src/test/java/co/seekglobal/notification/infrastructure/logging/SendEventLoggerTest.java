@@ -0,0 +1,62 @@
+package co.seekglobal.notification.infrastructure.logging;
+
+import co.seekglobal.notification.domain.NotificationChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendEventLoggerTest {
+
+    @Test
+    void shouldMaskRecipientsByDefault() {
+        // Given
+        var logger = SendEventLogger.DEFAULT;
+
+        // When / Then
+        assertEquals("j***@example.com", logger.recipient("jane.doe@example.com").toString());
+        assertEquals("***4567", logger.recipient("+573001234567").toString());
+        assertEquals("***", logger.recipient("123").toString());
+    }
+
+    @Test
+    void shouldRedactBodyByDefaultAndTruncateWhenAllowed() {
+        // Given
+        var truncating = new SendEventLogger(SendEventLogConfig.builder()
+                .redactBody(false)
+                .maxFieldLength(5)
+                .build());
+
+        // When / Then
+        assertEquals("[11 chars]", SendEventLogger.DEFAULT.body("Hello world").toString());
+        assertEquals("Hello...", truncating.body("Hello world").toString());
+        assertEquals("Hi", truncating.body("Hi").toString());
+    }
+
+    @Test
+    void shouldSampleEachChannelWithItsOwnRate() {
+        // Given
+        var logger = new SendEventLogger(SendEventLogConfig.builder()
+                .sampleRate(0.0)
+                .channelSampleRates(Map.of(NotificationChannel.EMAIL, 1.0))
+                .build());
+
+        // When / Then
+        for (var i = 0; i < 100; i++) {
+            assertTrue(logger.isSampled(NotificationChannel.EMAIL));
+            assertFalse(logger.isSampled(NotificationChannel.SMS));
+        }
+    }
+
+    @Test
+    void shouldRejectSampleRatesOutsideZeroAndOne() {
+        // Given
+        var config = SendEventLogConfig.builder()
+                .channelSampleRates(Map.of(NotificationChannel.PUSH, 1.5))
+                .build();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new SendEventLogger(config));
+    }
+}
@@ -0,0 +1,71 @@
+package co.seekglobal.notification.infrastructure.metrics;
+
+import co.seekglobal.notification.application.outbound.NotificationMetrics.PipelineEvent;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryNotificationMetricsTest {
+
+    @Test
+    void shouldTagCountersByChannelAndProvider() {
+        // Given
+        var metrics = new InMemoryNotificationMetrics();
+
+        // When
+        metrics.recordSend(NotificationChannel.SMS);
+        metrics.recordOutcome(NotificationChannel.SMS, ErrorCode.RATE_LIMIT_EXCEEDED, 1);
+        metrics.recordProviderCall(NotificationChannel.SMS, "Twilio", 2_000_000, null);
+        metrics.recordProviderCall(NotificationChannel.SMS, "Vonage", 3_000_000, ErrorCode.RATE_LIMIT_EXCEEDED);
+        metrics.recordRateLimitWait(NotificationChannel.SMS, "Twilio", 500_000);
+        metrics.recordEvent(NotificationChannel.SMS, PipelineEvent.RATE_LIMITED);
+        metrics.recordOutcome(NotificationChannel.SMS, null, 20);
+
+        // Then
+        assertEquals(1, metrics.getSendCount(NotificationChannel.SMS));
+        assertEquals(0, metrics.getSendCount(NotificationChannel.EMAIL));
+        assertEquals(1, metrics.getSuccessCount(NotificationChannel.SMS));
+        assertEquals(1, metrics.getFailureCount(NotificationChannel.SMS, ErrorCode.RATE_LIMIT_EXCEEDED));
+        assertEquals(1, metrics.getFallbackDepthCount(NotificationChannel.SMS, 1));
+        assertEquals(1, metrics.getFallbackDepthCount(NotificationChannel.SMS, InMemoryNotificationMetrics.MAX_TRACKED_DEPTH));
+        assertEquals(Set.of("Twilio", "Vonage"), metrics.getProviders(NotificationChannel.SMS));
+        assertEquals(1, metrics.getProviderFailureCount(NotificationChannel.SMS, "Vonage", ErrorCode.RATE_LIMIT_EXCEEDED));
+        assertEquals(0, metrics.getProviderFailureCount(NotificationChannel.SMS, "Twilio", ErrorCode.RATE_LIMIT_EXCEEDED));
+        assertEquals(1, metrics.getRateLimitWait(NotificationChannel.SMS, "Twilio").count());
+        assertEquals(1, metrics.getEventCount(NotificationChannel.SMS, PipelineEvent.RATE_LIMITED));
+        assertNull(metrics.getProviderLatency(NotificationChannel.EMAIL, "Twilio"));
+    }
+
+    @Test
+    void shouldNotLoseUpdatesUnderConcurrentRecording() {
+        // Given
+        var metrics = new InMemoryNotificationMetrics();
+        var executor = Executors.newFixedThreadPool(4);
+
+        // When
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 4)
+                    .mapToObj(worker -> CompletableFuture.runAsync(() -> {
+                        for (var i = 0; i < 10_000; i++) {
+                            metrics.recordSend(NotificationChannel.PUSH);
+                            metrics.recordProviderCall(NotificationChannel.PUSH, "Firebase", i, null);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(40_000, metrics.getSendCount(NotificationChannel.PUSH));
+        assertEquals(40_000, metrics.getProviderLatency(NotificationChannel.PUSH, "Firebase").count());
+        assertEquals(9_999, metrics.getProviderLatency(NotificationChannel.PUSH, "Firebase").max());
+    }
+}
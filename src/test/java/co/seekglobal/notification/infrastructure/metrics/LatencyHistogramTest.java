@@ -0,0 +1,60 @@
+package co.seekglobal.notification.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        // Given
+        var histogram = new LatencyHistogram();
+
+        // When
+        for (var millis = 1; millis <= 1_000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        // Then
+        assertEquals(1_000, histogram.count());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1_000), histogram.max());
+        assertEquals(500.5, histogram.mean() / 1_000_000, 0.001);
+        assertEquals(500, histogram.valueAtPercentile(50, TimeUnit.MILLISECONDS), 500 * 0.04);
+        assertEquals(990, histogram.valueAtPercentile(99, TimeUnit.MILLISECONDS), 990 * 0.04);
+        assertEquals(1_000, histogram.valueAtPercentile(100, TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void shouldMapEveryValueToABucketThatContainsIt() {
+        // Given
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+        // When / Then
+        var previous = -1;
+        for (var value : values) {
+            var index = LatencyHistogram.indexOf(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value);
+            previous = index;
+        }
+    }
+
+    @Test
+    void shouldClampNegativeValuesAndReportZeroWhenEmpty() {
+        // Given
+        var histogram = new LatencyHistogram();
+
+        // When
+        var empty = histogram.valueAtPercentile(99);
+        histogram.record(-5);
+
+        // Then
+        assertEquals(0, empty);
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.valueAtPercentile(99));
+    }
+}
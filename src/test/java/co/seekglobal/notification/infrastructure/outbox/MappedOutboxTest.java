@@ -0,0 +1,173 @@
+package co.seekglobal.notification.infrastructure.outbox;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void pending_shouldRecoverAcceptedButNotCompletedNotificationsAfterReopen() {
+        // Given
+        var delivered = notification("a");
+        var lost = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .subject("Order shipped")
+                .templateId("order-shipped")
+                .templateVariables(Map.of("order", "A-1", "items", 3, "total", 19.9, "gift", true))
+                .metadata(Map.of("tenant", "cl"))
+                .priority(Priority.HIGH)
+                .scheduledAt(OffsetDateTime.of(2030, 1, 2, 3, 4, 5, 6_000, ZoneOffset.ofHours(-3)))
+                .ttlSeconds(600)
+                .from("noreply@seek.co")
+                .build();
+        try (var outbox = open(4096)) {
+            outbox.append(delivered);
+            outbox.append(lost);
+            outbox.complete(NotificationResult.success(delivered.getId(), "msg-1", NotificationChannel.SMS, "SMS_1"));
+        }
+
+        // When
+        try (var reopened = open(4096)) {
+            var pending = reopened.pending();
+
+            // Then
+            assertEquals(1, pending.size());
+            var recovered = pending.get(0);
+            assertEquals(lost.getId(), recovered.getId());
+            assertEquals(lost.getChannel(), recovered.getChannel());
+            assertEquals(lost.getTemplateVariables(), recovered.getTemplateVariables());
+            assertEquals(lost.getMetadata(), recovered.getMetadata());
+            assertEquals(Priority.HIGH, recovered.getPriority());
+            assertEquals(lost.getScheduledAt(), recovered.getScheduledAt());
+            assertEquals(lost.getCreatedAt(), recovered.getCreatedAt());
+            assertEquals(600, recovered.getTtlSeconds());
+            assertEquals("noreply@seek.co", recovered.getFrom());
+            assertNull(recovered.getBody());
+        }
+    }
+
+    @Test
+    void pending_shouldStopAtCorruptRecord() throws IOException {
+        // Given
+        try (var outbox = open(4096)) {
+            outbox.append(notification("first"));
+            outbox.append(notification("second"));
+        }
+        var segment = directory.resolve("outbox-0.log");
+        var secondRecordOffset = recordLength(segment, 0);
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), secondRecordOffset + 20);
+        }
+
+        // When
+        try (var reopened = open(4096)) {
+
+            // Then
+            assertEquals(1, reopened.getPendingCount());
+            assertEquals("first", reopened.pending().get(0).getBody());
+        }
+    }
+
+    @Test
+    void complete_shouldDeleteSegmentsOnceEveryOlderEntryIsAcknowledged() {
+        // Given
+        try (var outbox = open(512)) {
+            var first = notification("first");
+            outbox.append(first);
+            var later = new ArrayList<Notification>();
+            for (var i = 0; i < 20; i++) {
+                var notification = notification("later-" + i);
+                outbox.append(notification);
+                later.add(notification);
+            }
+            later.forEach(notification -> outbox.complete(result(notification)));
+            var segmentsWhileFirstPending = outbox.getSegmentCount();
+
+            // When
+            outbox.complete(result(first));
+
+            // Then
+            assertTrue(segmentsWhileFirstPending > 1);
+            assertEquals(1, outbox.getSegmentCount());
+            assertEquals(0, outbox.getPendingCount());
+        }
+        try (var reopened = open(512)) {
+            assertTrue(reopened.pending().isEmpty());
+        }
+    }
+
+    @Test
+    void complete_shouldIgnoreUnknownAndRepeatedResults() {
+        // Given
+        try (var outbox = open(4096)) {
+            var notification = notification("body");
+            outbox.append(notification);
+
+            // When
+            outbox.complete(result(notification));
+            outbox.complete(result(notification));
+            outbox.complete(NotificationResult.failure(null, NotificationChannel.SMS, null, ErrorCode.QUEUE_FULL, "full"));
+
+            // Then
+            assertEquals(0, outbox.getPendingCount());
+        }
+    }
+
+    @Test
+    void append_shouldRejectRecordsLargerThanASegment() {
+        try (var outbox = open(256)) {
+            var notification = Notification.builder().channel(NotificationChannel.SMS).body("x".repeat(300)).build();
+
+            assertThrows(IllegalArgumentException.class, () -> outbox.append(notification));
+            assertEquals(0, outbox.getPendingCount());
+        }
+    }
+
+    private MappedOutbox open(int segmentSize) {
+        return new MappedOutbox(MappedOutboxConfig.builder()
+                .directory(directory)
+                .segmentSize(segmentSize)
+                .syncInterval(Duration.ofMillis(1))
+                .build());
+    }
+
+    private static int recordLength(Path segment, int offset) throws IOException {
+        var bytes = Files.readAllBytes(segment);
+        return 2 * Integer.BYTES + ByteBuffer.wrap(bytes).getInt(offset);
+    }
+
+    private static Notification notification(String body) {
+        return Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body(body)
+                .build();
+    }
+
+    private static NotificationResult result(Notification notification) {
+        return NotificationResult.success(notification.getId(), "msg", NotificationChannel.SMS, "SMS_1");
+    }
+}
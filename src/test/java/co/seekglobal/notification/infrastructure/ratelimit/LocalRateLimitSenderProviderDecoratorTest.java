@@ -0,0 +1,114 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RateIntervalUnit;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LocalRateLimitSenderProviderDecoratorTest {
+
+    @Mock
+    private NotificationSenderProvider delegate;
+
+    private final Notification notification = Notification.builder()
+            .channel(NotificationChannel.PUSH)
+            .recipient("device-token")
+            .body("Hello")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getProviderName()).thenReturn("PUSH_PROVIDER_1");
+        when(delegate.getChannel()).thenReturn(NotificationChannel.PUSH);
+        when(delegate.send(any(Notification.class))).thenReturn(
+                NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.PUSH, "PUSH_PROVIDER_1"));
+    }
+
+    @Test
+    void send_shouldFailFastWhenWindowIsExhausted() {
+        // Given
+        var decorator = decorator(LocalRateLimitConfig.builder()
+                .maxRequestsPerWindow(1)
+                .rate(1)
+                .rateIntervalUnit(RateIntervalUnit.MINUTES)
+                .maxWait(Duration.ZERO)
+                .build());
+
+        // When
+        var first = decorator.send(notification);
+        var second = decorator.send(notification);
+
+        // Then
+        assertTrue(first.isSuccess());
+        assertFalse(second.isSuccess());
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, second.getErrorCode());
+        verify(delegate, times(1)).send(any());
+    }
+
+    @Test
+    void send_shouldBlockUntilNextWindowWhenNoMaxWait() {
+        // Given
+        var decorator = decorator(LocalRateLimitConfig.builder()
+                .maxRequestsPerWindow(1)
+                .rate(50)
+                .rateIntervalUnit(RateIntervalUnit.MILLISECONDS)
+                .build());
+
+        // When
+        var start = System.nanoTime();
+        decorator.send(notification);
+        var second = decorator.send(notification);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertTrue(second.isSuccess());
+        assertTrue(elapsed.toMillis() >= 20, "second send should wait for the next window");
+    }
+
+    @Test
+    void sendAsync_shouldDeferSendUntilPermitIsReserved() {
+        // Given
+        var decorator = decorator(LocalRateLimitConfig.builder()
+                .maxRequestsPerWindow(1)
+                .rate(50)
+                .rateIntervalUnit(RateIntervalUnit.MILLISECONDS)
+                .maxWait(Duration.ofSeconds(1))
+                .build());
+
+        // When
+        var first = decorator.sendAsync(notification).toCompletableFuture().join();
+        var second = decorator.sendAsync(notification).toCompletableFuture().join();
+
+        // Then
+        assertTrue(first.isSuccess());
+        assertTrue(second.isSuccess());
+        verify(delegate, times(2)).send(any());
+    }
+
+    private LocalRateLimitSenderProviderDecorator decorator(RateLimitConfig config) {
+        return LocalRateLimitSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(config)
+                .executor(Runnable::run)
+                .build();
+    }
+}
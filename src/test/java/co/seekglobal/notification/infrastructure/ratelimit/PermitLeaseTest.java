@@ -0,0 +1,79 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RRateLimiter;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PermitLeaseTest {
+
+    @Mock
+    private RRateLimiter rateLimiter;
+
+    @Test
+    void acquireAsync_shouldShareOneOutstandingLeaseRequestBetweenConcurrentMisses() {
+        // Given
+        var pending = new CompletableFuture<Boolean>();
+        when(rateLimiter.tryAcquireAsync(50L)).thenReturn(new CompletableFutureWrapper<>(pending));
+        var lease = new PermitLease(rateLimiter, 50, Duration.ofMinutes(1), Duration.ZERO);
+
+        // When
+        var first = lease.acquireAsync().toCompletableFuture();
+        var second = lease.acquireAsync().toCompletableFuture();
+        pending.complete(true);
+
+        // Then
+        assertTrue(first.join());
+        assertTrue(second.join());
+        verify(rateLimiter, times(1)).tryAcquireAsync(50L);
+        verify(rateLimiter, never()).tryAcquireAsync(1L);
+    }
+
+    @Test
+    void acquireAsync_shouldGiveTheSinglePermitOnlyWhatIsLeftOfMaxWait() {
+        // Given
+        when(rateLimiter.tryAcquireAsync(50L)).thenReturn(new CompletableFutureWrapper<>(false));
+        when(rateLimiter.tryAcquireAsync(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(new CompletableFutureWrapper<>(true));
+        var lease = new PermitLease(rateLimiter, 50, Duration.ofMinutes(1), Duration.ofMillis(200));
+
+        // When
+        var acquired = lease.acquire();
+
+        // Then
+        assertTrue(acquired);
+        verify(rateLimiter, never()).tryAcquireAsync(eq(50L), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(rateLimiter).tryAcquireAsync(eq(1L), longThat(wait -> wait <= 200), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void acquire_shouldHoldAtMostOneStandbyLease() {
+        // Given
+        when(rateLimiter.tryAcquireAsync(4L)).thenReturn(new CompletableFutureWrapper<>(true));
+        var lease = new PermitLease(rateLimiter, 4, Duration.ofMinutes(1), Duration.ZERO);
+
+        // When the first lease reaches its watermark, and keeps being drawn while a standby is already held
+        for (var i = 0; i < 6; i++) {
+            assertTrue(lease.acquire());
+        }
+
+        // Then 6 permits came from the first lease and the single standby
+        verify(rateLimiter, times(2)).tryAcquireAsync(4L);
+    }
+}
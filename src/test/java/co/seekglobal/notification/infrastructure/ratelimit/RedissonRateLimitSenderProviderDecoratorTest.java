@@ -0,0 +1,183 @@
+package co.seekglobal.notification.infrastructure.ratelimit;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedissonRateLimitSenderProviderDecoratorTest {
+
+    @Mock
+    private NotificationSenderProvider delegate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RRateLimiter rateLimiter;
+
+    private final Notification notification = Notification.builder()
+            .channel(NotificationChannel.SMS)
+            .recipient("+1234567890")
+            .body("OTP 1234")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getProviderName()).thenReturn("SMS_PROVIDER_1");
+        when(delegate.getChannel()).thenReturn(NotificationChannel.SMS);
+        when(redissonClient.getRateLimiter(anyString())).thenReturn(rateLimiter);
+        when(delegate.send(any(Notification.class))).thenReturn(
+                NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.SMS, "SMS_PROVIDER_1"));
+    }
+
+    @Test
+    void sendAsync_shouldFailFastWhenNoPermitAndZeroMaxWait() {
+        // Given
+        when(rateLimiter.tryAcquireAsync()).thenReturn(new CompletableFutureWrapper<>(false));
+        var decorator = decorator(Duration.ZERO);
+
+        // When
+        var result = decorator.sendAsync(notification).toCompletableFuture().join();
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, result.getErrorCode());
+        verify(delegate, never()).send(any());
+    }
+
+    @Test
+    void sendAsync_shouldWaitUpToMaxWaitAndDelegate() {
+        // Given
+        when(rateLimiter.tryAcquireAsync(1, 250, TimeUnit.MILLISECONDS)).thenReturn(new CompletableFutureWrapper<>(true));
+        var decorator = decorator(Duration.ofMillis(250));
+
+        // When
+        var result = decorator.sendAsync(notification).toCompletableFuture().join();
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals("msg-1", result.getProviderMessageId());
+    }
+
+    @Test
+    void send_shouldReturnRateLimitExceededWhenPermitNotAcquiredInTime() {
+        // Given
+        when(rateLimiter.tryAcquire(1, 100, TimeUnit.MILLISECONDS)).thenReturn(false);
+        var decorator = decorator(Duration.ofMillis(100));
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, result.getErrorCode());
+        verify(delegate, never()).send(any());
+    }
+
+    @Test
+    void send_shouldBlockOnAcquireWhenNoMaxWaitConfigured() {
+        // Given
+        var decorator = decorator(null);
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertTrue(result.isSuccess());
+        verify(rateLimiter).acquire();
+    }
+
+    @Test
+    void send_shouldServeMessagesFromLeasedPermits() {
+        // Given
+        when(rateLimiter.tryAcquireAsync(50L)).thenReturn(new CompletableFutureWrapper<>(true));
+        var decorator = RedissonRateLimitSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(DistributedRateLimitConfig.builder()
+                        .maxRequestsPerWindow(100)
+                        .maxWait(Duration.ZERO)
+                        .leaseSize(50)
+                        .maxLeaseHold(Duration.ofMinutes(1))
+                        .build())
+                .redissonClient(redissonClient)
+                .build();
+
+        // When
+        for (var i = 0; i < 100; i++) {
+            assertTrue(decorator.send(notification).isSuccess());
+        }
+
+        // Then
+        verify(rateLimiter, atMost(3)).tryAcquireAsync(50L);
+        verify(rateLimiter, never()).tryAcquireAsync(1L);
+        verify(rateLimiter, never()).tryAcquire(anyLong());
+    }
+
+    @Test
+    void send_shouldFallBackToSinglePermitWhenLeaseIsNotAvailable() {
+        // Given
+        when(rateLimiter.tryAcquireAsync(50L)).thenReturn(new CompletableFutureWrapper<>(false));
+        when(rateLimiter.tryAcquireAsync(1L)).thenReturn(new CompletableFutureWrapper<>(true));
+        var decorator = RedissonRateLimitSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(DistributedRateLimitConfig.builder()
+                        .maxRequestsPerWindow(100)
+                        .maxWait(Duration.ZERO)
+                        .leaseSize(50)
+                        .build())
+                .redissonClient(redissonClient)
+                .build();
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertTrue(result.isSuccess());
+        verify(rateLimiter).tryAcquireAsync(1L);
+    }
+
+    @Test
+    void factory_shouldRejectLeaseLargerThanWindow() {
+        var config = DistributedRateLimitConfig.builder().maxRequestsPerWindow(10).leaseSize(50).build();
+
+        assertThrows(IllegalArgumentException.class, () -> RedissonRateLimitSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(config)
+                .redissonClient(redissonClient)
+                .build());
+    }
+
+    private RedissonRateLimitSenderProviderDecorator decorator(Duration maxWait) {
+        return RedissonRateLimitSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(DistributedRateLimitConfig.builder().maxWait(maxWait).build())
+                .redissonClient(redissonClient)
+                .executor(Runnable::run)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package co.seekglobal.notification.infrastructure.retry;
+
+import co.seekglobal.notification.application.outbound.NotificationSenderProvider;
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RetryingSenderProviderDecoratorTest {
+
+    @Mock
+    private NotificationSenderProvider delegate;
+
+    private final Notification notification = Notification.builder()
+            .channel(NotificationChannel.SMS)
+            .recipient("+56912345678")
+            .body("Hello")
+            .build();
+
+    private final RetryConfig fastRetries = RetryConfig.builder()
+            .initialBackoff(Duration.ofMillis(1))
+            .maxBackoff(Duration.ofMillis(5))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getProviderName()).thenReturn("SMS_PROVIDER_1");
+        when(delegate.getChannel()).thenReturn(NotificationChannel.SMS);
+    }
+
+    @Test
+    void send_shouldRetryRetryableFailuresUntilSuccess() {
+        // Given
+        when(delegate.send(any(Notification.class)))
+                .thenReturn(failure(ErrorCode.UNKNOWN_ERROR))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.SMS, "SMS_PROVIDER_1"));
+        var decorator = RetryingSenderProviderDecorator.factory().delegate(delegate).config(fastRetries).build();
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertTrue(result.isSuccess());
+        verify(delegate, times(3)).send(notification);
+    }
+
+    @Test
+    void send_shouldNotRetryNonRetryableFailures() {
+        // Given
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.VALIDATION_ERROR));
+        var decorator = RetryingSenderProviderDecorator.factory().delegate(delegate).config(fastRetries).build();
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertEquals(ErrorCode.VALIDATION_ERROR, result.getErrorCode());
+        verify(delegate, times(1)).send(notification);
+    }
+
+    @Test
+    void send_shouldStopAfterMaxAttempts() {
+        // Given
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.UNKNOWN_ERROR));
+        var decorator = RetryingSenderProviderDecorator.factory().delegate(delegate).config(fastRetries).build();
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertEquals(ErrorCode.UNKNOWN_ERROR, result.getErrorCode());
+        verify(delegate, times(3)).send(notification);
+    }
+
+    @Test
+    void send_shouldNotRetryRateLimitedFailuresByDefault() {
+        // Given
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.RATE_LIMIT_EXCEEDED));
+        var decorator = RetryingSenderProviderDecorator.factory().delegate(delegate).config(fastRetries).build();
+
+        // When
+        var result = decorator.send(notification);
+
+        // Then
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, result.getErrorCode());
+        verify(delegate, times(1)).send(notification);
+    }
+
+    @Test
+    void send_shouldStopRetryingWhenBudgetIsExhausted() {
+        // Given
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.UNKNOWN_ERROR));
+        var decorator = RetryingSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(fastRetries)
+                .budget(new RetryBudget(0.0, 1))
+                .build();
+
+        // When
+        decorator.send(notification);
+        decorator.send(notification);
+
+        // Then
+        verify(delegate, times(3)).send(notification);
+    }
+
+    @Test
+    void send_shouldReturnExpiredInsteadOfRetryingPastTtl() {
+        // Given
+        var clock = Clock.fixed(Instant.parse("2024-01-01T10:01:00Z"), ZoneOffset.UTC);
+        var stale = Notification.builder()
+                .channel(NotificationChannel.SMS)
+                .recipient("+56912345678")
+                .body("Hello")
+                .createdAt(OffsetDateTime.parse("2024-01-01T10:00:00Z"))
+                .ttlSeconds(30)
+                .build();
+        when(delegate.send(any(Notification.class))).thenReturn(failure(ErrorCode.UNKNOWN_ERROR));
+        var decorator = RetryingSenderProviderDecorator.factory().delegate(delegate).config(fastRetries).clock(clock).build();
+
+        // When
+        var result = decorator.send(stale);
+
+        // Then
+        assertEquals(ErrorCode.EXPIRED, result.getErrorCode());
+        verify(delegate, times(1)).send(stale);
+    }
+
+    @Test
+    void sendAsync_shouldScheduleRetriesWithoutBlockingCaller() throws Exception {
+        // Given
+        when(delegate.send(any(Notification.class)))
+                .thenReturn(failure(ErrorCode.UNKNOWN_ERROR))
+                .thenReturn(NotificationResult.success(notification.getId(), "msg-1", NotificationChannel.SMS, "SMS_PROVIDER_1"));
+        var decorator = RetryingSenderProviderDecorator.factory()
+                .delegate(delegate)
+                .config(RetryConfig.builder().initialBackoff(Duration.ofMillis(50)).jitter(0).build())
+                .build();
+
+        // When
+        var start = System.nanoTime();
+        var future = decorator.sendAsync(notification).toCompletableFuture();
+        var returnedAfter = Duration.ofNanos(System.nanoTime() - start);
+        var result = future.get(5, TimeUnit.SECONDS);
+        var completedAfter = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertTrue(returnedAfter.toMillis() < 50, "caller blocked for " + returnedAfter);
+        assertTrue(completedAfter.toMillis() >= 50, "retry fired after " + completedAfter);
+    }
+
+    private NotificationResult failure(ErrorCode errorCode) {
+        return NotificationResult.failure(notification.getId(), NotificationChannel.SMS, "SMS_PROVIDER_1", errorCode, "failed");
+    }
+}
@@ -0,0 +1,130 @@
+package co.seekglobal.notification.infrastructure.serialization;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationCodecTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 3, 4, 5, 6, 7, 123_456_789, ZoneOffset.ofHours(-3));
+
+    @Test
+    void decodeNotification_shouldRoundTripEveryField() {
+        // Given
+        var variables = new LinkedHashMap<String, Object>();
+        variables.put("name", "José 😀");
+        variables.put("items", 3);
+        variables.put("total", -19.5);
+        variables.put("orderId", 9_000_000_000L);
+        variables.put("gift", true);
+        variables.put("note", null);
+        variables.put("deliverBy", CREATED_AT.plusDays(2));
+        var notification = Notification.builder()
+                .channel(NotificationChannel.EMAIL)
+                .recipient("jane.doe@example.com")
+                .subject("Tu pedido está en camino")
+                .body("Hola {{name}}, ࠀ \uD800 unpaired")
+                .templateId("order-shipped")
+                .templateVariables(variables)
+                .metadata(Map.of("tenant", "cl"))
+                .priority(Priority.CRITICAL)
+                .createdAt(CREATED_AT)
+                .scheduledAt(CREATED_AT.plusHours(1))
+                .ttlSeconds(3600)
+                .from("noreply@seek.co")
+                .replyTo("support@seek.co")
+                .idempotencyKey("order-1-shipped")
+                .build();
+
+        // When
+        var bytes = NotificationCodec.encode(notification);
+        var decoded = NotificationCodec.decodeNotification(ByteBuffer.wrap(bytes));
+
+        // Then
+        assertEquals(NotificationCodec.encodedSize(notification), bytes.length);
+        assertEquals(notification.getId(), decoded.getId());
+        assertEquals(NotificationChannel.EMAIL, decoded.getChannel());
+        assertEquals(notification.getRecipient(), decoded.getRecipient());
+        assertEquals(notification.getSubject(), decoded.getSubject());
+        assertEquals("Hola {{name}}, ࠀ ? unpaired", decoded.getBody());
+        assertEquals(notification.getTemplateId(), decoded.getTemplateId());
+        assertEquals(variables, decoded.getTemplateVariables());
+        assertEquals(notification.getMetadata(), decoded.getMetadata());
+        assertEquals(Priority.CRITICAL, decoded.getPriority());
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+        assertEquals(CREATED_AT.plusHours(1), decoded.getScheduledAt());
+        assertEquals(3600, decoded.getTtlSeconds());
+        assertEquals(notification.getFrom(), decoded.getFrom());
+        assertEquals(notification.getReplyTo(), decoded.getReplyTo());
+        assertEquals("order-1-shipped", decoded.getIdempotencyKey());
+    }
+
+    @Test
+    void decodeNotification_shouldKeepAbsentFieldsNull() {
+        // Given
+        var notification = Notification.builder()
+                .id(null)
+                .channel(NotificationChannel.SMS)
+                .priority(null)
+                .build();
+
+        // When
+        var decoded = NotificationCodec.decodeNotification(ByteBuffer.wrap(NotificationCodec.encode(notification)));
+
+        // Then
+        assertNull(decoded.getId());
+        assertNull(decoded.getRecipient());
+        assertNull(decoded.getTemplateVariables());
+        assertNull(decoded.getPriority());
+        assertNull(decoded.getTtlSeconds());
+        assertEquals(NotificationChannel.SMS, decoded.getChannel());
+    }
+
+    @Test
+    void decodeResult_shouldReadConsecutiveMessagesFromADirectBuffer() {
+        // Given
+        var success = NotificationResult.success("n-1", "msg-1", NotificationChannel.PUSH, "PUSH_1");
+        var failure = NotificationResult.failure("n-2", NotificationChannel.SMS, "SMS_1", ErrorCode.CIRCUIT_OPEN, "open");
+        var scheduled = NotificationResult.scheduled("n-3", NotificationChannel.EMAIL, CREATED_AT);
+        var buffer = ByteBuffer.allocateDirect(NotificationCodec.encodedSize(success)
+                + NotificationCodec.encodedSize(failure) + NotificationCodec.encodedSize(scheduled));
+        NotificationCodec.encode(success, buffer);
+        NotificationCodec.encode(failure, buffer);
+        NotificationCodec.encode(scheduled, buffer);
+        buffer.flip();
+
+        // When
+        var first = NotificationCodec.decodeResult(buffer);
+        var second = NotificationCodec.decodeResult(buffer);
+        var third = NotificationCodec.decodeResult(buffer);
+
+        // Then
+        assertFalse(buffer.hasRemaining());
+        assertTrue(first.isSuccess());
+        assertEquals("msg-1", first.getProviderMessageId());
+        assertEquals(success.getProcessedAt(), first.getProcessedAt());
+        assertFalse(second.isSuccess());
+        assertEquals(ErrorCode.CIRCUIT_OPEN, second.getErrorCode());
+        assertEquals("open", second.getErrorMessage());
+        assertEquals(scheduled.getProviderResponse(), third.getProviderResponse());
+    }
+
+    @Test
+    void decodeNotification_shouldRejectUnknownVersion() {
+        var bytes = NotificationCodec.encode(Notification.builder().channel(NotificationChannel.SMS).build());
+        bytes[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> NotificationCodec.decodeNotification(ByteBuffer.wrap(bytes)));
+    }
+}
@@ -0,0 +1,87 @@
+package co.seekglobal.notification.infrastructure.serialization;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.Notification;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationJacksonModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new NotificationJacksonModule());
+
+    @Test
+    void readValue_shouldRoundTripNotification() throws Exception {
+        // Given
+        var notification = Notification.builder()
+                .channel(NotificationChannel.PUSH)
+                .recipient("device-token")
+                .body("Tu pedido llegó")
+                .templateVariables(Map.of("items", 3, "gift", true))
+                .priority(Priority.HIGH)
+                .createdAt(OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.ofHours(-4)))
+                .ttlSeconds(120)
+                .build();
+
+        // When
+        var json = mapper.writeValueAsString(notification);
+        var decoded = mapper.readValue(json, Notification.class);
+
+        // Then
+        assertFalse(json.contains("subject"));
+        assertTrue(json.contains("\"createdAt\":\"2025-01-02T03:04:05.006-04:00\""));
+        assertEquals(notification.getId(), decoded.getId());
+        assertEquals(NotificationChannel.PUSH, decoded.getChannel());
+        assertEquals(notification.getBody(), decoded.getBody());
+        assertEquals(notification.getTemplateVariables(), decoded.getTemplateVariables());
+        assertEquals(Priority.HIGH, decoded.getPriority());
+        assertEquals(notification.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(120, decoded.getTtlSeconds());
+        assertNull(decoded.getSubject());
+    }
+
+    @Test
+    void readValue_shouldRoundTripResultAndSkipUnknownFields() throws Exception {
+        // Given
+        var scheduledAt = OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        var result = NotificationResult.builder()
+                .success(false)
+                .notificationId("n-1")
+                .channel(NotificationChannel.SMS)
+                .errorCode(ErrorCode.RATE_LIMIT_EXCEEDED)
+                .errorMessage("slow down")
+                .providerResponse(Map.of("scheduledAt", scheduledAt))
+                .build();
+        var json = mapper.writeValueAsString(result).replaceFirst("\\{", "{\"extra\":{\"nested\":[1,2]},");
+
+        // When
+        var decoded = mapper.readValue(json, NotificationResult.class);
+
+        // Then
+        assertFalse(decoded.isSuccess());
+        assertEquals("n-1", decoded.getNotificationId());
+        assertEquals(ErrorCode.RATE_LIMIT_EXCEEDED, decoded.getErrorCode());
+        assertEquals(result.getProcessedAt(), decoded.getProcessedAt());
+        assertEquals(Map.of("scheduledAt", scheduledAt.toString()), decoded.getProviderResponse());
+    }
+
+    @Test
+    void readValue_shouldAcceptAnyIsoOffsetTimestamp() throws Exception {
+        for (var timestamp : new String[]{"2025-01-02T03:04:05Z", "2025-01-02T03:04:05.1+05:30",
+                "2025-01-02T03:04:05.123456789-03:00", "2025-01-02T03:04Z", "+12025-01-02T03:04:05Z"}) {
+            var decoded = mapper.readValue("{\"createdAt\":\"" + timestamp + "\"}", Notification.class);
+
+            assertEquals(OffsetDateTime.parse(timestamp), decoded.getCreatedAt(), timestamp);
+            assertEquals(decoded.getCreatedAt(),
+                    mapper.readValue(mapper.writeValueAsString(decoded), Notification.class).getCreatedAt(), timestamp);
+        }
+    }
+}
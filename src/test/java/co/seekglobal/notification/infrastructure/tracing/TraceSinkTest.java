@@ -0,0 +1,72 @@
+package co.seekglobal.notification.infrastructure.tracing;
+
+import co.seekglobal.notification.domain.ErrorCode;
+import co.seekglobal.notification.domain.NotificationChannel;
+import co.seekglobal.notification.domain.NotificationResult;
+import co.seekglobal.notification.domain.SendTrace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ringBuffer_shouldKeepTheLatestTracesOldestFirst() {
+        // Given
+        var sink = new RingBufferTraceSink(2);
+
+        // When
+        sink.export(trace("n-1"));
+        sink.export(trace("n-2"));
+        sink.export(trace("n-3"));
+
+        // Then
+        assertEquals(3, sink.getExportedCount());
+        assertEquals(2, sink.snapshot().size());
+        assertEquals("n-2", sink.snapshot().get(0).getNotificationId());
+        assertTrue(sink.find("n-3").isPresent());
+        assertTrue(sink.find("n-1").isEmpty());
+    }
+
+    @Test
+    void jsonLines_shouldWriteOneObjectPerTrace() throws IOException {
+        // Given
+        var file = directory.resolve("traces/sends.jsonl");
+        var sink = JsonLinesTraceSink.factory().path(file).build();
+
+        // When
+        sink.export(trace("n-1"));
+        sink.export(trace("n-2"));
+        sink.close();
+
+        // Then
+        var lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        var first = new ObjectMapper().readTree(lines.get(0));
+        assertEquals("n-1", first.get("notificationId").asText());
+        assertEquals("SMS", first.get("channel").asText());
+        assertFalse(first.get("success").asBoolean());
+        assertEquals("RATE_LIMIT_EXCEEDED", first.get("errorCode").asText());
+        assertEquals("RATE_LIMIT", first.get("spans").get(0).get("phase").asText());
+        assertEquals(1_500_000, first.get("spans").get(0).get("durationNanos").asLong());
+        assertEquals(0, sink.getDroppedCount());
+    }
+
+    private static SendTrace trace(String notificationId) {
+        var start = System.nanoTime();
+        var trace = new SendTrace(notificationId, NotificationChannel.SMS, 1_700_000_000_000L, start);
+        trace.record(SendTrace.Phase.RATE_LIMIT, "Twilio", start, 1_500_000, ErrorCode.RATE_LIMIT_EXCEEDED);
+        trace.finish(NotificationResult.failure(notificationId, NotificationChannel.SMS, "Twilio",
+                ErrorCode.RATE_LIMIT_EXCEEDED, "limited"));
+        return trace;
+    }
+}